@@ -0,0 +1,80 @@
+package com.example.jwttutorial.authz;
+
+import com.example.jwttutorial.controller.MemberController;
+import com.example.jwttutorial.entity.Role;
+import com.example.jwttutorial.jwt.JwtPrincipal;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.expression.Expression;
+import org.springframework.security.access.expression.ExpressionUtils;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 메소드의 Role 확인 비용: @PreAuthorize SpEL 평가 vs @RequireRoles 비트마스크
+ *
+ * spel: PreInvocationAuthorizationAdviceVoter 와 같이 호출마다 평가 컨텍스트를 만들고 미리 파싱해 둔 식을 평가
+ *       (MethodSecurityInterceptor 의 AOP 프록시 호출과 AccessDecisionManager 비용은 포함하지 않음)
+ * requireRoles: 미리 계산한 비트마스크와 JwtPrincipal 의 roleMask 를 비교
+ *
+ * rule
+ * memberOrAdmin: hasAnyRole('MEMBER', 'ADMIN') / @RequireRoles({ROLE_MEMBER, ROLE_ADMIN})
+ * admin: hasAnyRole('ADMIN') / @RequireRoles(ROLE_ADMIN)
+ * authorities: 요청한 토큰의 권한, 거부되는 경우도 포함
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoleAuthorizationBenchmark {
+
+    @Param({"memberOrAdmin", "admin"})
+    private String rule;
+
+    @Param({"ROLE_MEMBER", "ROLE_MEMBER,ROLE_ADMIN"})
+    private String authorities;
+
+    private DefaultMethodSecurityExpressionHandler expressionHandler;
+    private Expression expression;
+    private MethodInvocation methodInvocation;
+    private int requiredMask;
+    private Authentication authentication;
+
+    @Setup
+    public void setUp() throws Exception {
+        expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        if ("admin".equals(rule)) {
+            expression = expressionHandler.getExpressionParser().parseExpression("hasAnyRole('ADMIN')");
+            requiredMask = 1 << Role.ROLE_ADMIN.ordinal();
+        } else {
+            expression = expressionHandler.getExpressionParser().parseExpression("hasAnyRole('MEMBER', 'ADMIN')");
+            requiredMask = (1 << Role.ROLE_MEMBER.ordinal()) | (1 << Role.ROLE_ADMIN.ordinal());
+        }
+        methodInvocation = new SimpleMethodInvocation(null, MemberController.class.getMethod("getMyMemberInfo"));
+
+        List<GrantedAuthority> grantedAuthorities =
+                AuthorityUtils.commaSeparatedStringToAuthorityList(authorities);
+        JwtPrincipal principal = new JwtPrincipal("admin", 1L, "admin", grantedAuthorities);
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, grantedAuthorities);
+    }
+
+    @Benchmark
+    public boolean spel() {
+        return ExpressionUtils.evaluateAsBoolean(expression,
+                expressionHandler.createEvaluationContext(authentication, methodInvocation));
+    }
+
+    @Benchmark
+    public boolean requireRoles() {
+        return (RoleRules.grantedMask(authentication) & requiredMask) != 0;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.jwttutorial.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 권한 클레임 인코딩 방식별 토큰 크기와 해석 비용
+ *
+ * compact
+ * false: auth 클레임에 "ROLE_MEMBER,ROLE_ADMIN" 문자열 기록 (기존 방식)
+ * true: a1 클레임에 Role 비트마스크 기록
+ *
+ * resolveAuthorities: 파싱이 끝난 클레임에서 권한 리스트만 만드는 비용
+ * getAuthentication: 서명 검증 + 파싱 + Authentication 생성 전체 비용
+ * tokenBytes: 토큰 문자열 길이 (AuxCounters 로 결과에 함께 출력)
+ *
+ * 연산당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 값으로 비교 (build.gradle 의 jmh.profilers)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorityClaimsBenchmark {
+
+    @Param({"false", "true"})
+    private boolean compact;
+
+    private TokenProvider tokenProvider;
+    private AuthorityCodec authorityCodec;
+    private String token;
+    private Claims claims;
+
+    @Setup
+    public void setUp() throws Exception {
+        tokenProvider = TokenProviderFixtures.tokenProvider(SignatureAlgorithm.HS512, false, compact);
+        authorityCodec = new AuthorityCodec(compact);
+        Authentication authentication = TokenProviderFixtures.authentication("admin", "ROLE_MEMBER", "ROLE_ADMIN");
+        token = tokenProvider.createToken(authentication);
+        claims = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(TokenProviderFixtures.SECRET)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> resolveAuthorities() {
+        return authorityCodec.read(claims);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication(TokenSize tokenSize) {
+        tokenSize.tokenBytes = token.length();
+        return tokenProvider.getAuthentication(token);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class TokenSize {
+
+        public long tokenBytes;
+    }
+}
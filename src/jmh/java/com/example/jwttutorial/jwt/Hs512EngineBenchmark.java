@@ -0,0 +1,94 @@
+package com.example.jwttutorial.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HS512 토큰 서명/검증의 처리량과 연산당 할당량(gc.alloc.rate.norm) 비교
+ *
+ * jjwtSign / jjwtVerify: 기존 경로, 토큰마다 Mac 을 새로 얻고 헤더와 본문을 Map 으로 직렬화/역직렬화
+ * engineSign / engineVerify: Hs512TokenEngine, 스레드별 Mac 과 버퍼를 재사용하고 본문은 스트리밍 파서로 읽음
+ *
+ * 같은 클레임(jti, sub, 권한, mid, nick, exp)으로 만든 토큰이며 두 경로의 결과 토큰은 같음
+ * 실행: ./gradlew jmh -PjmhIncludes=Hs512EngineBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Hs512EngineBenchmark {
+
+    private static final String TOKEN_ID = "5b0c8e4e-3c61-4f4f-9d43-6a0f4f1f7c2a";
+
+    // true 이면 권한을 비트마스크(a1)로, false 이면 문자열(auth)로 기록
+    @Param({"false", "true"})
+    private boolean compactClaims;
+
+    private SigningKey signingKey;
+    private JwtParser jwtParser;
+    private Hs512TokenEngine engine;
+    private Hs512Claims claims;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtKeyRegistry keyRegistry = TokenProviderFixtures.keyRegistry(SignatureAlgorithm.HS512);
+        signingKey = keyRegistry.getActiveKey();
+        jwtParser = Jwts.parserBuilder().setSigningKeyResolver(keyRegistry).build();
+        engine = new Hs512TokenEngine(keyRegistry);
+
+        long expirationSeconds = System.currentTimeMillis() / 1000 + TokenProviderFixtures.TOKEN_VALIDITY_IN_SECONDS;
+        claims = compactClaims
+                ? new Hs512Claims(TOKEN_ID, "admin", 0b11, null, 1L, "관리자", 0, expirationSeconds)
+                : new Hs512Claims(TOKEN_ID, "admin", null, "ROLE_MEMBER,ROLE_ADMIN", 1L, "관리자", 0, expirationSeconds);
+        token = engine.sign(signingKey, claims);
+        if (!token.equals(jjwtSign())) {
+            throw new IllegalStateException("JJWT 와 Hs512TokenEngine 의 토큰이 다릅니다.");
+        }
+    }
+
+    @Benchmark
+    public String jjwtSign() {
+        JwtBuilder builder = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getId())
+                .setId(claims.getTokenId())
+                .setSubject(claims.getSubject());
+        if (claims.getRoleMask() != null) {
+            builder.claim(AuthorityCodec.ROLE_MASK_KEY, claims.getRoleMask());
+        }
+        if (claims.getAuthorities() != null) {
+            builder.claim(AuthorityCodec.AUTHORITIES_KEY, claims.getAuthorities());
+        }
+        return builder
+                .claim(TokenProvider.MEMBER_ID_KEY, claims.getMemberId())
+                .claim(TokenProvider.NICKNAME_KEY, claims.getNickname())
+                .signWith(signingKey.getSigningKey(), SignatureAlgorithm.HS512)
+                .setExpiration(new Date(claims.getExpirationSeconds() * 1000))
+                .compact();
+    }
+
+    @Benchmark
+    public String engineSign() {
+        return engine.sign(signingKey, claims);
+    }
+
+    @Benchmark
+    public Claims jjwtVerify() {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Hs512Claims engineVerify() {
+        return engine.verify(token, System.currentTimeMillis());
+    }
+}
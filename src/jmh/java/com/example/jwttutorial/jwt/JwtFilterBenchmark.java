@@ -0,0 +1,82 @@
+package com.example.jwttutorial.jwt;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter.doFilter 1회 비용 (mock 서블릿 객체 사용)
+ *
+ * header
+ * valid: 유효한 Bearer 토큰, 서명 검증 후 SecurityContext 에 인증 정보 저장
+ * missing: Authorization 헤더 없음 (permitAll 경로의 일반적인 요청)
+ * malformed: 형식이 잘못된 토큰, 서명 검증 전 사전 검사(TokenPrecheck)에서 거부
+ * badSignature: 형식은 맞지만 서명이 틀린 토큰, JJWT 서명 검증 단계에서 거부
+ * permitAll: 유효한 Bearer 토큰으로 permitAll 경로(/api/hello) 요청, 토큰 검증을 건너뜀
+ *
+ * cache: VerifiedTokenCache 사용 여부
+ * 요청/응답 객체는 한 번만 만들어 재사용하고, 호출 후 SecurityContext 를 비움
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"valid", "missing", "malformed", "badSignature", "permitAll"})
+    private String header;
+
+    @Param({"false", "true"})
+    private boolean cache;
+
+    private JwtFilter jwtFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() throws Exception {
+        TokenProvider tokenProvider = TokenProviderFixtures.tokenProvider(cache);
+        jwtFilter = new JwtFilter(tokenProvider, TokenProviderFixtures.jwtMetrics(new VerifiedTokenCache(false, 0)),
+                TokenProviderFixtures.auditLog(), Set.of("/api/hello"));
+
+        String path = "permitAll".equals(header) ? "/api/hello" : "/api/member";
+        request = new MockHttpServletRequest("GET", path);
+        // DispatcherServlet 이 "/" 에 매핑된 경우와 같이 servletPath 에 전체 경로가 들어감
+        request.setServletPath(path);
+        response = new MockHttpServletResponse();
+        if ("valid".equals(header) || "permitAll".equals(header)) {
+            String token = tokenProvider.createToken(
+                    TokenProviderFixtures.authentication("admin", "ROLE_MEMBER", "ROLE_ADMIN"));
+            request.addHeader(JwtFilter.AUTHORIZATION_HEADER, "Bearer " + token);
+        } else if ("badSignature".equals(header)) {
+            String token = tokenProvider.createToken(
+                    TokenProviderFixtures.authentication("admin", "ROLE_MEMBER", "ROLE_ADMIN"));
+            // 서명 첫 글자를 바꿔 형식은 유지하고 서명만 틀리게 함
+            int signatureStart = token.lastIndexOf('.') + 1;
+            char replaced = token.charAt(signatureStart) == 'A' ? 'B' : 'A';
+            request.addHeader(JwtFilter.AUTHORIZATION_HEADER, "Bearer "
+                    + token.substring(0, signatureStart) + replaced + token.substring(signatureStart + 1));
+        } else if ("malformed".equals(header)) {
+            request.addHeader(JwtFilter.AUTHORIZATION_HEADER, "Bearer not.a.jwt");
+        }
+    }
+
+    @Benchmark
+    public Authentication doFilter() throws Exception {
+        jwtFilter.doFilter(request, response, NOOP_CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.jwttutorial.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 와 참조 토큰(jwt.reference-token.enabled=true)의 발급/검증 비용 비교
+ *
+ * createJwt / createReferenceToken: TokenProvider.createToken
+ * 참조 토큰 발급은 난수 생성과 메모리 맵 저장만 포함 (reference_token 테이블 insert 는 빈 저장소로 대체)
+ *
+ * verifyJwt: 서명 검증과 클레임 파싱 (VerifiedTokenCache 사용 안 함)
+ * verifyCachedJwt: VerifiedTokenCache 적중 (SHA-256 다이제스트 + 캐시 조회)
+ * verifyReferenceToken: 메모리 맵 조회 한 번
+ *
+ * 토큰 길이는 setUp 에서 출력 (권한 2개, 회원 ID/닉네임 클레임 없음)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReferenceTokenBenchmark {
+
+    private TokenProvider jwtProvider;
+    private TokenProvider cachingJwtProvider;
+    private TokenProvider referenceTokenProvider;
+    private Authentication authentication;
+    private String jwt;
+    private String referenceToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtProvider = TokenProviderFixtures.tokenProvider();
+        cachingJwtProvider = TokenProviderFixtures.tokenProvider(true);
+        referenceTokenProvider = TokenProviderFixtures.tokenProvider(SignatureAlgorithm.HS512, false, false, true);
+        authentication = TokenProviderFixtures.authentication("admin", "ROLE_MEMBER", "ROLE_ADMIN");
+
+        jwt = jwtProvider.createToken(authentication);
+        referenceToken = referenceTokenProvider.createToken(authentication);
+        System.out.printf("%nJWT: %d자, 참조 토큰: %d자%n", jwt.length(), referenceToken.length());
+    }
+
+    @Benchmark
+    public String createJwt() {
+        return jwtProvider.createToken(authentication);
+    }
+
+    @Benchmark
+    public String createReferenceToken() {
+        return referenceTokenProvider.createToken(authentication);
+    }
+
+    @Benchmark
+    public TokenVerification verifyJwt() {
+        return jwtProvider.verify(jwt);
+    }
+
+    @Benchmark
+    public TokenVerification verifyCachedJwt() {
+        return cachingJwtProvider.verify(jwt);
+    }
+
+    @Benchmark
+    public TokenVerification verifyReferenceToken() {
+        return referenceTokenProvider.verify(referenceToken);
+    }
+}
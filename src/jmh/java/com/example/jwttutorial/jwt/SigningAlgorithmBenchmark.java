@@ -0,0 +1,45 @@
+package com.example.jwttutorial.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 알고리즘별 토큰 발급(sign)과 검증(verify) 비용 비교
+ * HS512 는 기존 jwt.secret 경로, RS256/ES256 은 kid 로 공개 키를 찾아 검증하는 경로
+ * 검증 결과 캐시는 끄고 매번 서명을 검증하도록 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SigningAlgorithmBenchmark {
+
+    @Param({"HS512", "RS256", "ES256"})
+    private String algorithm;
+
+    private TokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        tokenProvider = TokenProviderFixtures.tokenProvider(SignatureAlgorithm.forName(algorithm), false);
+        authentication = TokenProviderFixtures.authentication("admin", "ROLE_MEMBER", "ROLE_ADMIN");
+        token = tokenProvider.createToken(authentication);
+    }
+
+    @Benchmark
+    public String sign() {
+        return tokenProvider.createToken(authentication);
+    }
+
+    @Benchmark
+    public TokenVerification verify() {
+        return tokenProvider.verify(token);
+    }
+}
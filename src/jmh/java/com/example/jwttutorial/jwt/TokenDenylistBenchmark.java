@@ -0,0 +1,48 @@
+package com.example.jwttutorial.jwt;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 수행되는 폐기 여부 확인 비용
+ * notRevoked: 폐기되지 않은 토큰 (대부분의 요청, 블룸 필터 단계에서 끝남)
+ * revoked: 폐기된 토큰 (블룸 필터 통과 후 정확한 집합 조회)
+ *
+ * 객체 할당이 없는지 확인하려면 -prof gc 로 실행 (gc.alloc.rate.norm 이 0 에 가까워야 함)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenDenylistBenchmark {
+
+    private TokenDenylist tokenDenylist;
+    private String revokedTokenId;
+    private String activeTokenId;
+
+    @Setup
+    public void setUp() {
+        tokenDenylist = TokenProviderFixtures.tokenDenylist();
+        long expiresAt = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+        for (int i = 0; i < 10_000; i++) {
+            tokenDenylist.revoke(UUID.randomUUID().toString(), expiresAt);
+        }
+        revokedTokenId = UUID.randomUUID().toString();
+        tokenDenylist.revoke(revokedTokenId, expiresAt);
+        activeTokenId = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public boolean notRevoked() {
+        return tokenDenylist.isRevoked(activeTokenId);
+    }
+
+    @Benchmark
+    public boolean revoked() {
+        return tokenDenylist.isRevoked(revokedTokenId);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.jwttutorial.jwt;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 크기에 따른 TokenProvider 발급/해석 비용
+ *
+ * authorityCount: 토큰에 담기는 권한 수
+ * authorityNameLength: 권한 이름 길이, auth 클레임 크기는 대략 authorityCount * authorityNameLength
+ *
+ * createToken: 서명 포함 토큰 발급
+ * getAuthentication: 서명 검증 + 클레임 파싱 + Authentication 생성 (검증 결과 캐시를 거치지 않음)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenProviderBenchmark {
+
+    @Param({"1", "4", "16"})
+    private int authorityCount;
+
+    @Param({"12", "64"})
+    private int authorityNameLength;
+
+    private TokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        tokenProvider = TokenProviderFixtures.tokenProvider();
+        authentication = TokenProviderFixtures.authentication("admin",
+                TokenProviderFixtures.authorityNames(authorityCount, authorityNameLength));
+        token = tokenProvider.createToken(authentication);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return tokenProvider.createToken(authentication);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+}
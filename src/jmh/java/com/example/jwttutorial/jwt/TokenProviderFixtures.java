@@ -0,0 +1,156 @@
+package com.example.jwttutorial.jwt;
+
+import com.example.jwttutorial.audit.AuditLog;
+import com.example.jwttutorial.audit.AuditProperties;
+import com.example.jwttutorial.repository.ReferenceTokenRepository;
+import com.example.jwttutorial.sharedstate.InMemorySharedStateStore;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 벤치마크에서 사용하는 TokenProvider 와 인증 정보 생성 도우미
+ * application.yml 과 같은 secret / 만료 시간을 사용
+ */
+final class TokenProviderFixtures {
+
+    static final String SECRET =
+            "c2lsdmVybmluZS10ZWNoLXNwcmluZy1ib290LWp3dC10dXRvcmlhbC1zZWNyZXQtc2lsdmVybmluZS10ZWNoLXNwcmluZy1ib290LWp3dC10dXRvcmlhbC1zZWNyZXQK";
+    static final long TOKEN_VALIDITY_IN_SECONDS = 86400;
+
+    private TokenProviderFixtures() {
+    }
+
+    static TokenProvider tokenProvider() throws Exception {
+        return tokenProvider(false);
+    }
+
+    static TokenProvider tokenProvider(boolean cacheEnabled) throws Exception {
+        return tokenProvider(SignatureAlgorithm.HS512, cacheEnabled);
+    }
+
+    // HS512 는 jwt.secret 기본 키, 그 외 알고리즘은 임시 키 쌍을 생성하여 활성 키로 사용
+    static TokenProvider tokenProvider(SignatureAlgorithm algorithm, boolean cacheEnabled) throws Exception {
+        return tokenProvider(algorithm, cacheEnabled, false);
+    }
+
+    // compactClaims 가 true 이면 권한을 비트마스크 클레임(a1)으로 기록
+    static TokenProvider tokenProvider(SignatureAlgorithm algorithm, boolean cacheEnabled, boolean compactClaims)
+            throws Exception {
+        return tokenProvider(algorithm, cacheEnabled, compactClaims, false);
+    }
+
+    // referenceTokens 가 true 이면 JWT 대신 참조 토큰 발급 (저장소는 DB 없이 동작)
+    static TokenProvider tokenProvider(SignatureAlgorithm algorithm, boolean cacheEnabled, boolean compactClaims,
+                                       boolean referenceTokens) throws Exception {
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(cacheEnabled, 10_000);
+        JwtKeyRegistry keyRegistry = keyRegistry(algorithm);
+        AuthorityCodec authorityCodec = new AuthorityCodec(compactClaims);
+        ReferenceTokenProperties referenceTokenProperties = new ReferenceTokenProperties();
+        referenceTokenProperties.setEnabled(referenceTokens);
+        TokenProvider tokenProvider = new TokenProvider(TOKEN_VALIDITY_IN_SECONDS,
+                keyRegistry, verifiedTokenCache, tokenDenylist(), jwtMetrics(verifiedTokenCache),
+                authorityCodec, new TokenPrecheck(keyRegistry, 8192),
+                new ReferenceTokenStore(noopRepository(ReferenceTokenRepository.class), authorityCodec,
+                        referenceTokenProperties),
+                securityVersionTable());
+        tokenProvider.afterPropertiesSet();
+        return tokenProvider;
+    }
+
+    // 운영과 같은 기록 비용을 포함하도록 메모리 레지스트리에 타이머 등록
+    static JwtMetrics jwtMetrics(VerifiedTokenCache verifiedTokenCache) {
+        return new JwtMetrics(new SimpleMeterRegistry(), verifiedTokenCache);
+    }
+
+    // DB 없이 메모리에서만 동작하는 폐기 목록
+    static TokenDenylist tokenDenylist() {
+        TokenDenylist tokenDenylist = new TokenDenylist(new InMemorySharedStateStore(), 100_000, 0.01);
+        tokenDenylist.afterPropertiesSet();
+        return tokenDenylist;
+    }
+
+    // 변경된 회원이 없는 보안 버전 표 (조회는 없는 키 조회로 끝남)
+    static SecurityVersionTable securityVersionTable() {
+        SecurityVersionTable securityVersionTable =
+                new SecurityVersionTable(new InMemorySharedStateStore(), TOKEN_VALIDITY_IN_SECONDS);
+        securityVersionTable.afterPropertiesSet();
+        return securityVersionTable;
+    }
+
+    // 기록 스레드까지 실행되는 감사 로그 (audit 로거는 logback.xml 에서 WARN 이라 출력은 되지 않음)
+    static AuditLog auditLog() {
+        AuditLog auditLog = new AuditLog(new AuditProperties(), new SimpleMeterRegistry());
+        auditLog.afterPropertiesSet();
+        return auditLog;
+    }
+
+    // 벤치마크용 저장소: 조회는 빈 결과, 저장은 인자를 그대로 반환
+    @SuppressWarnings("unchecked")
+    static <T> T noopRepository(Class<T> repositoryType) {
+        return (T) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    Class<?> returnType = method.getReturnType();
+                    if (Iterable.class.isAssignableFrom(returnType)) {
+                        return Collections.emptyList();
+                    }
+                    if (returnType == Optional.class) {
+                        return Optional.empty();
+                    }
+                    if (returnType == int.class || returnType == long.class) {
+                        return returnType == int.class ? (Object) 0 : (Object) 0L;
+                    }
+                    if (returnType == boolean.class) {
+                        return false;
+                    }
+                    if (returnType == void.class) {
+                        return null;
+                    }
+                    return args != null && args.length > 0 ? args[0] : null;
+                });
+    }
+
+    static JwtKeyRegistry keyRegistry(SignatureAlgorithm algorithm) throws Exception {
+        JwtKeyProperties properties = new JwtKeyProperties();
+        if (algorithm != SignatureAlgorithm.HS512) {
+            JwtKeyProperties.KeyDefinition definition = new JwtKeyProperties.KeyDefinition();
+            definition.setId("bench-" + algorithm.getValue());
+            definition.setAlgorithm(algorithm);
+            properties.getKeys().add(definition);
+            properties.setActiveKeyId(definition.getId());
+        }
+        JwtKeyRegistry keyRegistry = new JwtKeyRegistry(properties, SECRET);
+        keyRegistry.afterPropertiesSet();
+        return keyRegistry;
+    }
+
+    static Authentication authentication(String membername, String... authorityNames) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (String authorityName : authorityNames) {
+            authorities.add(new SimpleGrantedAuthority(authorityName));
+        }
+        return new UsernamePasswordAuthenticationToken(membername, null, authorities);
+    }
+
+    // ROLE_ 접두사 뒤를 채워 길이가 nameLength 인 권한 이름 count 개 생성
+    static String[] authorityNames(int count, int nameLength) {
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder name = new StringBuilder("ROLE_").append(i).append('_');
+            while (name.length() < nameLength) {
+                name.append('X');
+            }
+            names[i] = name.toString();
+        }
+        return names;
+    }
+}
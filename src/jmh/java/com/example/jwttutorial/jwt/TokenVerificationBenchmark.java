@@ -0,0 +1,76 @@
+package com.example.jwttutorial.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Key;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 1건당 JWT 검증 비용 비교
+ *
+ * legacyValidateThenResolve: 기존 JwtFilter 경로
+ * validateToken 과 getAuthentication 이 각각 JwtParser 를 새로 만들어 서명 검증과 파싱을 두 번 수행
+ *
+ * singleParseVerify: TokenProvider.verify 경로
+ * afterPropertiesSet 에서 만든 JwtParser 로 서명 검증과 파싱을 한 번만 수행
+ *
+ * cachedVerify: VerifiedTokenCache 를 켠 TokenProvider.verify 경로
+ * 같은 토큰이 반복될 때 SHA-256 다이제스트 계산과 캐시 조회만 수행
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenVerificationBenchmark {
+
+    private TokenProvider tokenProvider;
+    private TokenProvider cachingTokenProvider;
+    private Key key;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        tokenProvider = TokenProviderFixtures.tokenProvider();
+        cachingTokenProvider = TokenProviderFixtures.tokenProvider(true);
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(TokenProviderFixtures.SECRET));
+        token = tokenProvider.createToken(
+                TokenProviderFixtures.authentication("admin", "ROLE_MEMBER", "ROLE_ADMIN"));
+    }
+
+    @Benchmark
+    public Authentication legacyValidateThenResolve() {
+        // validateToken
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+
+        // getAuthentication
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        Collection<? extends GrantedAuthority> authorities =
+                Arrays.stream(claims.get("auth").toString().split(","))
+                        .map(SimpleGrantedAuthority::new)
+                        .collect(Collectors.toList());
+        return new UsernamePasswordAuthenticationToken(claims.getSubject(), token, authorities);
+    }
+
+    @Benchmark
+    public TokenVerification singleParseVerify() {
+        return tokenProvider.verify(token);
+    }
+
+    @Benchmark
+    public TokenVerification cachedVerify() {
+        return cachingTokenProvider.verify(token);
+    }
+}
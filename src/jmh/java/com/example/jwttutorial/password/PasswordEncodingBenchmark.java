@@ -0,0 +1,47 @@
+package com.example.jwttutorial.password;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * application.yml 기본 비용으로 설정한 알고리즘별 비밀번호 해시 비용
+ * encode: 회원 가입 / 해시 갱신 경로, matches: 로그인 경로
+ *
+ * 스레드 풀(OffloadingPasswordEncoder)을 거치지 않고 해시 계산 자체만 측정
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PasswordEncodingBenchmark {
+
+    private static final String RAW_PASSWORD = "benchmark-password-1234";
+
+    @Param({PasswordEncoders.BCRYPT, PasswordEncoders.ARGON2, PasswordEncoders.PBKDF2})
+    private String encodingId;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setEncodingId(encodingId);
+        passwordEncoder = PasswordEncoders.delegating(properties);
+        encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
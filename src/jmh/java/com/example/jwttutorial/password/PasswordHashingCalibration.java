@@ -0,0 +1,80 @@
+package com.example.jwttutorial.password;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * 현재 호스트에서 목표 지연 시간 안에 끝나는 가장 높은 해시 비용을 찾는 도구
+ * ./gradlew calibratePasswordHashing -PtargetMs=250
+ *
+ * 알고리즘별로 비용을 한 단계씩 올리며 encode 지연 시간의 중앙값을 측정하고,
+ * 목표 시간을 넘기 직전의 비용을 application.yml 에 넣을 수 있는 형태로 출력
+ */
+public final class PasswordHashingCalibration {
+
+    private static final String SAMPLE_PASSWORD = "calibration-password-1234";
+    private static final int SAMPLES = 5;
+
+    private PasswordHashingCalibration() {
+    }
+
+    public static void main(String[] args) {
+        long targetMs = args.length > 0 ? Long.parseLong(args[0]) : 250L;
+        System.out.printf("목표 지연 시간: %dms, CPU 코어: %d%n%n", targetMs, Runtime.getRuntime().availableProcessors());
+
+        int strength = calibrate("bcrypt strength", 8, 16, 1, targetMs, PasswordEncoders::bcrypt);
+
+        int memory = calibrate("argon2 memory(KiB)", 4096, 1 << 20, 2, targetMs, kib -> {
+            PasswordHashingProperties.Argon2 argon2 = new PasswordHashingProperties.Argon2();
+            argon2.setMemory(kib);
+            return PasswordEncoders.argon2(argon2);
+        });
+
+        int iterations = calibrate("pbkdf2 iterations", 50_000, 6_400_000, 2, targetMs, count -> {
+            PasswordHashingProperties.Pbkdf2 pbkdf2 = new PasswordHashingProperties.Pbkdf2();
+            pbkdf2.setIterations(count);
+            return PasswordEncoders.pbkdf2(pbkdf2);
+        });
+
+        System.out.println();
+        System.out.println("password:");
+        System.out.println("  hashing:");
+        System.out.println("    bcrypt:");
+        System.out.println("      strength: " + strength);
+        System.out.println("    argon2:");
+        System.out.println("      memory: " + memory);
+        System.out.println("    pbkdf2:");
+        System.out.println("      iterations: " + iterations);
+    }
+
+    // step 이 1 이면 1씩 증가 (bcrypt 는 log2 비용), 그 외에는 step 배씩 증가
+    private static int calibrate(String name, int min, int max, int step, long targetMs,
+                                 IntFunction<PasswordEncoder> encoderFactory) {
+        int best = min;
+        for (int cost = min; cost <= max; cost = step == 1 ? cost + 1 : cost * step) {
+            long medianMs = medianEncodeMillis(encoderFactory.apply(cost));
+            System.out.printf("%-20s %10d -> %5dms%n", name, cost, medianMs);
+            if (medianMs > targetMs) {
+                break;
+            }
+            best = cost;
+        }
+        return best;
+    }
+
+    private static long medianEncodeMillis(PasswordEncoder encoder) {
+        // JIT 워밍업
+        encoder.encode(SAMPLE_PASSWORD);
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.jwttutorial.repository;
+
+import com.example.jwttutorial.JwtTutorialApplication;
+import com.example.jwttutorial.entity.Member;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate SQL 출력(show_sql / format_sql) 여부에 따른 회원 조회 처리량
+ * 애플리케이션을 H2 메모리 DB 로 띄우고, 캐시를 거치지 않는 조회를 여러 스레드에서 동시에 실행
+ *
+ * showSql
+ * true: 기본 application.yml 과 같이 모든 쿼리를 정리해서 표준 출력으로 씀
+ * false: prod 프로필과 같이 출력하지 않음
+ *
+ * summary: 프로젝션 조회 (member 컬럼 4개)
+ * entity: 엔티티 조회 (영속성 컨텍스트에 엔티티 생성)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Threads(4)
+@Fork(1)
+public class MemberLookupBenchmark {
+
+    @Param({"true", "false"})
+    private boolean showSql;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JwtTutorialApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:member-lookup-" + showSql,
+                        "spring.jpa.properties.hibernate.show_sql=" + showSql,
+                        "spring.jpa.properties.hibernate.format_sql=" + showSql,
+                        "shared-state.backend=memory",
+                        "logging.level.com.example=WARN")
+                .run();
+        memberRepository = context.getBean(MemberRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<MemberSummary> summary() {
+        return memberRepository.findSummaryByMembername("admin");
+    }
+
+    @Benchmark
+    public Optional<Member> entity() {
+        return memberRepository.findByMembername("admin");
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.jwttutorial.util;
+
+import com.example.jwttutorial.jwt.JwtPrincipal;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SecurityUtil.getCurrentUsername 비용
+ *
+ * principal
+ * jwtPrincipal: JWT 토큰으로 인증된 요청처럼 JwtPrincipal 이 principal 인 경우
+ * userDetails: 로그인 직후처럼 UserDetails 가 principal 인 경우
+ * string: principal 이 문자열인 경우
+ * anonymous: SecurityContext 에 인증 정보가 없는 경우
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityUtilBenchmark {
+
+    @Param({"jwtPrincipal", "userDetails", "string", "anonymous"})
+    private String principal;
+
+    @Setup
+    public void setUp() {
+        SecurityContextHolder.clearContext();
+        if ("jwtPrincipal".equals(principal)) {
+            JwtPrincipal jwtPrincipal = new JwtPrincipal("admin", 1L, "admin",
+                    AuthorityUtils.createAuthorityList("ROLE_MEMBER"));
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(jwtPrincipal, null, jwtPrincipal.getAuthorities()));
+        } else if ("userDetails".equals(principal)) {
+            User user = new User("admin", "", AuthorityUtils.createAuthorityList("ROLE_MEMBER"));
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        } else if ("string".equals(principal)) {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken("admin", null,
+                            AuthorityUtils.createAuthorityList("ROLE_MEMBER")));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Optional<String> getCurrentUsername() {
+        return SecurityUtil.getCurrentUsername();
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.jwttutorial.loadtest;
+
+import com.example.jwttutorial.JwtTutorialApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * auth.execution.mode 별 /api/authenticate 지연 시간과 처리량 비교
+ * ./gradlew loadTest -PloadTestArgs="modes=platform,async,virtual concurrency=200 duration=30"
+ *
+ * reactive 모드는 같은 API 를 reactive 프로필(WebFlux, Netty)로 띄워 서블릿 방식과 비교
+ * ./gradlew loadTest -PloadTestArgs="modes=platform,reactive scenario=member"
+ * scenario=login: 로그인(비밀번호 해시 비교와 토큰 발급), scenario=member: 한 번 발급받은 토큰으로 GET /api/member
+ *
+ * 모드마다 애플리케이션을 임의 포트와 별도 H2 DB 로 새로 띄운 뒤,
+ * concurrency 개의 클라이언트가 응답을 받는 즉시 다음 요청을 보내는 방식(closed loop)으로 부하를 줌
+ * warmup 동안의 요청은 집계하지 않음
+ *
+ * tomcat-threads 로 Tomcat 요청 스레드 수를 제한해 요청 스레드가 병목인 상황을 재현 (reactive 모드에는 적용되지 않음)
+ * virtual 모드는 Java 21 이상 런타임에서만 실행 (-PloadTestJava=21)
+ */
+public final class AuthLoadTest {
+
+    private AuthLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        List<String> modes = Arrays.asList(options.getOrDefault("modes", "platform,async,virtual").split(","));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int tomcatThreads = Integer.parseInt(options.getOrDefault("tomcat-threads", "20"));
+        String username = options.getOrDefault("username", "admin");
+        String password = options.getOrDefault("password", "admin");
+        String scenario = options.getOrDefault("scenario", "login");
+
+        System.out.printf("scenario=%s, concurrency=%d, duration=%ds, warmup=%ds, tomcat-threads=%d, java=%s%n%n",
+                scenario, concurrency, durationSeconds, warmupSeconds, tomcatThreads,
+                System.getProperty("java.version"));
+
+        List<Result> results = new ArrayList<>();
+        for (String mode : modes) {
+            if ("virtual".equals(mode) && Runtime.version().feature() < 21) {
+                System.out.println("virtual 모드는 Java 21 이상에서만 실행됩니다, 건너뜀");
+                continue;
+            }
+            try (ConfigurableApplicationContext context = start(mode, tomcatThreads)) {
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                String body = "{\"membername\":\"" + username + "\",\"password\":\"" + password + "\"}";
+                HttpRequest login = HttpRequest.newBuilder(URI.create(baseUrl + "/api/authenticate"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+                HttpRequest request = "member".equals(scenario)
+                        ? HttpRequest.newBuilder(URI.create(baseUrl + "/api/member"))
+                                .header("Authorization", "Bearer " + issueToken(login))
+                                .GET()
+                                .build()
+                        : login;
+
+                run(request, concurrency, warmupSeconds);
+                results.add(summarize(mode, run(request, concurrency, durationSeconds), durationSeconds));
+            }
+        }
+
+        System.out.println();
+        System.out.printf("%-10s %10s %10s %10s %10s %10s %10s%n",
+                "mode", "ok", "error", "req/s", "p50(ms)", "p99(ms)", "max(ms)");
+        for (Result result : results) {
+            System.out.printf("%-10s %10d %10d %10.1f %10.2f %10.2f %10.2f%n",
+                    result.mode, result.ok, result.errors, result.throughput,
+                    result.p50Millis, result.p99Millis, result.maxMillis);
+        }
+    }
+
+    // reactive 모드는 reactive 프로필로 띄우고, 나머지는 서블릿 방식의 auth.execution.mode 로 사용
+    private static ConfigurableApplicationContext start(String mode, int tomcatThreads) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(JwtTutorialApplication.class);
+        if ("reactive".equals(mode)) {
+            builder.profiles("reactive");
+        } else {
+            builder.properties("auth.execution.mode=" + mode);
+        }
+        return builder
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=" + tomcatThreads,
+                        "spring.datasource.url=jdbc:h2:mem:loadtest-" + mode,
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "logging.level.com.example=WARN")
+                .run();
+    }
+
+    // 응답 헤더(Authorization: Bearer ...)의 액세스 토큰
+    private static String issueToken(HttpRequest login) throws Exception {
+        HttpResponse<Void> response = HttpClient.newHttpClient().send(login, HttpResponse.BodyHandlers.discarding());
+        String header = response.headers().firstValue("Authorization")
+                .orElseThrow(() -> new IllegalStateException("로그인에 실패했습니다, status: " + response.statusCode()));
+        return header.substring("Bearer ".length());
+    }
+
+    // 클라이언트별로 지연 시간(ns)을 모은 뒤 합쳐서 반환, 2xx 가 아닌 응답과 예외는 음수로 기록
+    private static long[] run(HttpRequest request, int concurrency, int durationSeconds) throws Exception {
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(Math.max(4, concurrency / 8));
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(httpExecutor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(clients.submit(() -> {
+                long[] samples = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    boolean ok;
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        ok = response.statusCode() / 100 == 2;
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    long elapsed = System.nanoTime() - start;
+                    if (count == samples.length) {
+                        samples = Arrays.copyOf(samples, count * 2);
+                    }
+                    samples[count++] = ok ? elapsed : -elapsed;
+                }
+                return Arrays.copyOf(samples, count);
+            }));
+        }
+
+        long[] merged = new long[0];
+        for (Future<long[]> future : futures) {
+            long[] samples = future.get();
+            int offset = merged.length;
+            merged = Arrays.copyOf(merged, offset + samples.length);
+            System.arraycopy(samples, 0, merged, offset, samples.length);
+        }
+        clients.shutdown();
+        httpExecutor.shutdown();
+        return merged;
+    }
+
+    private static Result summarize(String mode, long[] samples, int durationSeconds) {
+        long[] ok = Arrays.stream(samples).filter(nanos -> nanos >= 0).sorted().toArray();
+        Result result = new Result();
+        result.mode = mode;
+        result.ok = ok.length;
+        result.errors = samples.length - ok.length;
+        result.throughput = ok.length / (double) durationSeconds;
+        if (ok.length > 0) {
+            result.p50Millis = percentile(ok, 0.50) / 1_000_000.0;
+            result.p99Millis = percentile(ok, 0.99) / 1_000_000.0;
+            result.maxMillis = ok[ok.length - 1] / 1_000_000.0;
+        }
+        return result;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    // key=value 형식의 인자
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    private static final class Result {
+        private String mode;
+        private long ok;
+        private long errors;
+        private double throughput;
+        private double p50Millis;
+        private double p99Millis;
+        private double maxMillis;
+    }
+}
@@ -0,0 +1,426 @@
+package com.example.jwttutorial.loadtest;
+
+import com.example.jwttutorial.JwtTutorialApplication;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 회원가입/로그인/회원 조회를 섞은 고정 도착률(open loop) 부하 테스트
+ * ./gradlew openLoopLoadTest -PloadTestArgs="rate=500 duration=60 mix=signup=2,authenticate=8,member=75,member-by-name=15"
+ *
+ * 애플리케이션을 임의 포트와 별도 H2 DB 로 띄우고 members 명을 가입/로그인시켜 토큰을 미리 발급받은 뒤,
+ * 요청마다 정해진 시작 시각(시작 + i / rate)에 응답을 기다리지 않고 보냄
+ * 지연 시간은 실제로 보낸 시각이 아닌 정해진 시작 시각부터 재므로, 서버가 느려져 요청이 밀린 시간도 포함됨
+ * (응답을 받아야 다음 요청을 보내는 closed loop 처럼 느린 구간의 요청 수가 줄어드는 coordinated omission 이 없음)
+ *
+ * 엔드포인트별 HdrHistogram(마이크로초, 유효 숫자 3자리)에 모든 요청의 지연 시간을 기록하고, warmup 동안의 요청은 집계하지 않음
+ * 실패한 요청도 빼지 않아야 느린 구간이 백분위에서 사라지지 않으므로, 오류/타임아웃은 응답(예외)을 받은 시각까지,
+ * max-in-flight 에 막혀 보내지 못한 요청(dropped)은 timeout 값으로 기록함
+ * 결과는 report-dir/label 아래에 summary.txt 와 엔드포인트별 .hgrm(HdrHistogram 백분위 분포, ms)으로 저장되어 실행 간 비교 가능
+ *
+ * profile=reactive 로 reactive 프로필을, mode 로 서블릿 방식의 auth.execution.mode 를 선택
+ * 로그인 시도 제한은 모든 요청이 같은 IP 에서 오므로 끔 (auth.rate-limit.enabled=false)
+ */
+public final class OpenLoopLoadTest {
+
+    private static final String PASSWORD = "loadtest-password";
+    private static final DateTimeFormatter LABEL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private OpenLoopLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int rate = Integer.parseInt(options.getOrDefault("rate", "200"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int members = Integer.parseInt(options.getOrDefault("members", "100"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "10000"));
+        int timeoutSeconds = Integer.parseInt(options.getOrDefault("timeout", "30"));
+        String profile = options.getOrDefault("profile", "");
+        String mode = options.getOrDefault("mode", "platform");
+        Map<Endpoint, Integer> mix = parseMix(options.getOrDefault("mix",
+                "signup=2,authenticate=8,member=75,member-by-name=15"));
+        Path reportDir = Paths.get(options.getOrDefault("report-dir", "build/reports/loadtest"),
+                options.getOrDefault("label", LocalDateTime.now().format(LABEL_FORMAT)));
+
+        String settings = String.format(
+                "rate=%d/s, duration=%ds, warmup=%ds, members=%d, mix=%s, profile=%s, mode=%s, java=%s",
+                rate, durationSeconds, warmupSeconds, members, mix, profile.isEmpty() ? "default" : profile,
+                "reactive".equals(profile) ? "-" : mode, System.getProperty("java.version"));
+        System.out.println(settings);
+
+        try (ConfigurableApplicationContext context = start(profile, mode)) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            ExecutorService httpExecutor = Executors.newFixedThreadPool(
+                    Math.max(4, Runtime.getRuntime().availableProcessors()));
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(httpExecutor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            try {
+                Traffic traffic = Traffic.prepare(client, baseUrl, members, Duration.ofSeconds(timeoutSeconds));
+                Map<Endpoint, Stats> stats = run(client, traffic, mix, rate, warmupSeconds, durationSeconds,
+                        maxInFlight, timeoutSeconds);
+                report(reportDir, settings, stats, durationSeconds);
+            } finally {
+                httpExecutor.shutdown();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String profile, String mode) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(JwtTutorialApplication.class);
+        if ("reactive".equals(profile)) {
+            builder.profiles(profile);
+        } else {
+            builder.properties("auth.execution.mode=" + mode);
+        }
+        return builder
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest-open-loop",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "auth.rate-limit.enabled=false",
+                        "logging.level.com.example=WARN")
+                .run();
+    }
+
+    /**
+     * 요청 i 를 시작 시각 + i * interval 에 보내고, 완료 시각 - 정해진 시작 시각을 지연 시간으로 기록
+     * 보내는 스레드가 밀려도 다음 요청의 정해진 시각은 바뀌지 않으며, 늦게 보낸 만큼 지연 시간에 더해짐
+     * 응답을 기다리는 요청이 max-in-flight 를 넘으면 보내지 않고 dropped 로 집계하며, 지연 시간은 timeout 값으로 기록
+     * 오류 응답과 타임아웃도 지연 시간을 기록하고, 기록한 뒤에 in-flight 자리를 반납함
+     */
+    private static Map<Endpoint, Stats> run(HttpClient client, Traffic traffic, Map<Endpoint, Integer> mix,
+                                            int rate, int warmupSeconds, int durationSeconds,
+                                            int maxInFlight, int timeoutSeconds) throws InterruptedException {
+        Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : mix.keySet()) {
+            stats.put(endpoint, new Stats());
+        }
+        Endpoint[] schedule = weightedSchedule(mix);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        Random random = new Random(20261018L);
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long startNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureFromNanos = startNanos + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long endNanos = measureFromNanos + TimeUnit.SECONDS.toNanos(durationSeconds);
+        long maxSendLagNanos = 0;
+        long timeoutMicros = TimeUnit.SECONDS.toMicros(timeoutSeconds);
+
+        for (long i = 0; ; i++) {
+            long intendedNanos = startNanos + i * intervalNanos;
+            if (intendedNanos >= endNanos) {
+                break;
+            }
+            long now;
+            while ((now = System.nanoTime()) < intendedNanos) {
+                LockSupport.parkNanos(intendedNanos - now);
+            }
+            boolean measured = intendedNanos >= measureFromNanos;
+            if (measured) {
+                maxSendLagNanos = Math.max(maxSendLagNanos, now - intendedNanos);
+            }
+
+            Endpoint endpoint = schedule[random.nextInt(schedule.length)];
+            Stats endpointStats = stats.get(endpoint);
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    // 보내지 못한 요청은 응답이 없으므로 timeout 까지 기다린 것으로 기록 (실제 지연 시간의 하한)
+                    endpointStats.latency.recordValue(timeoutMicros);
+                    endpointStats.dropped.incrementAndGet();
+                }
+                continue;
+            }
+            client.sendAsync(traffic.request(endpoint, random), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        try {
+                            if (!measured) {
+                                return;
+                            }
+                            long latencyNanos = System.nanoTime() - intendedNanos;
+                            endpointStats.latency.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+                            if (e == null && response.statusCode() / 100 == 2) {
+                                endpointStats.ok.incrementAndGet();
+                            } else if (isTimeout(e)) {
+                                endpointStats.timeouts.incrementAndGet();
+                            } else {
+                                endpointStats.errors.incrementAndGet();
+                            }
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+        }
+
+        // 마지막 요청까지 응답을 기다림 (요청마다 timeout 이 있으므로 보통은 모두 완료됨)
+        if (!inFlight.tryAcquire(maxInFlight, timeoutSeconds, TimeUnit.SECONDS)) {
+            long unanswered = maxInFlight - inFlight.availablePermits();
+            System.out.printf("응답을 받지 못한 요청: %d%n", unanswered);
+            for (Stats endpointStats : stats.values()) {
+                endpointStats.unanswered = unanswered;
+            }
+        }
+        System.out.printf("최대 전송 지연(부하 생성기): %.2f ms%n", maxSendLagNanos / 1_000_000.0);
+        return stats;
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause instanceof HttpTimeoutException;
+    }
+
+    /**
+     * 백분위는 오류/타임아웃/dropped 를 포함한 모든 요청 기준이며, req/s 는 2xx 응답 기준
+     * dropped 나 응답을 받지 못한 요청이 있으면 실제 지연 시간을 알 수 없으므로 백분위를 신뢰할 수 없다고 표시함
+     */
+    private static void report(Path reportDir, String settings, Map<Endpoint, Stats> stats, int durationSeconds)
+            throws IOException {
+        Files.createDirectories(reportDir);
+        StringBuilder summary = new StringBuilder(settings).append(System.lineSeparator());
+        summary.append(String.format("%-15s %9s %8s %8s %8s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "ok", "error", "timeout", "dropped", "req/s",
+                "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+
+        boolean invalid = false;
+        for (Map.Entry<Endpoint, Stats> entry : stats.entrySet()) {
+            Stats endpointStats = entry.getValue();
+            Histogram latency = endpointStats.latency;
+            boolean endpointInvalid = endpointStats.dropped.get() > 0 || endpointStats.unanswered > 0;
+            invalid |= endpointInvalid;
+            summary.append(String.format("%-15s %9d %8d %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%s%n",
+                    entry.getKey().key, endpointStats.ok.get(), endpointStats.errors.get(),
+                    endpointStats.timeouts.get(), endpointStats.dropped.get(),
+                    endpointStats.ok.get() / (double) durationSeconds,
+                    millis(latency, 50.0), millis(latency, 90.0), millis(latency, 99.0), millis(latency, 99.9),
+                    latency.getMaxValue() / 1000.0, endpointInvalid ? " *" : ""));
+
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(reportDir.resolve(entry.getKey().key + ".hgrm")), false, "UTF-8")) {
+                latency.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+
+        if (invalid) {
+            summary.append("* 백분위 무효: dropped 요청은 timeout 값으로, 응답을 받지 못한 요청은 기록되지 않아 실제 지연 시간보다 낮게 나옴")
+                    .append(System.lineSeparator())
+                    .append("  max-in-flight 를 늘리거나 rate 를 낮춰 다시 측정해야 함")
+                    .append(System.lineSeparator());
+        }
+        Files.write(reportDir.resolve("summary.txt"), summary.toString().getBytes(StandardCharsets.UTF_8));
+        System.out.println();
+        System.out.print(summary);
+        System.out.println("결과: " + reportDir.toAbsolutePath());
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    // 비율만큼 엔드포인트를 채운 배열, 요청마다 무작위 위치를 골라 mix 비율을 맞춤
+    private static Endpoint[] weightedSchedule(Map<Endpoint, Integer> mix) {
+        List<Endpoint> schedule = new ArrayList<>();
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                schedule.add(entry.getKey());
+            }
+        }
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("mix 에 요청 비율이 없습니다.");
+        }
+        return schedule.toArray(new Endpoint[0]);
+    }
+
+    // endpoint=weight 를 쉼표로 구분 (예: signup=2,authenticate=8,member=75,member-by-name=15)
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String part : value.split(",")) {
+            int separator = part.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("mix 형식이 올바르지 않습니다: " + part);
+            }
+            int weight = Integer.parseInt(part.substring(separator + 1).trim());
+            if (weight > 0) {
+                mix.put(Endpoint.of(part.substring(0, separator).trim()), weight);
+            }
+        }
+        return mix;
+    }
+
+    // key=value 형식의 인자, mix 처럼 값에 '=' 가 있으면 첫 '=' 로만 나눔
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    private enum Endpoint {
+        SIGNUP("signup"),
+        AUTHENTICATE("authenticate"),
+        MEMBER("member"),
+        MEMBER_BY_NAME("member-by-name");
+
+        private final String key;
+
+        Endpoint(String key) {
+            this.key = key;
+        }
+
+        private static Endpoint of(String key) {
+            for (Endpoint endpoint : values()) {
+                if (endpoint.key.equals(key)) {
+                    return endpoint;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 엔드포인트: " + key);
+        }
+
+        @Override
+        public String toString() {
+            return key;
+        }
+    }
+
+    private static final class Stats {
+        // 마이크로초, 최댓값에 맞춰 범위가 늘어남
+        private final Histogram latency = new ConcurrentHistogram(3);
+        private final AtomicLong ok = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        // 마지막 대기 후에도 응답을 받지 못한 요청 수 (엔드포인트 구분 없이 전체)
+        private volatile long unanswered;
+    }
+
+    /**
+     * 미리 가입시킨 회원과 발급받은 토큰으로 엔드포인트별 요청을 만듦
+     * member: 회원 토큰으로 GET /api/member, member-by-name: 관리자(admin) 토큰으로 임의 회원 조회
+     * signup 은 요청마다 새 회원 이름을 사용
+     */
+    private static final class Traffic {
+
+        private final String baseUrl;
+        private final Duration timeout;
+        private final List<String> membernames;
+        private final List<String> tokens;
+        private final String adminToken;
+        private final AtomicLong signupSequence = new AtomicLong();
+
+        private Traffic(String baseUrl, Duration timeout, List<String> membernames, List<String> tokens,
+                        String adminToken) {
+            this.baseUrl = baseUrl;
+            this.timeout = timeout;
+            this.membernames = membernames;
+            this.tokens = tokens;
+            this.adminToken = adminToken;
+        }
+
+        private static Traffic prepare(HttpClient client, String baseUrl, int members, Duration timeout)
+                throws Exception {
+            List<String> membernames = new ArrayList<>(members);
+            List<CompletableFuture<String>> tokens = new ArrayList<>(members);
+            for (int i = 0; i < members; i++) {
+                String membername = "load-member-" + i;
+                membernames.add(membername);
+                tokens.add(client.sendAsync(signupRequest(baseUrl, timeout, membername),
+                                HttpResponse.BodyHandlers.discarding())
+                        .thenCompose(response -> {
+                            if (response.statusCode() / 100 != 2) {
+                                throw new IllegalStateException("회원가입에 실패했습니다, status: " + response.statusCode());
+                            }
+                            return client.sendAsync(loginRequest(baseUrl, timeout, membername, PASSWORD),
+                                    HttpResponse.BodyHandlers.discarding());
+                        })
+                        .thenApply(Traffic::accessToken));
+            }
+
+            String adminToken = accessToken(client.send(loginRequest(baseUrl, timeout, "admin", "admin"),
+                    HttpResponse.BodyHandlers.discarding()));
+            List<String> issued = new ArrayList<>(members);
+            for (CompletableFuture<String> token : tokens) {
+                issued.add(token.get());
+            }
+            System.out.printf("회원 %d 명 가입 및 토큰 발급 완료%n", members);
+            return new Traffic(baseUrl, timeout, membernames, issued, adminToken);
+        }
+
+        private HttpRequest request(Endpoint endpoint, Random random) {
+            int index = random.nextInt(membernames.size());
+            switch (endpoint) {
+                case SIGNUP:
+                    return signupRequest(baseUrl, timeout, "load-signup-" + signupSequence.incrementAndGet());
+                case AUTHENTICATE:
+                    return loginRequest(baseUrl, timeout, membernames.get(index), PASSWORD);
+                case MEMBER:
+                    return get("/api/member", tokens.get(index));
+                case MEMBER_BY_NAME:
+                    return get("/api/member/" + membernames.get(index), adminToken);
+                default:
+                    throw new IllegalArgumentException(endpoint.key);
+            }
+        }
+
+        private HttpRequest get(String path, String token) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(timeout)
+                    .GET()
+                    .build();
+        }
+
+        private static HttpRequest signupRequest(String baseUrl, Duration timeout, String membername) {
+            return post(baseUrl + "/api/signup", timeout, "{\"membername\":\"" + membername + "\",\"password\":\""
+                    + PASSWORD + "\",\"nickname\":\"" + membername + "\"}");
+        }
+
+        private static HttpRequest loginRequest(String baseUrl, Duration timeout, String membername,
+                                                String password) {
+            return post(baseUrl + "/api/authenticate", timeout,
+                    "{\"membername\":\"" + membername + "\",\"password\":\"" + password + "\"}");
+        }
+
+        private static HttpRequest post(String url, Duration timeout, String body) {
+            return HttpRequest.newBuilder(URI.create(url))
+                    .header("Content-Type", "application/json")
+                    .timeout(timeout)
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        // 응답 헤더(Authorization: Bearer ...)의 액세스 토큰
+        private static String accessToken(HttpResponse<Void> response) {
+            String header = response.headers().firstValue("Authorization")
+                    .orElseThrow(() -> new IllegalStateException("로그인에 실패했습니다, status: " + response.statusCode()));
+            return header.substring("Bearer ".length());
+        }
+    }
+}
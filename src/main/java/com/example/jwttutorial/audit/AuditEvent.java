@@ -0,0 +1,78 @@
+package com.example.jwttutorial.audit;
+
+/**
+ * 보안 감사 이벤트 한 건
+ *
+ * AuditRingBuffer 가 미리 만들어 둔 슬롯 객체를 재사용하므로 이벤트를 기록할 때 객체를 생성하지 않음
+ * 값은 요청 스레드가 슬롯에 채우고, 기록 스레드(audit-writer)가 읽은 뒤 비움
+ *
+ * 토큰 원문은 기록 스레드가 지문(SHA-256 앞 12자)을 계산하는 데만 사용하고 로그에는 남기지 않음
+ */
+public final class AuditEvent {
+
+    // 슬롯 상태 (AuditRingBuffer 참고)
+    volatile long sequence;
+
+    private AuditEventType type;
+    private long timestampMillis;
+    private String principal;
+    private String clientIp;
+    private String requestUri;
+    private String reason;
+    private String token;
+    private long count;
+
+    AuditEvent(long sequence) {
+        this.sequence = sequence;
+    }
+
+    void set(AuditEventType type, long timestampMillis, String principal, String clientIp,
+             String requestUri, String reason, String token, long count) {
+        this.type = type;
+        this.timestampMillis = timestampMillis;
+        this.principal = principal;
+        this.clientIp = clientIp;
+        this.requestUri = requestUri;
+        this.reason = reason;
+        this.token = token;
+        this.count = count;
+    }
+
+    // 기록이 끝난 슬롯이 요청 값(특히 토큰 원문)을 붙잡고 있지 않도록 비움
+    void clear() {
+        set(null, 0L, null, null, null, null, null, 0L);
+    }
+
+    public AuditEventType getType() {
+        return type;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    public String getPrincipal() {
+        return principal;
+    }
+
+    public String getClientIp() {
+        return clientIp;
+    }
+
+    public String getRequestUri() {
+        return requestUri;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    // EVENTS_DROPPED 이벤트의 누락 건수
+    public long getCount() {
+        return count;
+    }
+
+    String getToken() {
+        return token;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.jwttutorial.audit;
+
+import com.example.jwttutorial.util.TokenDigest;
+
+import java.time.Instant;
+
+/**
+ * 감사 이벤트를 JSON 한 줄로 변환 (기록 스레드에서만 사용, StringBuilder 를 재사용)
+ * {"ts":"2026-10-17T09:00:00.123Z","type":"LOGIN_FAILURE","principal":"admin","ip":"10.0.0.1","reason":"BAD_CREDENTIALS"}
+ * 값이 없는 필드는 생략하고, 토큰은 원문 대신 지문(token 필드)만 기록
+ */
+final class AuditEventFormatter {
+
+    private final StringBuilder line = new StringBuilder(256);
+
+    String format(AuditEvent event) {
+        line.setLength(0);
+        line.append("{\"ts\":\"").append(Instant.ofEpochMilli(event.getTimestampMillis())).append('"');
+        line.append(",\"type\":\"").append(event.getType().name()).append('"');
+        field("principal", event.getPrincipal());
+        field("ip", event.getClientIp());
+        field("uri", event.getRequestUri());
+        field("reason", event.getReason());
+        if (event.getToken() != null) {
+            field("token", TokenDigest.fingerprint(event.getToken()));
+        }
+        if (event.getType() == AuditEventType.EVENTS_DROPPED) {
+            line.append(",\"count\":").append(event.getCount());
+        }
+        return line.append('}').toString();
+    }
+
+    private void field(String name, String value) {
+        if (value == null) {
+            return;
+        }
+        line.append(",\"").append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    line.append("\\\"");
+                    break;
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                case '\t':
+                    line.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+            }
+        }
+        line.append('"');
+    }
+}
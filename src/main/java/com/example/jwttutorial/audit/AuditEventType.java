@@ -0,0 +1,14 @@
+package com.example.jwttutorial.audit;
+
+/**
+ * 보안 감사 이벤트 종류
+ */
+public enum AuditEventType {
+    LOGIN_SUCCESS,          // 로그인 성공
+    LOGIN_FAILURE,          // 로그인 실패 (reason: 비밀번호 불일치, 계정 잠금, 시도 횟수 제한 등)
+    TOKEN_ISSUED,           // 액세스 토큰 발급 (로그인, 리프레시 토큰으로 재발급)
+    TOKEN_REJECTED,         // 요청의 액세스 토큰 거부 (reason: TokenVerification.Status)
+    AUTHENTICATION_REQUIRED, // 인증이 필요한 경로에 인증 없이 접근 (401)
+    ACCESS_DENIED,          // 권한 부족 (403)
+    EVENTS_DROPPED          // 버퍼가 가득 차서 버린 이벤트 수 (감사 로그 자체의 이벤트)
+}
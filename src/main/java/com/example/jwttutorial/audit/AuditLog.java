@@ -0,0 +1,151 @@
+package com.example.jwttutorial.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 보안 감사 이벤트 기록 (로그인 성공/실패, 토큰 발급/거부, 401/403)
+ *
+ * 요청 스레드는 이벤트 값을 링 버퍼(AuditRingBuffer)의 슬롯에 채우기만 하고 바로 돌아감
+ * 문자열 변환, 토큰 지문 계산, 로그 출력은 기록 스레드(audit-writer)가 batch-size 건씩 모아서 처리
+ * 버퍼가 가득 차면 새 이벤트를 버리고 audit.events.dropped 카운터를 늘리며, 버린 건수는 EVENTS_DROPPED 이벤트로 남김
+ *
+ * 이벤트는 JSON 한 줄씩 'audit' 로거로 출력 (logging.level.audit 로 켜고 끔)
+ */
+@Component
+public class AuditLog implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLog.class);
+    private static final Logger auditLogger = LoggerFactory.getLogger("audit");
+
+    private final AuditProperties properties;
+    private final AuditRingBuffer ringBuffer;
+    private final AuditEventFormatter formatter = new AuditEventFormatter();
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    // 마지막 EVENTS_DROPPED 기록 이후 버린 이벤트 수
+    private final AtomicLong droppedSinceReport = new AtomicLong();
+    private volatile Thread writer;
+    private volatile boolean running;
+
+    public AuditLog(AuditProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.ringBuffer = new AuditRingBuffer(properties.getBufferSize());
+        this.droppedCounter = Counter.builder("audit.events.dropped")
+                .description("버퍼가 가득 차서 기록하지 못한 감사 이벤트 수")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.events.written")
+                .description("기록한 감사 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("audit.buffer.size", ringBuffer, AuditRingBuffer::size)
+                .description("기록을 기다리는 감사 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::writeLoop, "audit-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+        logger.info("감사 로그 기록을 시작합니다, 버퍼: {}건", ringBuffer.capacity());
+    }
+
+    // 종료 시 남은 이벤트를 모두 기록
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        Thread thread = writer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    public void loginSuccess(String membername, String clientIp) {
+        publish(AuditEventType.LOGIN_SUCCESS, membername, clientIp, null, null, null);
+    }
+
+    public void loginFailure(String membername, String clientIp, String reason) {
+        publish(AuditEventType.LOGIN_FAILURE, membername, clientIp, null, reason, null);
+    }
+
+    public void tokenIssued(String membername, String clientIp, String token) {
+        publish(AuditEventType.TOKEN_ISSUED, membername, clientIp, null, null, token);
+    }
+
+    public void tokenRejected(String clientIp, String requestUri, String reason, String token) {
+        publish(AuditEventType.TOKEN_REJECTED, null, clientIp, requestUri, reason, token);
+    }
+
+    public void authenticationRequired(String clientIp, String requestUri, String reason) {
+        publish(AuditEventType.AUTHENTICATION_REQUIRED, null, clientIp, requestUri, reason, null);
+    }
+
+    public void accessDenied(String principal, String clientIp, String requestUri) {
+        publish(AuditEventType.ACCESS_DENIED, principal, clientIp, requestUri, null, null);
+    }
+
+    private void publish(AuditEventType type, String principal, String clientIp,
+                         String requestUri, String reason, String token) {
+        if (!running) {
+            return;
+        }
+        if (!ringBuffer.offer(type, System.currentTimeMillis(), principal, clientIp, requestUri, reason, token, 0L)) {
+            droppedCounter.increment();
+            droppedSinceReport.incrementAndGet();
+            return;
+        }
+        // 한 배치만큼 쌓였으면 기록 스레드를 바로 깨움
+        if (ringBuffer.size() >= properties.getBatchSize()) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void writeLoop() {
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMs());
+        int batchSize = properties.getBatchSize();
+        while (running) {
+            reportDropped();
+            if (ringBuffer.drain(this::write, batchSize) < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+        reportDropped();
+        while (ringBuffer.drain(this::write, batchSize) > 0) {
+            // 종료 전 남은 이벤트 기록
+        }
+    }
+
+    private void write(AuditEvent event) {
+        try {
+            auditLogger.info(formatter.format(event));
+            writtenCounter.increment();
+        } catch (RuntimeException e) {
+            logger.warn("감사 이벤트를 기록하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    // 버린 이벤트가 있으면 그 건수를 이벤트로 남김 (이 이벤트도 버퍼에 자리가 있을 때만 기록됨)
+    private void reportDropped() {
+        long dropped = droppedSinceReport.getAndSet(0);
+        if (dropped > 0 && !ringBuffer.offer(AuditEventType.EVENTS_DROPPED, System.currentTimeMillis(),
+                null, null, null, null, null, dropped)) {
+            droppedSinceReport.addAndGet(dropped);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.jwttutorial.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 보안 감사 로그 설정 (audit.*)
+ *
+ * buffer-size: 기록을 기다리는 이벤트를 보관하는 링 버퍼 크기 (2의 거듭제곱으로 올림), 가득 차면 새 이벤트를 버림
+ * batch-size: 기록 스레드가 한 번에 꺼내는 최대 이벤트 수, 이만큼 쌓이면 flush-interval-ms 전이라도 기록
+ * flush-interval-ms: 이벤트가 적을 때 기록 스레드가 깨어나는 주기
+ */
+@Data
+@ConfigurationProperties(prefix = "audit")
+public class AuditProperties {
+
+    private boolean enabled = true;
+
+    private int bufferSize = 8192;
+
+    private int batchSize = 256;
+
+    private long flushIntervalMs = 200;
+}
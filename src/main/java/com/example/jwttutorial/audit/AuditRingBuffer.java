@@ -0,0 +1,84 @@
+package com.example.jwttutorial.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 여러 요청 스레드가 쓰고 기록 스레드 하나가 읽는 고정 크기 링 버퍼
+ *
+ * 슬롯마다 sequence 값으로 상태를 표시 (슬롯 i, 현재 바퀴의 위치 p)
+ * sequence == p: 비어 있어 p 위치에 쓸 수 있음
+ * sequence == p + 1: p 위치의 이벤트가 채워져 읽을 수 있음
+ * 읽은 뒤에는 sequence 를 p + capacity 로 바꿔 다음 바퀴에 다시 쓸 수 있게 함
+ *
+ * 가득 차면 기다리지 않고 false 를 반환 (요청 스레드는 감사 로그 때문에 멈추지 않음)
+ */
+final class AuditRingBuffer {
+
+    private final AuditEvent[] slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private volatile long tail;
+
+    AuditRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AuditEvent[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = new AuditEvent(i);
+        }
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    // 이벤트를 빈 슬롯에 채움, 버퍼가 가득 찼으면 false
+    boolean offer(AuditEventType type, long timestampMillis, String principal, String clientIp,
+                  String requestUri, String reason, String token, long count) {
+        long position = head.get();
+        AuditEvent slot;
+        while (true) {
+            slot = slots[(int) (position & mask)];
+            long diff = slot.sequence - position;
+            if (diff == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = head.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = head.get();
+            }
+        }
+        slot.set(type, timestampMillis, principal, clientIp, requestUri, reason, token, count);
+        slot.sequence = position + 1;
+        return true;
+    }
+
+    // 채워진 이벤트를 최대 maxEvents 건까지 순서대로 꺼냄 (기록 스레드에서만 호출)
+    int drain(Consumer<AuditEvent> consumer, int maxEvents) {
+        int drained = 0;
+        while (drained < maxEvents) {
+            AuditEvent slot = slots[(int) (tail & mask)];
+            if (slot.sequence != tail + 1) {
+                break;
+            }
+            try {
+                consumer.accept(slot);
+            } finally {
+                slot.clear();
+                slot.sequence = tail + slots.length;
+                tail++;
+            }
+            drained++;
+        }
+        return drained;
+    }
+
+    // 대략적인 대기 이벤트 수 (지표용)
+    long size() {
+        return Math.max(0, head.get() - tail);
+    }
+}
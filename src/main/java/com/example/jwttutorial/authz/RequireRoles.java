@@ -0,0 +1,20 @@
+package com.example.jwttutorial.authz;
+
+import com.example.jwttutorial.entity.Role;
+
+import java.lang.annotation.*;
+
+/**
+ * 컨트롤러 메소드(또는 클래스)에 접근할 수 있는 Role 지정, 하나라도 가지고 있으면 허용
+ * @RequireRoles({Role.ROLE_MEMBER, Role.ROLE_ADMIN}) 는 @PreAuthorize("hasAnyRole('MEMBER', 'ADMIN')") 와 같은 판단
+ *
+ * 시작 시 Role 비트마스크로 변환해 두고 요청마다 인증 주체의 비트마스크와 AND 연산으로 확인 (RoleAuthorizationInterceptor)
+ * 메소드에 붙은 어노테이션이 클래스에 붙은 어노테이션보다 우선
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequireRoles {
+
+    Role[] value();
+}
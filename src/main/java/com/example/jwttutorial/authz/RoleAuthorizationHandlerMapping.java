@@ -0,0 +1,73 @@
+package com.example.jwttutorial.authz;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * reactive 프로필(WebFlux)의 @RequireRoles 검사
+ *
+ * WebFlux 에는 HandlerInterceptor 가 없으므로 핸들러 매핑이 핸들러 메소드를 찾은 직후에 검사
+ * 규칙은 RoleAuthorizationInterceptor 와 같이 시작 시 비트마스크로 계산해 두고, 인증 정보는 Reactor Context 에서 읽음
+ * 거부 시 AccessDeniedException 을 전달하므로 ExceptionTranslationWebFilter 가
+ * 인증 정보가 없으면 401, 권한이 부족하면 403 으로 응답
+ */
+public class RoleAuthorizationHandlerMapping extends RequestMappingHandlerMapping {
+
+    // 상위 클래스의 commons-logging logger 대신 다른 클래스와 같은 SLF4J 로거 사용
+    private static final Logger logger = LoggerFactory.getLogger(RoleAuthorizationHandlerMapping.class);
+
+    // 핸들러 메소드 -> 필요한 Role 비트마스크, afterPropertiesSet 후에는 읽기만 함
+    private volatile Map<Method, Integer> requiredMasks = Map.of();
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+
+        Map<Method, Integer> masks = new HashMap<>();
+        int restricted = 0;
+        for (HandlerMethod handlerMethod : getHandlerMethods().values()) {
+            int mask = RoleRules.requiredMask(handlerMethod.getMethod(), handlerMethod.getBeanType());
+            masks.put(handlerMethod.getMethod(), mask);
+            if (mask != RoleRules.PERMIT_ALL) {
+                restricted++;
+            }
+        }
+        requiredMasks = masks;
+        logger.info("@RequireRoles 규칙 {}개를 계산했습니다, 핸들러: {}개", restricted, masks.size());
+    }
+
+    @Override
+    public Mono<HandlerMethod> getHandlerInternal(ServerWebExchange exchange) {
+        return super.getHandlerInternal(exchange).flatMap(handlerMethod -> {
+            int requiredMask = requiredMask(handlerMethod);
+            if (requiredMask == RoleRules.PERMIT_ALL) {
+                return Mono.just(handlerMethod);
+            }
+            return ReactiveSecurityContextHolder.getContext()
+                    .map(SecurityContext::getAuthentication)
+                    .filter(authentication -> (RoleRules.grantedMask(authentication) & requiredMask) != 0)
+                    .map(authentication -> handlerMethod)
+                    .switchIfEmpty(Mono.error(() -> new AccessDeniedException("Access is denied")));
+        });
+    }
+
+    private int requiredMask(HandlerMethod handlerMethod) {
+        Integer mask = requiredMasks.get(handlerMethod.getMethod());
+        if (mask != null) {
+            return mask;
+        }
+        // 시작 후 동적으로 등록된 핸들러는 매번 어노테이션을 읽음
+        return RoleRules.requiredMask(handlerMethod.getMethod(), handlerMethod.getBeanType());
+    }
+}
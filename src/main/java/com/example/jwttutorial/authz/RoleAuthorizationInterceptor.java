@@ -0,0 +1,58 @@
+package com.example.jwttutorial.authz;
+
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @RequireRoles 검사를 핸들러 실행 전에 수행
+ *
+ * 시작 시 등록된 모든 핸들러 메소드의 어노테이션을 비트마스크로 변환해 두므로 (compile)
+ * 요청마다 SpEL 평가나 AOP 프록시 없이 Map 조회와 AND 연산 한 번으로 판단
+ * 거부 시 AccessDeniedException 을 던지므로 @PreAuthorize 와 같이 ExceptionTranslationFilter 가 401/403 으로 응답
+ */
+public class RoleAuthorizationInterceptor implements HandlerInterceptor {
+
+    // 핸들러 메소드 -> 필요한 Role 비트마스크, compile 후에는 읽기만 함
+    private volatile Map<Method, Integer> requiredMasks = Map.of();
+
+    // 핸들러 메소드별 규칙을 미리 계산, 반환값은 제한이 있는 핸들러 수
+    public int compile(Collection<HandlerMethod> handlerMethods) {
+        Map<Method, Integer> masks = new HashMap<>();
+        int restricted = 0;
+        for (HandlerMethod handlerMethod : handlerMethods) {
+            int mask = RoleRules.requiredMask(handlerMethod.getMethod(), handlerMethod.getBeanType());
+            masks.put(handlerMethod.getMethod(), mask);
+            if (mask != RoleRules.PERMIT_ALL) {
+                restricted++;
+            }
+        }
+        requiredMasks = masks;
+        return restricted;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            RoleRules.check(requiredMask((HandlerMethod) handler),
+                    SecurityContextHolder.getContext().getAuthentication());
+        }
+        return true;
+    }
+
+    int requiredMask(HandlerMethod handlerMethod) {
+        Integer mask = requiredMasks.get(handlerMethod.getMethod());
+        if (mask != null) {
+            return mask;
+        }
+        // 시작 후 동적으로 등록된 핸들러는 매번 어노테이션을 읽음
+        return RoleRules.requiredMask(handlerMethod.getMethod(), handlerMethod.getBeanType());
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.jwttutorial.authz;
+
+import com.example.jwttutorial.entity.Role;
+import com.example.jwttutorial.jwt.AuthorityCodec;
+import com.example.jwttutorial.jwt.JwtPrincipal;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Method;
+
+/**
+ * @RequireRoles 를 Role 비트마스크로 변환하고, 인증 정보가 그 조건을 만족하는지 확인
+ * 비트 위치는 토큰의 a1 클레임과 같이 Role 의 ordinal (AuthorityCodec)
+ */
+public final class RoleRules {
+
+    // 제한이 없는 핸들러
+    public static final int PERMIT_ALL = 0;
+
+    private RoleRules() {
+    }
+
+    // 핸들러 메소드에 필요한 Role 비트마스크, 어노테이션이 없으면 PERMIT_ALL
+    public static int requiredMask(Method method, Class<?> beanType) {
+        RequireRoles requireRoles = AnnotatedElementUtils.findMergedAnnotation(method, RequireRoles.class);
+        if (requireRoles == null) {
+            requireRoles = AnnotatedElementUtils.findMergedAnnotation(beanType, RequireRoles.class);
+        }
+        if (requireRoles == null) {
+            return PERMIT_ALL;
+        }
+        if (requireRoles.value().length == 0) {
+            // 빈 목록은 아무도 접근할 수 없는 핸들러가 되므로 설정 실수로 보고 시작 시 알림
+            throw new IllegalStateException("@RequireRoles 에 Role 이 지정되지 않았습니다: " + method);
+        }
+        int mask = 0;
+        for (Role role : requireRoles.value()) {
+            mask |= 1 << role.ordinal();
+        }
+        return mask;
+    }
+
+    // 인증 정보가 가진 Role 비트마스크, JWT 로 인증된 요청은 JwtPrincipal 에 미리 계산된 값을 사용
+    public static int grantedMask(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof JwtPrincipal) {
+            return ((JwtPrincipal) principal).getRoleMask();
+        }
+        return AuthorityCodec.roleMask(authentication.getAuthorities());
+    }
+
+    // 필요한 Role 중 하나도 없으면 AccessDeniedException (@PreAuthorize 거부와 같은 예외)
+    public static void check(int requiredMask, Authentication authentication) {
+        if (requiredMask == PERMIT_ALL) {
+            return;
+        }
+        if (authentication == null) {
+            throw new AuthenticationCredentialsNotFoundException(
+                    "An Authentication object was not found in the SecurityContext");
+        }
+        if ((grantedMask(authentication) & requiredMask) == 0) {
+            throw new AccessDeniedException("Access is denied");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.jwttutorial.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * AuthController / MemberController 등이 반환하는 Callable 의 실행 방식 설정 (auth.execution.mode)
+ *
+ * platform: InlineCallableReturnValueHandler 가 Callable 을 요청 스레드에서 바로 실행
+ * (비동기 요청과 ASYNC 재디스패치 없이 기존 동기 처리와 같은 경로)
+ * async / virtual: Spring MVC 비동기 요청으로 처리하고 Callable 은 전용 스레드 풀 또는 가상 스레드에서 실행
+ *
+ * 비동기 처리에서 SecurityContext 는 Spring Security 의 WebAsyncManagerIntegrationFilter 가 등록하는
+ * SecurityContextCallableProcessingInterceptor 가 Callable 실행 스레드로 옮기고, 실행 후 비움
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AuthExecutionConfig implements WebMvcConfigurer, SmartInitializingSingleton, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthExecutionConfig.class);
+
+    private final AuthExecutionProperties properties;
+    private final ListableBeanFactory beanFactory;
+    private final AsyncTaskExecutor taskExecutor;
+    private ThreadPoolTaskExecutor threadPoolExecutor;
+    private ExecutorService virtualThreadExecutor;
+
+    public AuthExecutionConfig(AuthExecutionProperties properties, ListableBeanFactory beanFactory) {
+        this.properties = properties;
+        this.beanFactory = beanFactory;
+        this.taskExecutor = createTaskExecutor();
+        logger.info("인증 API 실행 방식: {}", properties.getMode());
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        if (taskExecutor != null) {
+            configurer.setTaskExecutor(taskExecutor);
+        }
+        configurer.setDefaultTimeout(properties.getTimeoutMs());
+    }
+
+    // 기본 반환값 처리기 중 CallableMethodReturnValueHandler 보다 먼저 확인되도록 맨 앞에 추가
+    // (addReturnValueHandlers 로 등록한 처리기는 기본 처리기 뒤에 붙으므로 어댑터 초기화 후 목록을 다시 설정)
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (properties.getMode() != AuthExecutionProperties.Mode.PLATFORM) {
+            return;
+        }
+        for (RequestMappingHandlerAdapter adapter : beanFactory.getBeansOfType(RequestMappingHandlerAdapter.class).values()) {
+            List<HandlerMethodReturnValueHandler> handlers = new ArrayList<>(adapter.getReturnValueHandlers());
+            handlers.add(0, new InlineCallableReturnValueHandler(adapter.getReturnValueHandlers()));
+            adapter.setReturnValueHandlers(handlers);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (threadPoolExecutor != null) {
+            threadPoolExecutor.shutdown();
+        }
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+
+    private AsyncTaskExecutor createTaskExecutor() {
+        switch (properties.getMode()) {
+            case ASYNC:
+                threadPoolExecutor = new ThreadPoolTaskExecutor();
+                threadPoolExecutor.setCorePoolSize(properties.getAsync().getCoreSize());
+                threadPoolExecutor.setMaxPoolSize(properties.getAsync().getMaxSize());
+                threadPoolExecutor.setQueueCapacity(properties.getAsync().getQueueCapacity());
+                threadPoolExecutor.setThreadNamePrefix("auth-async-");
+                threadPoolExecutor.setWaitForTasksToCompleteOnShutdown(true);
+                threadPoolExecutor.initialize();
+                return threadPoolExecutor;
+            case VIRTUAL:
+                virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+                return new TaskExecutorAdapter(virtualThreadExecutor);
+            default:
+                // Callable 은 InlineCallableReturnValueHandler 가 요청 스레드에서 실행하므로 비동기 실행기를 쓰지 않음
+                return null;
+        }
+    }
+
+    // 소스 호환 버전이 11 이므로 Java 21 API 는 리플렉션으로 호출
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "auth.execution.mode=virtual 은 Java 21 이상 런타임이 필요합니다, 현재: "
+                            + System.getProperty("java.version"), e);
+        }
+    }
+}
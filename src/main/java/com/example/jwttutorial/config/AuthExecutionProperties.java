@@ -0,0 +1,47 @@
+package com.example.jwttutorial.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 인증/회원 API 실행 방식 설정 (auth.execution.*)
+ *
+ * mode
+ * platform: 기존과 같이 Tomcat 요청 스레드에서 바로 처리
+ * async: 전용 스레드 풀(async.*)에서 처리하고 Tomcat 요청 스레드는 바로 반환
+ * virtual: 요청마다 가상 스레드를 만들어 처리 (Java 21 이상 런타임 필요)
+ *
+ * timeout-ms: 비동기 처리 결과를 기다리는 최대 시간, 초과하면 503 응답
+ *
+ * reactive: reactive 프로필(WebFlux)에서 DB 조회 등 블로킹 작업을 실행하는 스케줄러 크기 (ReactiveExecutionConfig)
+ * 이벤트 루프 스레드는 토큰 검증만 하고, 블로킹 작업은 blocking-threads 개의 스레드에서 처리하며 대기열이 가득 차면 거절
+ */
+@Data
+@ConfigurationProperties(prefix = "auth.execution")
+public class AuthExecutionProperties {
+
+    private Mode mode = Mode.PLATFORM;
+
+    private long timeoutMs = 10000;
+
+    private Async async = new Async();
+
+    private Reactive reactive = new Reactive();
+
+    public enum Mode {
+        PLATFORM, ASYNC, VIRTUAL
+    }
+
+    @Data
+    public static class Async {
+        private int coreSize = 16;
+        private int maxSize = 64;
+        private int queueCapacity = 1000;
+    }
+
+    @Data
+    public static class Reactive {
+        private int blockingThreads = 20;
+        private int blockingQueueCapacity = 1000;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.jwttutorial.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 애플리케이션 캐시 설정
+ * 캐시 저장소는 spring.cache.* 설정에 따라 Spring Boot 가 만드는 Caffeine 캐시(프로세스 내부 메모리)를 사용
+ * 크기 제한, TTL, 통계 수집 여부는 spring.cache.caffeine.spec 으로 설정
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 회원 이름 -> 권한 정보를 포함한 회원 엔티티
+    public static final String MEMBER_BY_NAME = "memberByName";
+}
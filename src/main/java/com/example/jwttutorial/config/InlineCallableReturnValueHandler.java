@@ -0,0 +1,81 @@
+package com.example.jwttutorial.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandlerComposite;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * auth.execution.mode=platform 에서 컨트롤러가 반환한 Callable 을 요청 스레드에서 바로 실행하고,
+ * 결과(ResponseEntity 등)는 원래의 반환값 처리기에 넘김
+ *
+ * 비동기 요청(startAsync)과 ASYNC 재디스패치를 거치지 않으므로 필터 체인도 한 번만 실행되고,
+ * 예외도 동기 처리와 같이 ApiExceptionHandler / ExceptionTranslationFilter 로 바로 전달됨
+ */
+final class InlineCallableReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    private final HandlerMethodReturnValueHandlerComposite delegate = new HandlerMethodReturnValueHandlerComposite();
+
+    InlineCallableReturnValueHandler(List<HandlerMethodReturnValueHandler> handlers) {
+        delegate.addHandlers(handlers);
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return Callable.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType,
+                                  ModelAndViewContainer mavContainer, NativeWebRequest webRequest) throws Exception {
+        if (returnValue == null) {
+            mavContainer.setRequestHandled(true);
+            return;
+        }
+        Object result = ((Callable<?>) returnValue).call();
+        delegate.handleReturnValue(result, new CallableResultParameter(returnType, result), mavContainer, webRequest);
+    }
+
+    // Callable<T> 를 반환하는 메소드의 반환 타입을 T 로 보이게 함 (ResponseEntity 의 본문 타입을 찾을 수 있도록 제네릭 유지)
+    private static final class CallableResultParameter extends MethodParameter {
+
+        private final Object result;
+        private final ResolvableType resultType;
+
+        private CallableResultParameter(MethodParameter returnType, Object result) {
+            super(returnType);
+            this.result = result;
+            this.resultType = ResolvableType.forMethodParameter(returnType).getGeneric();
+        }
+
+        private CallableResultParameter(CallableResultParameter original) {
+            super(original);
+            this.result = original.result;
+            this.resultType = original.resultType;
+        }
+
+        @Override
+        public Class<?> getParameterType() {
+            if (result != null) {
+                return result.getClass();
+            }
+            return resultType.resolve(Object.class);
+        }
+
+        @Override
+        public Type getGenericParameterType() {
+            return resultType == ResolvableType.NONE ? getParameterType() : resultType.getType();
+        }
+
+        @Override
+        public CallableResultParameter clone() {
+            return new CallableResultParameter(this);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.jwttutorial.config;
+
+import com.example.jwttutorial.password.OffloadingPasswordEncoder;
+import com.example.jwttutorial.password.PasswordEncoders;
+import com.example.jwttutorial.password.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 서블릿/리액티브 실행 방식에서 함께 쓰는 PasswordEncoder 설정
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    // BCrypt/Argon2/PBKDF2 를 지원하는 DelegatingPasswordEncoder 를 전용 스레드 풀에서 실행하도록 감싸서 빈으로 등록
+    @Bean
+    public OffloadingPasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties,
+                                                     MeterRegistry meterRegistry) {
+        return new OffloadingPasswordEncoder(
+                PasswordEncoders.delegating(passwordHashingProperties),
+                passwordHashingProperties.getExecutor(),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.jwttutorial.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * reactive 프로필의 실행 스레드 설정
+ *
+ * 요청은 Netty 이벤트 루프 스레드(기본값은 CPU 코어 수)에서 처리하므로 이벤트 루프에서는 블로킹 호출을 하지 않음
+ * JPA 조회/저장처럼 블로킹되는 작업은 blockingScheduler 에서 실행하며,
+ * 스레드 수(auth.execution.reactive.blocking-threads)는 DB 커넥션 풀 크기에 맞추고 대기열이 가득 차면 바로 거절
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExecutionConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveExecutionConfig.class);
+
+    // 서블릿 실행에 쓰는 Tomcat 이 클래스패스에 함께 있으면 Tomcat 이 선택되므로 Netty 를 직접 지정
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler blockingScheduler(AuthExecutionProperties properties) {
+        AuthExecutionProperties.Reactive reactive = properties.getReactive();
+        logger.info("인증 API 실행 방식: reactive, 블로킹 작업 스레드: {}", reactive.getBlockingThreads());
+        return Schedulers.newBoundedElastic(reactive.getBlockingThreads(), reactive.getBlockingQueueCapacity(),
+                "reactive-blocking");
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.jwttutorial.config;
+
+import com.example.jwttutorial.authz.RoleAuthorizationHandlerMapping;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxRegistrations;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * reactive 프로필의 @RequireRoles 검사 등록
+ * WebFlux 기본 핸들러 매핑 대신 핸들러를 찾은 뒤 Role 을 확인하는 RoleAuthorizationHandlerMapping 사용
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRoleAuthorizationConfig {
+
+    @Bean
+    public WebFluxRegistrations roleAuthorizationRegistrations() {
+        return new WebFluxRegistrations() {
+            @Override
+            public RequestMappingHandlerMapping getRequestMappingHandlerMapping() {
+                return new RoleAuthorizationHandlerMapping();
+            }
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.jwttutorial.config;
+
+import com.example.jwttutorial.audit.AuditLog;
+import com.example.jwttutorial.entity.Role;
+import com.example.jwttutorial.jwt.JwtMetrics;
+import com.example.jwttutorial.jwt.JwtServerAccessDeniedHandler;
+import com.example.jwttutorial.jwt.JwtServerAuthenticationEntryPoint;
+import com.example.jwttutorial.jwt.JwtWebFilter;
+import com.example.jwttutorial.jwt.TokenProvider;
+import com.example.jwttutorial.password.OffloadingPasswordEncoder;
+import com.example.jwttutorial.service.CustomUserDetailsService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.header.XFrameOptionsServerHttpHeadersWriter;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Set;
+
+/**
+ * reactive 프로필(WebFlux)의 보안 설정, SecurityConfig 와 같은 경로 규칙과 401/403 응답
+ *
+ * 요청 처리: JwtWebFilter 가 이벤트 루프에서 토큰을 검증하고 인증 정보를 Reactor Context 에 저장
+ * 로그인: ReactiveAuthenticationManager 가 회원 조회는 블로킹 스케줄러에서,
+ * 비밀번호 비교는 비밀번호 해시 스레드 풀(password.hashing.executor)을 감싼 스케줄러에서 수행
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         TokenProvider tokenProvider,
+                                                         JwtMetrics jwtMetrics,
+                                                         AuditLog auditLog,
+                                                         JwtServerAuthenticationEntryPoint authenticationEntryPoint,
+                                                         JwtServerAccessDeniedHandler accessDeniedHandler,
+                                                         Scheduler blockingScheduler) {
+        JwtWebFilter jwtWebFilter = new JwtWebFilter(tokenProvider, jwtMetrics, auditLog,
+                Set.of(SecurityConfig.PERMIT_ALL_PATHS), blockingScheduler);
+
+        return http
+                .csrf().disable()
+                .httpBasic().disable()
+                .formLogin().disable()
+                .logout().disable()
+                // 세션을 사용하지 않음 (인증 정보는 요청마다 JwtWebFilter 가 토큰으로 만듦)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+
+                .exceptionHandling()
+                .authenticationEntryPoint(authenticationEntryPoint)
+                .accessDeniedHandler(accessDeniedHandler)
+
+                .and()
+                .headers()
+                .frameOptions()
+                .mode(XFrameOptionsServerHttpHeadersWriter.Mode.SAMEORIGIN)
+
+                .and()
+                .authorizeExchange()
+                .pathMatchers(SecurityConfig.PERMIT_ALL_PATHS).permitAll()
+                .pathMatchers(SecurityConfig.ACTUATOR_PATHS).hasAuthority(Role.ROLE_ADMIN.name())
+                .anyExchange().authenticated()
+
+                .and()
+                .addFilterAt(jwtWebFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    @Bean
+    public ReactiveAuthenticationManager reactiveAuthenticationManager(CustomUserDetailsService userDetailsService,
+                                                                       OffloadingPasswordEncoder passwordEncoder,
+                                                                       Scheduler blockingScheduler) {
+        ReactiveUserDetailsService reactiveUserDetailsService = membername ->
+                Mono.fromCallable(() -> userDetailsService.loadUserByUsername(membername))
+                        .subscribeOn(blockingScheduler)
+                        // 없는 회원은 비밀번호가 틀린 경우와 같은 BadCredentialsException 으로 응답 (DaoAuthenticationProvider 와 같음)
+                        .onErrorResume(UsernameNotFoundException.class, e -> Mono.empty())
+                        // 조회 중 발생한 예외는 DaoAuthenticationProvider 와 같이 인증 예외로 변환
+                        // (비활성/잠긴 회원은 예외 없이 반환되고 인증 전 검사에서 DisabledException / LockedException 으로 거절됨)
+                        .onErrorMap(e -> !(e instanceof AuthenticationException),
+                                e -> new InternalAuthenticationServiceException(e.getMessage(), e));
+
+        UserDetailsRepositoryReactiveAuthenticationManager authenticationManager =
+                new UserDetailsRepositoryReactiveAuthenticationManager(reactiveUserDetailsService);
+        // 해시 스레드 풀에서 원래 PasswordEncoder 를 바로 실행 (서블릿 방식과 같은 동시 계산 수 제한, 대기열이 가득 차면 거절)
+        authenticationManager.setPasswordEncoder(passwordEncoder.getDelegate());
+        authenticationManager.setScheduler(Schedulers.fromExecutorService(passwordEncoder.getExecutor(), "password-hash"));
+        // 저장된 해시의 알고리즘/비용이 현재 설정과 다르면 로그인 성공 시 다시 해시하여 저장
+        authenticationManager.setUserDetailsPasswordService((user, newPassword) ->
+                Mono.fromCallable(() -> userDetailsService.updatePassword(user, newPassword))
+                        .subscribeOn(blockingScheduler));
+        return authenticationManager;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.jwttutorial.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 읽기 전용(@Transactional(readOnly = true))이면 복제본, 그 외에는 주 DB 의 연결을 반환
+ *
+ * 트랜잭션 매니저는 읽기 전용 여부를 등록하기 전에 연결을 얻으므로,
+ * 실제 연결은 첫 쿼리 시점에 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용해야 함
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    public static Route currentRoute() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+    }
+}
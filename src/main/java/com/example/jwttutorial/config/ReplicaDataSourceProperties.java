@@ -0,0 +1,21 @@
+package com.example.jwttutorial.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 전용 복제본 연결 설정 (datasource.replica.*)
+ * 커넥션 풀 설정은 datasource.replica.hikari.* 로 HikariDataSource 에 직접 바인딩
+ */
+@Data
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private String url;
+
+    private String driverClassName;
+
+    private String username;
+
+    private String password;
+}
@@ -0,0 +1,49 @@
+package com.example.jwttutorial.config;
+
+import com.example.jwttutorial.authz.RoleAuthorizationInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @RequireRoles 검사 인터셉터 등록
+ * 인터셉터는 핸들러 매핑보다 먼저 만들어져야 하므로, 모든 빈이 만들어진 뒤 등록된 핸들러 메소드로 규칙을 계산
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RoleAuthorizationConfig implements WebMvcConfigurer, SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleAuthorizationConfig.class);
+
+    private final ListableBeanFactory beanFactory;
+    private final RoleAuthorizationInterceptor interceptor = new RoleAuthorizationInterceptor();
+
+    public RoleAuthorizationConfig(ListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<HandlerMethod> handlerMethods = new ArrayList<>();
+        for (RequestMappingHandlerMapping mapping : beanFactory.getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+            handlerMethods.addAll(mapping.getHandlerMethods().values());
+        }
+        int restricted = interceptor.compile(handlerMethods);
+        logger.info("@RequireRoles 규칙 {}개를 계산했습니다, 핸들러: {}개", restricted, handlerMethods.size());
+    }
+}
@@ -1,40 +1,64 @@
 package com.example.jwttutorial.config;
 
+import com.example.jwttutorial.audit.AuditLog;
+import com.example.jwttutorial.entity.Role;
 import com.example.jwttutorial.jwt.JwtAccessDeniedHandler;
 import com.example.jwttutorial.jwt.JwtAuthenticationEntryPoint;
+import com.example.jwttutorial.jwt.JwtMetrics;
 import com.example.jwttutorial.jwt.JwtSecurityConfig;
 import com.example.jwttutorial.jwt.TokenProvider;
-import org.springframework.context.annotation.Bean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Set;
 
 @EnableWebSecurity // Spring Security를 활성화하는 어노테이션
-@EnableGlobalMethodSecurity(prePostEnabled = true) // 메소드 수준에서의 보안 처리를 활성화하는 어노테이션
+// 서블릿(Tomcat) 실행에만 적용, reactive 프로필은 ReactiveSecurityConfig 사용
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+// 메소드 수준에서의 보안 처리를 활성화하는 어노테이션
+// 컨트롤러의 Role 확인은 @RequireRoles(RoleAuthorizationInterceptor)로 처리하고, @PreAuthorize 는 Role 만으로 표현할 수 없는 규칙에만 사용
+@EnableGlobalMethodSecurity(prePostEnabled = true)
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
+    // 인증 없이 접근을 허용하는 경로, JwtFilter 는 이 경로의 토큰을 검증하지 않음 (와일드카드 없이 정확한 경로만 사용)
+    static final String[] PERMIT_ALL_PATHS = {
+            "/api/hello",
+            "/api/authenticate",
+            "/api/signup",
+            "/api/token/refresh",
+            // 다른 서비스가 토큰을 직접 검증할 수 있도록 공개 키(JWKS) 조회는 인증 없이 허용
+            "/.well-known/jwks.json",
+            // 헬스 체크만 인증 없이 허용
+            "/actuator/health"
+    };
+
+    // 그 밖의 actuator 엔드포인트(메트릭, 캐시, Prometheus 수집)는 관리자만 접근 가능
+    // Prometheus 는 관리자 계정의 액세스 토큰을 Authorization 헤더로 보내 수집
+    static final String ACTUATOR_PATHS = "/actuator/**";
+
     private final TokenProvider tokenProvider; // JWT 토큰 생성 및 검증을 담당하는 TokenProvider 의존성 주입 필드
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint; // 인증 실패 시 처리하는 핸들러 주입 필드
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler; // 인가 거부 시 처리하는 핸들러 주입 필드
+    private final JwtMetrics jwtMetrics; // JwtFilter 처리 시간 기록
+    private final AuditLog auditLog; // 거부된 토큰 감사 로그 기록
 
     public SecurityConfig(
             TokenProvider tokenProvider,
             JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
-            JwtAccessDeniedHandler jwtAccessDeniedHandler
+            JwtAccessDeniedHandler jwtAccessDeniedHandler,
+            JwtMetrics jwtMetrics,
+            AuditLog auditLog
     ) {
         this.tokenProvider = tokenProvider;
         this.jwtAuthenticationEntryPoint = jwtAuthenticationEntryPoint;
         this.jwtAccessDeniedHandler = jwtAccessDeniedHandler;
-    }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(); // BCryptPasswordEncoder를 빈으로 등록하여 비밀번호 인코딩에 사용
+        this.jwtMetrics = jwtMetrics;
+        this.auditLog = auditLog;
     }
 
     @Override
@@ -75,16 +99,15 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .and()
                 // HttpServletRequest를 사용하는 요청에 대한 접근 제한 설정
                 .authorizeRequests()
-                // "/api/hello" 경로에 대한 요청은 인증 없이 접근 허용
-                .antMatchers("/api/hello").permitAll()
-                .antMatchers("/api/authenticate").permitAll()
-                .antMatchers("/api/signup").permitAll()
+                // "/api/hello", "/api/authenticate" 등 PERMIT_ALL_PATHS 경로에 대한 요청은 인증 없이 접근 허용
+                .antMatchers(PERMIT_ALL_PATHS).permitAll()
+                .antMatchers(ACTUATOR_PATHS).hasAuthority(Role.ROLE_ADMIN.name())
                 // 나머지 요청에 대해서는 모두 인증을 받아야 함
                 .anyRequest().authenticated()
 
                 .and()
                 // JwtSecurityConfig를 적용하여 JWT 인증 설정
-                .apply(new JwtSecurityConfig(tokenProvider));
+                .apply(new JwtSecurityConfig(tokenProvider, jwtMetrics, auditLog, Set.of(PERMIT_ALL_PATHS)));
 
     }
 }
@@ -0,0 +1,96 @@
+package com.example.jwttutorial.controller;
+
+import com.example.jwttutorial.authz.RequireRoles;
+import com.example.jwttutorial.dto.MemberSearchDTO;
+import com.example.jwttutorial.dto.MemberSearchPageDTO;
+import com.example.jwttutorial.dto.MemberUpdateDTO;
+import com.example.jwttutorial.entity.Member;
+import com.example.jwttutorial.entity.Role;
+import com.example.jwttutorial.service.MemberSearchService;
+import com.example.jwttutorial.service.MemberService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.Valid;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/admin/members")
+public class AdminMemberController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminMemberController.class);
+
+    private final MemberService memberService;
+    private final MemberSearchService memberSearchService;
+    private final ObjectMapper objectMapper;
+
+    public AdminMemberController(MemberService memberService,
+                                 MemberSearchService memberSearchService,
+                                 ObjectMapper objectMapper) {
+        this.memberService = memberService;
+        this.memberSearchService = memberSearchService;
+        this.objectMapper = objectMapper;
+    }
+
+    // 관리자 회원 검색 (이름 접두사, 활성화 여부, 권한), 다음 페이지는 응답의 nextAfter 를 after 로 넘겨 조회
+    @GetMapping
+    @RequireRoles(Role.ROLE_ADMIN)
+    public Callable<ResponseEntity<MemberSearchPageDTO>> search(@RequestParam(required = false) String prefix,
+                                                                @RequestParam(required = false) Boolean activated,
+                                                                @RequestParam(required = false) Role authority,
+                                                                @RequestParam(defaultValue = "0") long after,
+                                                                @RequestParam(required = false) Integer size) {
+        logger.debug("회원 검색 요청, 접두사: {}, 활성화: {}, 권한: {}, after: {}", prefix, activated, authority, after);
+        return () -> ResponseEntity.ok(memberSearchService.search(prefix, activated, authority, after, size));
+    }
+
+    // 검색 조건에 맞는 모든 회원을 NDJSON(한 줄에 회원 하나)으로 내보냄
+    // DB 커서에서 읽는 대로 응답에 쓰므로 회원 수와 관계없이 메모리 사용량이 일정
+    // 회원 일괄 가입과 같이 처리 시간이 길어 비동기 요청 타임아웃을 적용하지 않도록 요청 스레드에서 직접 처리
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @RequireRoles(Role.ROLE_ADMIN)
+    public void export(@RequestParam(required = false) String prefix,
+                       @RequestParam(required = false) Boolean activated,
+                       @RequestParam(required = false) Role authority,
+                       HttpServletResponse response) throws IOException {
+        logger.debug("회원 내보내기 요청, 접두사: {}, 활성화: {}, 권한: {}", prefix, activated, authority);
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        memberSearchService.export(prefix, activated, authority, member -> write(writer, member));
+        writer.flush();
+    }
+
+    // 관리자가 회원의 권한이나 활성화 여부를 변경
+    // 변경 전에 발급된 액세스 토큰은 만료 전이라도 다음 요청부터 거절됨 (SecurityVersionTable)
+    @PatchMapping("/{membername}")
+    @RequireRoles(Role.ROLE_ADMIN)
+    public Callable<ResponseEntity<Member>> update(@PathVariable String membername,
+                                                   @Valid @RequestBody MemberUpdateDTO memberUpdateDTO) {
+        logger.debug("회원 정보 변경 요청: {}", membername);
+        return () -> ResponseEntity.of(memberService.updateMember(membername, memberUpdateDTO));
+    }
+
+    // 버퍼가 차면 BufferedWriter 가 내보내므로 행마다 flush 하지 않음
+    private void write(Writer writer, MemberSearchDTO member) {
+        try {
+            writer.write(objectMapper.writeValueAsString(member));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
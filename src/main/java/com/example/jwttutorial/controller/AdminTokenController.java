@@ -0,0 +1,49 @@
+package com.example.jwttutorial.controller;
+
+import com.example.jwttutorial.authz.RequireRoles;
+import com.example.jwttutorial.dto.RevokeTokenDTO;
+import com.example.jwttutorial.entity.Role;
+import com.example.jwttutorial.jwt.TokenProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/admin/tokens")
+public class AdminTokenController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminTokenController.class);
+
+    private final TokenProvider tokenProvider;
+
+    public AdminTokenController(TokenProvider tokenProvider) {
+        this.tokenProvider = tokenProvider;
+    }
+
+    // 관리자가 토큰 원문 또는 토큰 ID(jti)로 액세스 토큰을 폐기
+    @PostMapping("/revoke")
+    @RequireRoles(Role.ROLE_ADMIN)
+    public ResponseEntity<Void> revoke(@Valid @RequestBody RevokeTokenDTO revokeTokenDTO) {
+        if (StringUtils.hasText(revokeTokenDTO.getToken())) {
+            // 이미 만료되었거나 잘못된 토큰이면 폐기할 필요가 없음
+            if (!tokenProvider.revoke(revokeTokenDTO.getToken())) {
+                return ResponseEntity.notFound().build();
+            }
+        } else if (StringUtils.hasText(revokeTokenDTO.getTokenId())) {
+            tokenProvider.revokeTokenId(revokeTokenDTO.getTokenId());
+        } else {
+            return ResponseEntity.badRequest().build();
+        }
+        logger.debug("관리자 요청으로 토큰을 폐기했습니다.");
+        return ResponseEntity.noContent().build();
+    }
+}
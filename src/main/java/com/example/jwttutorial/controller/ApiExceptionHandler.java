@@ -0,0 +1,48 @@
+package com.example.jwttutorial.controller;
+
+import com.example.jwttutorial.password.PasswordHashingRejectedException;
+import com.example.jwttutorial.ratelimit.LoginRateLimitedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 컨트롤러에서 발생한 예외를 HTTP 응답으로 변환
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiExceptionHandler.class);
+
+    // 비밀번호 해시 스레드 풀이 포화 상태이면 요청을 쌓아 두지 않고 잠시 후 다시 시도하도록 안내
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<Void> handlePasswordHashingRejected(PasswordHashingRejectedException e) {
+        logger.warn("비밀번호 해시 요청을 거절했습니다: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
+    }
+
+    // 로그인 시도 제한 또는 계정 잠금, 다시 시도할 수 있는 시간을 Retry-After 로 안내
+    @ExceptionHandler(LoginRateLimitedException.class)
+    public ResponseEntity<Void> handleLoginRateLimited(LoginRateLimitedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()))
+                .build();
+    }
+
+    // reactive 프로필의 블로킹 스케줄러 또는 해시 스레드 풀의 대기열이 가득 찬 경우, 해시 요청 거절과 같은 503 응답
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Void> handleRejectedExecution(RejectedExecutionException e) {
+        logger.warn("작업 대기열이 가득 차 요청을 거절했습니다: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
+    }
+}
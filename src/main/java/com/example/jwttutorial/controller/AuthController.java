@@ -1,70 +1,207 @@
 package com.example.jwttutorial.controller;
 
+import com.example.jwttutorial.audit.AuditLog;
 import com.example.jwttutorial.dto.LoginDTO;
+import com.example.jwttutorial.dto.RefreshTokenDTO;
 import com.example.jwttutorial.dto.TokenDTO;
 import com.example.jwttutorial.jwt.JwtFilter;
 import com.example.jwttutorial.jwt.TokenProvider;
-import com.example.jwttutorial.service.MemberService;
+import com.example.jwttutorial.ratelimit.LoginAttemptService;
+import com.example.jwttutorial.ratelimit.LoginRateLimitedException;
+import com.example.jwttutorial.ratelimit.LoginRateLimiter;
+import com.example.jwttutorial.service.RefreshTokenService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.util.concurrent.Callable;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api")
 public class AuthController {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
 
+    // 리프레시 토큰으로 재발급할 때 로그인과 같은 계정 상태 검사(잠금, 비활성, 만료)
+    private static final UserDetailsChecker ACCOUNT_STATUS_CHECKER = new AccountStatusUserDetailsChecker();
+
     // JWT 토큰 생성 및 검증을 담당하는 TokenProvider 의존성 주입 필드
     private final TokenProvider tokenProvider;
 
     // 인증 처리를 담당하는 AuthenticationManagerBuilder 의존성 주입 필드
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
 
+    // 리프레시 토큰 발급 및 교체를 담당하는 RefreshTokenService 의존성 주입 필드
+    private final RefreshTokenService refreshTokenService;
+
+    // 리프레시 토큰으로 재발급할 때 회원 정보와 권한을 조회하는 UserDetailsService 의존성 주입 필드
+    private final UserDetailsService userDetailsService;
+
+    // 로그인 시도 횟수 제한과 연속 실패에 따른 계정 잠금을 담당하는 의존성 주입 필드
+    private final LoginRateLimiter loginRateLimiter;
+    private final LoginAttemptService loginAttemptService;
+
+    // 로그인 성공/실패와 토큰 발급을 기록하는 감사 로그 의존성 주입 필드
+    private final AuditLog auditLog;
+
     public AuthController(TokenProvider tokenProvider,
-                          AuthenticationManagerBuilder authenticationManagerBuilder) {
+                          AuthenticationManagerBuilder authenticationManagerBuilder,
+                          RefreshTokenService refreshTokenService,
+                          UserDetailsService userDetailsService,
+                          LoginRateLimiter loginRateLimiter,
+                          LoginAttemptService loginAttemptService,
+                          AuditLog auditLog) {
         this.tokenProvider = tokenProvider;
         this.authenticationManagerBuilder = authenticationManagerBuilder;
+        this.refreshTokenService = refreshTokenService;
+        this.userDetailsService = userDetailsService;
+        this.loginRateLimiter = loginRateLimiter;
+        this.loginAttemptService = loginAttemptService;
+        this.auditLog = auditLog;
     }
 
+    // 비밀번호 해시 비교와 DB 조회가 요청 스레드를 오래 붙잡지 않도록 Callable 로 반환
+    // 실행 스레드는 auth.execution.mode 에 따라 결정됨 (AuthExecutionConfig)
     @PostMapping("/authenticate")
-    public ResponseEntity<TokenDTO> authorize(
-            @Valid @RequestBody LoginDTO loginDTO) {
+    public Callable<ResponseEntity<TokenDTO>> authorize(
+            @Valid @RequestBody LoginDTO loginDTO,
+            HttpServletRequest request) {
+        // 시도 횟수 제한과 계정 잠금은 비밀번호 해시를 계산하기 전에 요청 스레드에서 바로 확인하고, 넘었으면 429 응답
+        // (프록시 뒤에서 실제 클라이언트 IP 를 쓰려면 server.forward-headers-strategy 설정 필요)
+        String clientIp = request.getRemoteAddr();
+        try {
+            loginRateLimiter.acquire(loginDTO.getMembername(), clientIp);
+            loginAttemptService.checkNotLocked(loginDTO.getMembername());
+        } catch (LoginRateLimitedException e) {
+            auditLog.loginFailure(loginDTO.getMembername(), clientIp, "RATE_LIMITED");
+            throw e;
+        }
+        return () -> authenticate(loginDTO, clientIp);
+    }
+
+    @PostMapping("/token/refresh")
+    public Callable<ResponseEntity<TokenDTO>> refresh(
+            @Valid @RequestBody RefreshTokenDTO refreshTokenDTO,
+            HttpServletRequest request) {
+        String clientIp = request.getRemoteAddr();
+        return () -> rotate(refreshTokenDTO, clientIp);
+    }
+
+    private ResponseEntity<TokenDTO> authenticate(LoginDTO loginDTO, String clientIp) {
         // 주어진 LoginDTO 객체를 기반으로 인증을 시도하는 UsernamePasswordAuthenticationToken 생성
         UsernamePasswordAuthenticationToken authenticationToken =
                 new UsernamePasswordAuthenticationToken(loginDTO.getMembername(),
                                                         loginDTO.getPassword());
-        logger.debug("AuthController: 생성된 authenticationToken {}", authenticationToken);
 
         // AuthenticationManagerBuilder를 사용하여 authenticationToken을 기반으로 실제 인증 처리를 수행
         // (인증 처리는 AuthenticationManagerBuilder에서 설정한 ProviderManager를 통해 진행됨)
-        Authentication authentication = authenticationManagerBuilder.getObject()
-                                                                    .authenticate(authenticationToken);
-
-        // 인증 정보를 SecurityContextHolder에 저장하여 현재 스레드의 SecurityContext에 인증 정보를 설정
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+        Authentication authentication;
+        try {
+            authentication = authenticationManagerBuilder.getObject()
+                                                         .authenticate(authenticationToken);
+        } catch (BadCredentialsException e) {
+            // 비밀번호가 틀린 경우 연속 실패 횟수를 늘리고, 기준을 넘으면 계정을 잠금
+            loginAttemptService.recordFailure(loginDTO.getMembername());
+            loginRateLimiter.onFailure(clientIp);
+            auditLog.loginFailure(loginDTO.getMembername(), clientIp, "BAD_CREDENTIALS");
+            throw e;
+        } catch (AuthenticationException e) {
+            // 계정 잠금(LockedException), 비활성 계정 등
+            auditLog.loginFailure(loginDTO.getMembername(), clientIp, e.getClass().getSimpleName());
+            throw e;
+        }
+        loginAttemptService.recordSuccess(loginDTO.getMembername());
+        loginRateLimiter.onSuccess(loginDTO.getMembername());
+        auditLog.loginSuccess(authentication.getName(), clientIp);
 
         // 인증에 성공하면 JWT 토큰을 생성
         String jwt = tokenProvider.createToken(authentication);
-        logger.debug("AuthController: 생성된 JWT 토큰: {}", jwt);
+        auditLog.tokenIssued(authentication.getName(), clientIp, jwt);
+
+        // 액세스 토큰이 만료되면 비밀번호 없이 재발급받을 수 있도록 리프레시 토큰 발급
+        String refreshToken = refreshTokenService.issue(authentication.getName());
+
+        return createTokenResponse(jwt, refreshToken);
+    }
+
+    private ResponseEntity<TokenDTO> rotate(RefreshTokenDTO refreshTokenDTO, String clientIp) {
+        // 리프레시 토큰을 새 토큰으로 교체 (이미 사용된 토큰이면 같은 계열의 토큰이 모두 폐기됨)
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshTokenDTO.getRefreshToken())
+                .orElseThrow(() -> new BadCredentialsException("유효하지 않은 리프레시 토큰입니다."));
+
+        // 비밀번호 검증 없이 현재 회원 정보와 권한으로 새 액세스 토큰 생성
+        UserDetails member = loadActiveMember(rotation);
+        Authentication authentication =
+                new UsernamePasswordAuthenticationToken(member, null, member.getAuthorities());
+        String jwt = tokenProvider.createToken(authentication);
+        auditLog.tokenIssued(rotation.getMembername(), clientIp, jwt);
+
+        return createTokenResponse(jwt, rotation.getRefreshToken());
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            HttpServletRequest request,
+            @RequestBody(required = false) RefreshTokenDTO refreshTokenDTO) {
+        // 요청에 사용된 액세스 토큰을 만료 시각까지 폐기
+        String jwt = JwtFilter.resolveToken(request);
+        if (StringUtils.hasText(jwt)) {
+            tokenProvider.revoke(jwt);
+        }
+
+        // 리프레시 토큰을 함께 보낸 경우 같은 계열의 리프레시 토큰도 폐기
+        if (refreshTokenDTO != null && StringUtils.hasText(refreshTokenDTO.getRefreshToken())) {
+            refreshTokenService.revokeFamily(refreshTokenDTO.getRefreshToken());
+        }
+
+        SecurityContextHolder.clearContext();
+        return ResponseEntity.noContent().build();
+    }
+
+    // 로그인의 인증 전 검사와 같이 잠긴 회원(LockedException), 비활성/탈퇴 회원(DisabledException, UsernameNotFoundException)은 거절하고
+    // 방금 교체한 리프레시 토큰을 포함해 계열 전체를 폐기
+    private UserDetails loadActiveMember(RefreshTokenService.Rotation rotation) {
+        try {
+            UserDetails member = userDetailsService.loadUserByUsername(rotation.getMembername());
+            ACCOUNT_STATUS_CHECKER.check(member);
+            return member;
+        } catch (AuthenticationException e) {
+            refreshTokenService.revokeFamily(rotation.getRefreshToken());
+            throw e;
+        }
+    }
 
+    private ResponseEntity<TokenDTO> createTokenResponse(String jwt, String refreshToken) {
         // HTTP Response Header에 JWT 토큰을 추가하여 클라이언트에게 반환
         HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.add(JwtFilter.AUTHORIZATION_HEADER, "Bearer " + jwt);
 
         // JWT 토큰과 HTTP 상태코드 200 OK를 함께 담은 ResponseEntity를 반환
-        return new ResponseEntity<>(new TokenDTO(jwt), httpHeaders, HttpStatus.OK);
+        TokenDTO tokenDTO = TokenDTO.builder()
+                .token(jwt)
+                .refreshToken(refreshToken)
+                .build();
+        return new ResponseEntity<>(tokenDTO, httpHeaders, HttpStatus.OK);
     }
 }
\ No newline at end of file
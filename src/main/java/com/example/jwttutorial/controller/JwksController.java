@@ -0,0 +1,29 @@
+package com.example.jwttutorial.controller;
+
+import com.example.jwttutorial.jwt.JwtKeyRegistry;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+@RestController
+public class JwksController {
+
+    private final JwtKeyRegistry jwtKeyRegistry;
+
+    public JwksController(JwtKeyRegistry jwtKeyRegistry) {
+        this.jwtKeyRegistry = jwtKeyRegistry;
+    }
+
+    // 토큰 검증용 공개 키 목록(JWKS) 반환
+    // 시작할 때 만들어 둔 바이트 배열을 그대로 응답하므로 요청마다 직렬화하지 않음
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES))
+                .body(jwtKeyRegistry.getJwks());
+    }
+}
@@ -1,18 +1,23 @@
 package com.example.jwttutorial.controller;
 
+import com.example.jwttutorial.authz.RequireRoles;
 import com.example.jwttutorial.dto.MemberDTO;
+import com.example.jwttutorial.dto.MemberInfoDTO;
 import com.example.jwttutorial.entity.Member;
+import com.example.jwttutorial.entity.Role;
 import com.example.jwttutorial.jwt.JwtFilter;
 import com.example.jwttutorial.service.MemberService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.util.concurrent.Callable;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api")
 public class MemberController {
 
@@ -24,23 +29,25 @@ public class MemberController {
         this.memberService = memberService;
     }
 
+    // 비밀번호 해시와 DB 작업은 auth.execution.mode 에 따라 결정된 스레드에서 수행 (AuthExecutionConfig)
     @PostMapping("/signup")
-    public ResponseEntity<Member> signup(
+    public Callable<ResponseEntity<Member>> signup(
             @Valid @RequestBody MemberDTO memberDTO
     ) {
-       return ResponseEntity.ok(memberService.signup(memberDTO));
+       return () -> ResponseEntity.ok(memberService.signup(memberDTO));
     }
 
+    // 토큰의 클레임만으로 응답하므로 DB 작업이 없어 Callable 로 넘기지 않고 요청 스레드에서 바로 처리
     @GetMapping("/member")
-    @PreAuthorize("hasAnyRole('MEMBER', 'ADMIN')")
-    public ResponseEntity<Member> getMyMemberInfo() {
-        return ResponseEntity.ok(memberService.getMyMemberWithAuthorities().get());
+    @RequireRoles({Role.ROLE_MEMBER, Role.ROLE_ADMIN})
+    public ResponseEntity<MemberInfoDTO> getMyMemberInfo() {
+        return ResponseEntity.of(memberService.getMyMemberWithAuthorities());
     }
 
     @GetMapping("/member/{membername}")
-    @PreAuthorize("hasAnyRole('ADMIN')")
-    public ResponseEntity<Member> getMemberInfo(@PathVariable String membername) {
+    @RequireRoles(Role.ROLE_ADMIN)
+    public Callable<ResponseEntity<Member>> getMemberInfo(@PathVariable String membername) {
         logger.debug("요청받은 회원명: {}", membername);
-        return ResponseEntity.ok(memberService.getMemberWithAuthorities(membername).get());
+        return () -> ResponseEntity.ok(memberService.getMemberWithAuthorities(membername).get());
     }
 }
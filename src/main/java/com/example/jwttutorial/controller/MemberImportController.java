@@ -0,0 +1,73 @@
+package com.example.jwttutorial.controller;
+
+import com.example.jwttutorial.authz.RequireRoles;
+import com.example.jwttutorial.dto.MemberImportEventDTO;
+import com.example.jwttutorial.entity.Role;
+import com.example.jwttutorial.service.MemberImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/admin/members")
+public class MemberImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemberImportController.class);
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final MemberImportService memberImportService;
+    private final ObjectMapper objectMapper;
+
+    public MemberImportController(MemberImportService memberImportService, ObjectMapper objectMapper) {
+        this.memberImportService = memberImportService;
+        this.objectMapper = objectMapper;
+    }
+
+    // 관리자가 NDJSON(한 줄에 MemberDTO 하나) 또는 CSV(membername,password,nickname, 쉼표가 든 값은 큰따옴표로 감쌈)로 회원을 일괄 가입
+    // 요청 본문을 읽는 동안 오류 행과 청크별 진행 상황을 NDJSON 으로 바로 응답에 씀
+    // 대용량 파일은 처리 시간이 길어 비동기 요청 타임아웃을 적용하지 않도록 요청 스레드에서 직접 처리
+    @PostMapping(value = "/import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @RequireRoles(Role.ROLE_ADMIN)
+    public void importMembers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        MemberImportService.Format format = request.getContentType().startsWith(TEXT_CSV_VALUE)
+                ? MemberImportService.Format.CSV
+                : MemberImportService.Format.NDJSON;
+        logger.debug("회원 일괄 가입 요청, 형식: {}", format);
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        Reader reader = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8);
+        memberImportService.importMembers(reader, format, event -> write(writer, event));
+        writer.flush();
+    }
+
+    // 오류 행은 버퍼에 모으고, 진행 상황과 요약을 쓸 때 클라이언트로 내보냄
+    private void write(Writer writer, MemberImportEventDTO event) {
+        try {
+            writer.write(objectMapper.writeValueAsString(event));
+            writer.write('\n');
+            if (!MemberImportEventDTO.ERROR.equals(event.getType())) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
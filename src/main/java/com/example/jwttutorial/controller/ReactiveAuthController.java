@@ -0,0 +1,194 @@
+package com.example.jwttutorial.controller;
+
+import com.example.jwttutorial.audit.AuditLog;
+import com.example.jwttutorial.dto.LoginDTO;
+import com.example.jwttutorial.dto.RefreshTokenDTO;
+import com.example.jwttutorial.dto.TokenDTO;
+import com.example.jwttutorial.jwt.JwtFilter;
+import com.example.jwttutorial.jwt.JwtServerAuthenticationEntryPoint;
+import com.example.jwttutorial.jwt.JwtWebFilter;
+import com.example.jwttutorial.jwt.TokenProvider;
+import com.example.jwttutorial.ratelimit.LoginAttemptService;
+import com.example.jwttutorial.ratelimit.LoginRateLimitedException;
+import com.example.jwttutorial.ratelimit.LoginRateLimiter;
+import com.example.jwttutorial.service.RefreshTokenService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import javax.validation.Valid;
+import java.util.concurrent.Callable;
+
+/**
+ * reactive 프로필의 AuthController, 같은 경로와 응답
+ *
+ * 시도 횟수 제한 확인과 토큰 서명은 이벤트 루프에서, 비밀번호 비교는 ReactiveAuthenticationManager 가 해시 스레드 풀에서,
+ * 회원/리프레시 토큰 조회와 저장은 블로킹 스케줄러에서 수행
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api")
+public class ReactiveAuthController {
+
+    // 리프레시 토큰으로 재발급할 때 로그인과 같은 계정 상태 검사(잠금, 비활성, 만료)
+    private static final UserDetailsChecker ACCOUNT_STATUS_CHECKER = new AccountStatusUserDetailsChecker();
+
+    private final TokenProvider tokenProvider;
+    private final ReactiveAuthenticationManager authenticationManager;
+    private final RefreshTokenService refreshTokenService;
+    private final UserDetailsService userDetailsService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final LoginAttemptService loginAttemptService;
+    private final AuditLog auditLog;
+    private final JwtServerAuthenticationEntryPoint authenticationEntryPoint;
+    private final Scheduler blockingScheduler;
+
+    public ReactiveAuthController(TokenProvider tokenProvider,
+                                  ReactiveAuthenticationManager authenticationManager,
+                                  RefreshTokenService refreshTokenService,
+                                  UserDetailsService userDetailsService,
+                                  LoginRateLimiter loginRateLimiter,
+                                  LoginAttemptService loginAttemptService,
+                                  AuditLog auditLog,
+                                  JwtServerAuthenticationEntryPoint authenticationEntryPoint,
+                                  Scheduler blockingScheduler) {
+        this.tokenProvider = tokenProvider;
+        this.authenticationManager = authenticationManager;
+        this.refreshTokenService = refreshTokenService;
+        this.userDetailsService = userDetailsService;
+        this.loginRateLimiter = loginRateLimiter;
+        this.loginAttemptService = loginAttemptService;
+        this.auditLog = auditLog;
+        this.authenticationEntryPoint = authenticationEntryPoint;
+        this.blockingScheduler = blockingScheduler;
+    }
+
+    @PostMapping("/authenticate")
+    public Mono<ResponseEntity<TokenDTO>> authorize(@Valid @RequestBody LoginDTO loginDTO, ServerHttpRequest request) {
+        String membername = loginDTO.getMembername();
+        String clientIp = JwtWebFilter.clientIp(request);
+
+        // 시도 횟수 제한은 메모리에서 바로 확인하고, 계정 잠금은 회원을 조회하므로 블로킹 스케줄러에서 확인
+        return blocking(() -> {
+                    loginRateLimiter.acquire(membername, clientIp);
+                    loginAttemptService.checkNotLocked(membername);
+                    return membername;
+                })
+                .doOnError(LoginRateLimitedException.class,
+                        e -> auditLog.loginFailure(membername, clientIp, "RATE_LIMITED"))
+                .then(Mono.defer(() -> authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(membername, loginDTO.getPassword()))))
+                .onErrorResume(AuthenticationException.class, e -> blocking(() -> {
+                    if (e instanceof BadCredentialsException) {
+                        // 비밀번호가 틀린 경우 연속 실패 횟수를 늘리고, 기준을 넘으면 계정을 잠금
+                        loginAttemptService.recordFailure(membername);
+                        loginRateLimiter.onFailure(clientIp);
+                        auditLog.loginFailure(membername, clientIp, "BAD_CREDENTIALS");
+                    } else {
+                        // 계정 잠금(LockedException), 비활성 계정 등
+                        auditLog.loginFailure(membername, clientIp, e.getClass().getSimpleName());
+                    }
+                    return e;
+                }).flatMap(Mono::error))
+                .flatMap(authentication -> blocking(() -> issue(authentication, clientIp)));
+    }
+
+    @PostMapping("/token/refresh")
+    public Mono<ResponseEntity<TokenDTO>> refresh(@Valid @RequestBody RefreshTokenDTO refreshTokenDTO,
+                                                  ServerHttpRequest request) {
+        String clientIp = JwtWebFilter.clientIp(request);
+        return blocking(() -> rotate(refreshTokenDTO, clientIp));
+    }
+
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<Void>> logout(ServerHttpRequest request,
+                                             @RequestBody(required = false) RefreshTokenDTO refreshTokenDTO) {
+        String jwt = JwtWebFilter.resolveToken(request);
+        return blocking(() -> {
+            // 요청에 사용된 액세스 토큰을 만료 시각까지 폐기
+            if (StringUtils.hasText(jwt)) {
+                tokenProvider.revoke(jwt);
+            }
+            // 리프레시 토큰을 함께 보낸 경우 같은 계열의 리프레시 토큰도 폐기
+            if (refreshTokenDTO != null && StringUtils.hasText(refreshTokenDTO.getRefreshToken())) {
+                refreshTokenService.revokeFamily(refreshTokenDTO.getRefreshToken());
+            }
+            return ResponseEntity.noContent().build();
+        });
+    }
+
+    // 로그인 실패, 유효하지 않은 리프레시 토큰 등은 서블릿 방식과 같은 401 응답
+    @ExceptionHandler(AuthenticationException.class)
+    public Mono<Void> handleAuthenticationException(AuthenticationException e, ServerWebExchange exchange) {
+        return authenticationEntryPoint.commence(exchange, e);
+    }
+
+    private ResponseEntity<TokenDTO> issue(Authentication authentication, String clientIp) {
+        loginAttemptService.recordSuccess(authentication.getName());
+        loginRateLimiter.onSuccess(authentication.getName());
+        auditLog.loginSuccess(authentication.getName(), clientIp);
+
+        String jwt = tokenProvider.createToken(authentication);
+        auditLog.tokenIssued(authentication.getName(), clientIp, jwt);
+        String refreshToken = refreshTokenService.issue(authentication.getName());
+        return createTokenResponse(jwt, refreshToken);
+    }
+
+    private ResponseEntity<TokenDTO> rotate(RefreshTokenDTO refreshTokenDTO, String clientIp) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshTokenDTO.getRefreshToken())
+                .orElseThrow(() -> new BadCredentialsException("유효하지 않은 리프레시 토큰입니다."));
+
+        // 비밀번호 검증 없이 현재 회원 정보와 권한으로 새 액세스 토큰 생성
+        UserDetails member = loadActiveMember(rotation);
+        Authentication authentication =
+                new UsernamePasswordAuthenticationToken(member, null, member.getAuthorities());
+        String jwt = tokenProvider.createToken(authentication);
+        auditLog.tokenIssued(rotation.getMembername(), clientIp, jwt);
+
+        return createTokenResponse(jwt, rotation.getRefreshToken());
+    }
+
+    // 로그인의 인증 전 검사와 같이 잠긴 회원(LockedException), 비활성/탈퇴 회원(DisabledException, UsernameNotFoundException)은 거절하고
+    // 방금 교체한 리프레시 토큰을 포함해 계열 전체를 폐기
+    private UserDetails loadActiveMember(RefreshTokenService.Rotation rotation) {
+        try {
+            UserDetails member = userDetailsService.loadUserByUsername(rotation.getMembername());
+            ACCOUNT_STATUS_CHECKER.check(member);
+            return member;
+        } catch (AuthenticationException e) {
+            refreshTokenService.revokeFamily(rotation.getRefreshToken());
+            throw e;
+        }
+    }
+
+    private ResponseEntity<TokenDTO> createTokenResponse(String jwt, String refreshToken) {
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.add(JwtFilter.AUTHORIZATION_HEADER, "Bearer " + jwt);
+
+        TokenDTO tokenDTO = TokenDTO.builder()
+                .token(jwt)
+                .refreshToken(refreshToken)
+                .build();
+        return new ResponseEntity<>(tokenDTO, httpHeaders, HttpStatus.OK);
+    }
+
+    private <T> Mono<T> blocking(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(blockingScheduler);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.jwttutorial.controller;
+
+import com.example.jwttutorial.authz.RequireRoles;
+import com.example.jwttutorial.dto.MemberDTO;
+import com.example.jwttutorial.dto.MemberInfoDTO;
+import com.example.jwttutorial.entity.Member;
+import com.example.jwttutorial.entity.Role;
+import com.example.jwttutorial.service.MemberService;
+import com.example.jwttutorial.util.ReactiveSecurityUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import javax.validation.Valid;
+import java.util.Optional;
+
+/**
+ * reactive 프로필의 MemberController, 같은 경로와 응답
+ * 비밀번호 해시와 DB 작업은 블로킹 스케줄러에서 수행하고, 토큰의 클레임만으로 응답할 수 있으면 이벤트 루프에서 바로 응답
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api")
+public class ReactiveMemberController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveMemberController.class);
+
+    private final MemberService memberService;
+    private final Scheduler blockingScheduler;
+
+    public ReactiveMemberController(MemberService memberService, Scheduler blockingScheduler) {
+        this.memberService = memberService;
+        this.blockingScheduler = blockingScheduler;
+    }
+
+    @PostMapping("/signup")
+    public Mono<ResponseEntity<Member>> signup(@Valid @RequestBody MemberDTO memberDTO) {
+        return Mono.fromCallable(() -> ResponseEntity.ok(memberService.signup(memberDTO)))
+                .subscribeOn(blockingScheduler);
+    }
+
+    @GetMapping("/member")
+    @RequireRoles({Role.ROLE_MEMBER, Role.ROLE_ADMIN})
+    public Mono<ResponseEntity<MemberInfoDTO>> getMyMemberInfo() {
+        return ReactiveSecurityUtil.getCurrentPrincipal()
+                .flatMap(principal -> principal.hasProfile()
+                        ? Mono.justOrEmpty(memberService.getMemberInfo(principal))
+                        // mid / nick 클레임이 없는 이전 토큰이면 닉네임을 DB 에서 조회하므로 블로킹 스케줄러에서 수행
+                        : Mono.fromCallable(() -> memberService.getMemberInfo(principal))
+                                .subscribeOn(blockingScheduler)
+                                .flatMap(Mono::justOrEmpty))
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/member/{membername}")
+    @RequireRoles(Role.ROLE_ADMIN)
+    public Mono<ResponseEntity<Member>> getMemberInfo(@PathVariable String membername) {
+        logger.debug("요청받은 회원명: {}", membername);
+        return Mono.fromCallable(() -> memberService.getMemberWithAuthorities(membername))
+                .subscribeOn(blockingScheduler)
+                .map(Optional::get)
+                .map(ResponseEntity::ok);
+    }
+}
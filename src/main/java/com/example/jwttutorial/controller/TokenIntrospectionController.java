@@ -0,0 +1,56 @@
+package com.example.jwttutorial.controller;
+
+import com.example.jwttutorial.authz.RequireRoles;
+import com.example.jwttutorial.dto.TokenIntrospectionDTO;
+import com.example.jwttutorial.entity.Role;
+import com.example.jwttutorial.jwt.TokenProvider;
+import com.example.jwttutorial.jwt.TokenVerification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.StringJoiner;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/token")
+public class TokenIntrospectionController {
+
+    private static final TokenIntrospectionDTO INACTIVE = TokenIntrospectionDTO.builder().active(false).build();
+
+    private final TokenProvider tokenProvider;
+
+    public TokenIntrospectionController(TokenProvider tokenProvider) {
+        this.tokenProvider = tokenProvider;
+    }
+
+    // JWT 를 직접 검증할 수 없는 내부 서비스가 액세스 토큰(JWT 또는 참조 토큰)의 유효성과 클레임을 조회
+    // 토큰을 대입해 보는 용도로 쓰이지 않도록 관리자 권한이 있는 호출자만 허용
+    @PostMapping(value = "/introspect", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    @RequireRoles(Role.ROLE_ADMIN)
+    public ResponseEntity<TokenIntrospectionDTO> introspect(@RequestParam("token") String token) {
+        TokenVerification verification = tokenProvider.verify(token);
+        if (!verification.isValid()) {
+            return ResponseEntity.ok(INACTIVE);
+        }
+
+        Authentication authentication = verification.getAuthentication();
+        StringJoiner scope = new StringJoiner(" ");
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            scope.add(authority.getAuthority());
+        }
+        return ResponseEntity.ok(TokenIntrospectionDTO.builder()
+                .active(true)
+                .sub(authentication.getName())
+                .exp(verification.getExpiresAtMillis() / 1000)
+                .jti(verification.getTokenId())
+                .scope(scope.toString())
+                .build());
+    }
+}
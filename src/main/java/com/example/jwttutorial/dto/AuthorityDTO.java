@@ -0,0 +1,13 @@
+package com.example.jwttutorial.dto;
+
+import lombok.*;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class AuthorityDTO {
+
+    private String authorityName;
+}
@@ -0,0 +1,39 @@
+package com.example.jwttutorial.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+/**
+ * 회원 일괄 가입 진행 상황 (NDJSON 한 줄)
+ *
+ * type
+ * error: 가입하지 못한 행 (line, membername, message)
+ * progress: 청크 하나를 처리할 때마다 누적 건수
+ * summary: 마지막 줄, 전체 누적 건수
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MemberImportEventDTO {
+
+    public static final String ERROR = "error";
+    public static final String PROGRESS = "progress";
+    public static final String SUMMARY = "summary";
+
+    private String type;
+
+    private Long line;
+
+    private String membername;
+
+    private String message;
+
+    private Long processed;
+
+    private Long imported;
+
+    private Long failed;
+
+}
@@ -0,0 +1,25 @@
+package com.example.jwttutorial.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 내 정보 조회 응답 (/api/member)
+ * 기존 Member 엔티티 응답과 같은 필드 이름을 사용하며, 비밀번호 해시는 포함하지 않음
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class MemberInfoDTO {
+
+    private String membername;
+
+    private String nickname;
+
+    private boolean activated;
+
+    private List<AuthorityDTO> authorities;
+}
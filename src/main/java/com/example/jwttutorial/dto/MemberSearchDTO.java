@@ -0,0 +1,33 @@
+package com.example.jwttutorial.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자 회원 검색 결과 한 건 (목록 응답의 항목, 내보내기 NDJSON 의 한 줄)
+ * member 테이블의 필요한 컬럼만 조회하며 비밀번호 해시 등은 포함하지 않음
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberSearchDTO {
+
+    private Long memberId;
+
+    private String membername;
+
+    private String nickname;
+
+    private boolean activated;
+
+    private List<String> authorities;
+
+    // JPQL 생성자 표현식용, 권한은 페이지 단위로 한 번에 조회하여 채움
+    public MemberSearchDTO(Long memberId, String membername, String nickname, boolean activated) {
+        this(memberId, membername, nickname, activated, new ArrayList<>());
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.example.jwttutorial.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 관리자 회원 검색 한 페이지
+ * 다음 페이지는 nextAfter 를 after 파라미터로 넘겨 조회하며, 마지막 페이지이면 nextAfter 는 null
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberSearchPageDTO {
+
+    private List<MemberSearchDTO> members;
+
+    private Long nextAfter;
+
+}
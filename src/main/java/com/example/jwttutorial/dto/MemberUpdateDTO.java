@@ -0,0 +1,22 @@
+package com.example.jwttutorial.dto;
+
+import com.example.jwttutorial.entity.Role;
+import lombok.*;
+
+import javax.validation.constraints.Size;
+import java.util.Set;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberUpdateDTO {
+
+    // 새 권한 목록 (null 이면 변경하지 않음)
+    @Size(min = 1)
+    private Set<Role> authorities;
+
+    // 활성화 여부 (null 이면 변경하지 않음)
+    private Boolean activated;
+
+}
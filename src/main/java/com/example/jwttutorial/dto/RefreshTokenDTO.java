@@ -0,0 +1,18 @@
+package com.example.jwttutorial.dto;
+
+import lombok.*;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshTokenDTO {
+
+    @NotBlank
+    @Size(max = 100)
+    private String refreshToken;
+
+}
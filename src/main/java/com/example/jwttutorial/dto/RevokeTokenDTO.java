@@ -0,0 +1,21 @@
+package com.example.jwttutorial.dto;
+
+import lombok.*;
+
+import javax.validation.constraints.Size;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevokeTokenDTO {
+
+    // 폐기할 액세스 토큰 원문 (tokenId 와 둘 중 하나)
+    @Size(max = 4096)
+    private String token;
+
+    // 폐기할 토큰의 ID (jti)
+    @Size(max = 36)
+    private String tokenId;
+
+}
@@ -10,4 +10,6 @@ public class TokenDTO {
 
     private String token;
 
+    private String refreshToken;
+
 }
@@ -0,0 +1,31 @@
+package com.example.jwttutorial.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+/**
+ * 토큰 조회 응답 (/api/token/introspect, RFC 7662 형식)
+ * 유효하지 않은 토큰은 사유와 관계없이 {"active":false} 만 반환
+ *
+ * sub: 회원 이름
+ * exp: 만료 시각 (epoch seconds)
+ * jti: 토큰 ID
+ * scope: 권한 이름을 공백으로 구분한 문자열
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospectionDTO {
+
+    private boolean active;
+
+    private String sub;
+
+    private Long exp;
+
+    private String jti;
+
+    private String scope;
+}
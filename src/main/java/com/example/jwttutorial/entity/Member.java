@@ -5,14 +5,16 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.springframework.security.core.GrantedAuthority;
 
 import javax.persistence.*;
-import java.util.Collection;
+import java.time.Instant;
 import java.util.Set;
 
 @Entity
-@Table(name = "member")
+@Table(name = "member", indexes = {
+        // 관리자 회원 검색의 활성화 여부 조건 + member_id keyset 페이지
+        @Index(name = "ix_member_activated_id", columnList = "activated, member_id")
+})
 @Data
 @Builder
 @AllArgsConstructor
@@ -22,13 +24,17 @@ public class Member {
     @JsonIgnore
     @Id
     @Column(name = "member_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 마다 키를 받아와야 해서 JDBC 배치가 비활성화되므로,
+    // 시퀀스 값을 50개씩 미리 할당받는 pooled 시퀀스 사용
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = 50)
     private Long memberId;
 
     @Column(name = "member_name", length = 50, unique = true)
     private String membername;
 
-    @Column(name = "password", length = 100)
+    // {bcrypt}, {argon2}, {pbkdf2} 접두사를 포함한 해시를 저장
+    @Column(name = "password", length = 255)
     private String password;
 
     @Column(name = "nickName", length = 50)
@@ -41,13 +47,27 @@ public class Member {
     @Column(name = "activated")
     private boolean activated;
 
+    // 연속 로그인 실패 횟수, 로그인에 성공하면 0 으로 초기화
+    @JsonIgnore
+    @Column(name = "failed_login_count", nullable = false)
+    private int failedLoginCount;
+
+    // 이 시각까지 로그인 불가 (연속 실패에 따른 잠금)
+    @JsonIgnore
+    @Column(name = "locked_until")
+    private Instant lockedUntil;
+
+    // 권한 변경이나 비활성화마다 1씩 증가, 액세스 토큰의 sv 클레임과 비교하여 변경 전에 발급된 토큰을 거절
+    @JsonIgnore
+    @Column(name = "security_version", nullable = false)
+    private int securityVersion;
+
     @ManyToMany
     @JoinTable(
             name = "member_authority",
             joinColumns = {@JoinColumn(name = "member_id", referencedColumnName = "member_id")},
-            inverseJoinColumns = {@JoinColumn(name = "authority_name", referencedColumnName = "authority_name")})
+            inverseJoinColumns = {@JoinColumn(name = "authority_name", referencedColumnName = "authority_name")},
+            // 관리자 회원 검색의 권한 조건 (기본 키 (member_id, authority_name) 는 권한으로 찾을 수 없음)
+            indexes = {@Index(name = "ix_member_authority_authority", columnList = "authority_name, member_id")})
     private Set<Authority> authorities;
-
-    public Member(String subject, String s, Collection<? extends GrantedAuthority> authorities) {
-    }
 }
@@ -0,0 +1,60 @@
+package com.example.jwttutorial.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+/**
+ * 참조 토큰 (jwt.reference-token.enabled=true 일 때 발급되는 액세스 토큰)
+ * 토큰 원문은 저장하지 않고 SHA-256 다이제스트(token_hash)로만 조회
+ *
+ * 토큰에 담기지 않는 클레임(회원 이름, ID, 닉네임, 권한)을 서버에 보관하며,
+ * 재시작하거나 다른 인스턴스에서 발급된 토큰을 처음 검증할 때만 조회됨 (ReferenceTokenStore)
+ */
+@Entity
+@Table(name = "reference_token", indexes = {
+        @Index(name = "ux_reference_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "ix_reference_token_expires_at", columnList = "expires_at")
+})
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReferenceToken {
+
+    @Id
+    @Column(name = "reference_token_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long referenceTokenId;
+
+    @Column(name = "token_hash", length = 64, nullable = false)
+    private String tokenHash;
+
+    // 폐기 목록(TokenDenylist)에서 JWT 의 jti 와 같이 사용하는 토큰 ID
+    @Column(name = "token_id", length = 36, nullable = false)
+    private String tokenId;
+
+    @Column(name = "member_name", length = 50, nullable = false)
+    private String membername;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "nick_name", length = 50)
+    private String nickname;
+
+    // 쉼표로 구분한 권한 이름 (JWT 의 auth 클레임과 같은 형식)
+    @Column(name = "authorities", length = 255, nullable = false)
+    private String authorities;
+
+    // 발급 당시 회원의 보안 버전 (JWT 의 sv 클레임과 같은 값)
+    @Column(name = "security_version", nullable = false)
+    private int securityVersion;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
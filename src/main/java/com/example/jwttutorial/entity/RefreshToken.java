@@ -0,0 +1,54 @@
+package com.example.jwttutorial.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+/**
+ * 리프레시 토큰
+ * 토큰 원문은 저장하지 않고 SHA-256 다이제스트(token_hash)로만 조회
+ *
+ * 한 번의 로그인에서 시작된 리프레시 토큰들은 같은 family_id 를 가지며,
+ * 이미 사용된 토큰이 다시 들어오면 탈취된 것으로 보고 같은 계열의 토큰을 모두 폐기
+ */
+@Entity
+@Table(name = "refresh_token", indexes = {
+        @Index(name = "ux_refresh_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "ix_refresh_token_family", columnList = "family_id"),
+        @Index(name = "ix_refresh_token_expires_at", columnList = "expires_at")
+})
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshToken {
+
+    @Id
+    @Column(name = "refresh_token_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long refreshTokenId;
+
+    @Column(name = "token_hash", length = 64, nullable = false)
+    private String tokenHash;
+
+    @Column(name = "family_id", length = 36, nullable = false)
+    private String familyId;
+
+    @Column(name = "member_name", length = 50, nullable = false)
+    private String membername;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    // 새 토큰으로 교체되어 더 이상 사용할 수 없는 토큰
+    @Column(name = "used", nullable = false)
+    private boolean used;
+
+    // 재사용 감지 또는 로그아웃으로 폐기된 토큰
+    @Column(name = "revoked", nullable = false)
+    private boolean revoked;
+}
@@ -0,0 +1,48 @@
+package com.example.jwttutorial.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+/**
+ * 인스턴스 간 공유 상태 항목 (DatabaseSharedStateStore)
+ * namespace + key 마다 long 값 하나와 만료 시각을 저장
+ *
+ * updated_at 은 값을 바꾼 인스턴스의 시각이며, 각 인스턴스는 이전 동기화 이후 바뀐 행만 가져감
+ */
+@Entity
+@Table(name = "shared_state_entry", indexes = {
+        @Index(name = "ux_shared_state_entry_key", columnList = "state_namespace, entry_key", unique = true),
+        @Index(name = "ix_shared_state_entry_updated_at", columnList = "updated_at"),
+        @Index(name = "ix_shared_state_entry_expires_at", columnList = "expires_at")
+})
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SharedStateEntry {
+
+    @Id
+    @Column(name = "shared_state_entry_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long sharedStateEntryId;
+
+    @Column(name = "state_namespace", length = 50, nullable = false)
+    private String stateNamespace;
+
+    @Column(name = "entry_key", length = 100, nullable = false)
+    private String entryKey;
+
+    @Column(name = "entry_value", nullable = false)
+    private long entryValue;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,194 @@
+package com.example.jwttutorial.jwt;
+
+import com.example.jwttutorial.entity.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰의 권한 클레임 인코딩/디코딩
+ *
+ * 문자열 방식 (jwt.claims.compact=false, 기존 방식)
+ * auth: "ROLE_MEMBER,ROLE_ADMIN"
+ *
+ * 압축 방식 (jwt.claims.compact=true)
+ * a1: Role 의 ordinal 을 비트 위치로 사용하는 비트마스크 (키 이름의 숫자가 인코딩 버전)
+ * auth: Role 에 없는 권한이 있는 경우에만 그 권한들을 문자열 방식으로 함께 기록
+ *
+ * 읽을 때는 설정과 관계없이 두 방식을 모두 해석하므로 설정을 바꿔도 이미 발급된 토큰은 그대로 사용 가능
+ * 디코딩 결과는 권한 조합마다 하나씩 만들어 둔 불변 리스트를 공유하므로 요청마다 권한 객체를 만들지 않음
+ */
+@Component
+public class AuthorityCodec {
+
+    public static final String AUTHORITIES_KEY = "auth";
+    public static final String ROLE_MASK_KEY = "a1";
+
+    private static final Role[] ROLES = Role.values();
+    private static final Map<String, Integer> ROLE_BITS = new HashMap<>();
+    private static final List<GrantedAuthority>[] AUTHORITIES_BY_MASK;
+
+    private static final int MAX_INTERNED_STRINGS = 1024;
+
+    static {
+        for (Role role : ROLES) {
+            ROLE_BITS.put(role.name(), 1 << role.ordinal());
+        }
+
+        @SuppressWarnings("unchecked")
+        List<GrantedAuthority>[] byMask = new List[1 << ROLES.length];
+        for (int mask = 0; mask < byMask.length; mask++) {
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            for (Role role : ROLES) {
+                if ((mask & (1 << role.ordinal())) != 0) {
+                    authorities.add(new SimpleGrantedAuthority(role.name()));
+                }
+            }
+            byMask[mask] = Collections.unmodifiableList(authorities);
+        }
+        AUTHORITIES_BY_MASK = byMask;
+    }
+
+    private final boolean compact;
+
+    // 문자열 클레임 -> 권한 리스트, 서로 다른 권한 조합은 많지 않으므로 크기를 제한하고 넘치면 캐시하지 않음
+    private final Map<String, List<GrantedAuthority>> authoritiesByString = new ConcurrentHashMap<>();
+
+    public AuthorityCodec(@Value("${jwt.claims.compact:false}") boolean compact) {
+        this.compact = compact;
+    }
+
+    public boolean isCompact() {
+        return compact;
+    }
+
+    // 권한 목록을 설정된 방식으로 토큰 클레임에 기록
+    public void write(Collection<? extends GrantedAuthority> authorities, JwtBuilder builder) {
+        Integer mask = maskClaim(authorities);
+        if (mask != null) {
+            builder.claim(ROLE_MASK_KEY, mask);
+        }
+        String names = namesClaim(authorities);
+        if (names != null) {
+            builder.claim(AUTHORITIES_KEY, names);
+        }
+    }
+
+    // write 가 기록하는 a1 클레임 값, 문자열 방식이면 null
+    public Integer maskClaim(Collection<? extends GrantedAuthority> authorities) {
+        return compact ? roleMask(authorities) : null;
+    }
+
+    // write 가 기록하는 auth 클레임 값, 압축 방식에서 Role 에 없는 권한이 없으면 null
+    public String namesClaim(Collection<? extends GrantedAuthority> authorities) {
+        if (!compact) {
+            return join(authorities, false);
+        }
+        for (GrantedAuthority authority : authorities) {
+            if (!ROLE_BITS.containsKey(authority.getAuthority())) {
+                return join(authorities, true);
+            }
+        }
+        return null;
+    }
+
+    // 토큰 클레임에서 권한 목록을 읽음, 반환 리스트는 불변이며 같은 권한 조합끼리 공유됨
+    public List<GrantedAuthority> read(Claims claims) {
+        return read(claims.get(ROLE_MASK_KEY), claims.get(AUTHORITIES_KEY));
+    }
+
+    // a1 / auth 클레임 값으로 권한 목록을 읽음 (없는 클레임은 null)
+    public List<GrantedAuthority> read(Object mask, Object names) {
+        if (mask instanceof Number) {
+            List<GrantedAuthority> roles = byMask(((Number) mask).intValue());
+            return names == null ? roles : merge(roles, intern(names.toString()));
+        }
+        return names == null ? AUTHORITIES_BY_MASK[0] : intern(names.toString());
+    }
+
+    // 권한 목록을 문자열 방식(auth 클레임과 같은 쉼표 구분)으로 변환 (참조 토큰 저장용)
+    public static String toNames(Collection<? extends GrantedAuthority> authorities) {
+        return join(authorities, false);
+    }
+
+    // 쉼표로 구분한 권한 이름을 공유 권한 리스트로 변환
+    public List<GrantedAuthority> fromNames(String names) {
+        return intern(names);
+    }
+
+    // 권한 목록 중 Role 에 해당하는 권한만 비트마스크로 변환 (RoleRules 의 권한 확인에 사용)
+    public static int roleMask(Collection<? extends GrantedAuthority> authorities) {
+        int mask = 0;
+        for (GrantedAuthority authority : authorities) {
+            Integer bit = ROLE_BITS.get(authority.getAuthority());
+            if (bit != null) {
+                mask |= bit;
+            }
+        }
+        return mask;
+    }
+
+    // 알 수 없는 비트(이후 버전에서 추가된 Role)는 권한을 넓히지 않도록 무시
+    private static List<GrantedAuthority> byMask(int mask) {
+        return AUTHORITIES_BY_MASK[mask & (AUTHORITIES_BY_MASK.length - 1)];
+    }
+
+    private List<GrantedAuthority> intern(String names) {
+        List<GrantedAuthority> authorities = authoritiesByString.get(names);
+        if (authorities != null) {
+            return authorities;
+        }
+
+        authorities = parse(names);
+        if (authoritiesByString.size() < MAX_INTERNED_STRINGS) {
+            authoritiesByString.putIfAbsent(names, authorities);
+        }
+        return authorities;
+    }
+
+    // Role 로만 이루어진 조합이면 비트마스크 리스트를 공유
+    private static List<GrantedAuthority> parse(String names) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        int mask = 0;
+        boolean onlyRoles = true;
+        for (String name : names.split(",")) {
+            if (name.isEmpty()) {
+                continue;
+            }
+            Integer bit = ROLE_BITS.get(name);
+            if (bit != null) {
+                mask |= bit;
+            } else {
+                onlyRoles = false;
+            }
+            authorities.add(new SimpleGrantedAuthority(name));
+        }
+        return onlyRoles ? byMask(mask) : Collections.unmodifiableList(authorities);
+    }
+
+    private static List<GrantedAuthority> merge(List<GrantedAuthority> roles, List<GrantedAuthority> others) {
+        if (roles.isEmpty()) {
+            return others;
+        }
+        List<GrantedAuthority> merged = new ArrayList<>(roles.size() + others.size());
+        merged.addAll(roles);
+        merged.addAll(others);
+        return Collections.unmodifiableList(merged);
+    }
+
+    private static String join(Collection<? extends GrantedAuthority> authorities, boolean othersOnly) {
+        StringJoiner joiner = new StringJoiner(",");
+        for (GrantedAuthority authority : authorities) {
+            if (!othersOnly || !ROLE_BITS.containsKey(authority.getAuthority())) {
+                joiner.add(authority.getAuthority());
+            }
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.jwttutorial.jwt;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 블룸 필터
+ * mightContain 이 false 이면 확실히 없는 값이고, true 이면 정확한 집합에서 다시 확인해야 함
+ *
+ * 해시는 String.hashCode 와 FNV-1a 두 값을 조합(double hashing)하여 계산하므로 조회 시 객체를 생성하지 않음
+ * 비트 배열은 AtomicLongArray 를 사용하여 여러 스레드가 동시에 추가/조회해도 비트가 유실되지 않음
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    // expectedEntries 개를 넣었을 때 오탐률이 falsePositiveRate 가 되도록 크기 계산
+    BloomFilter(int expectedEntries, double falsePositiveRate) {
+        int entries = Math.max(expectedEntries, 1);
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (ln2 * ln2));
+
+        this.bitCount = (int) Math.max(64L, Math.min(optimalBits, Integer.MAX_VALUE - 64L));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / entries * ln2));
+        this.bits = new AtomicLongArray((bitCount + 63) >>> 6);
+    }
+
+    void add(String value) {
+        int hash1 = value.hashCode();
+        int hash2 = secondaryHash(value);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(hash1 + i * hash2);
+            int word = index >>> 6;
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String value) {
+        int hash1 = value.hashCode();
+        int hash2 = secondaryHash(value);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(hash1 + i * hash2);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(int hash) {
+        return (hash & Integer.MAX_VALUE) % bitCount;
+    }
+
+    // FNV-1a, 홀수로 만들어 double hashing 간격이 0 이 되지 않도록 함
+    private static int secondaryHash(String value) {
+        int hash = 0x811c9dc5;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x01000193;
+        }
+        return hash | 1;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.jwttutorial.jwt;
+
+/**
+ * Hs512TokenEngine 이 읽고 쓰는 고정된 클레임 묶음 (TokenProvider 가 발급하는 토큰의 클레임과 같음)
+ *
+ * jti, sub, a1(비트마스크), auth(권한 문자열), mid, nick, sv(없으면 0), exp(epoch seconds)
+ * 검증 결과로 쓰일 때 status 가 VALID 가 아니면 클레임 없이 거부 사유만 가짐 (미리 만들어 둔 인스턴스)
+ */
+final class Hs512Claims {
+
+    static final Hs512Claims BAD_SIGNATURE = new Hs512Claims(TokenVerification.Status.BAD_SIGNATURE);
+    static final Hs512Claims EXPIRED = new Hs512Claims(TokenVerification.Status.EXPIRED);
+
+    private final TokenVerification.Status status;
+    private final String tokenId;
+    private final String subject;
+    private final Integer roleMask;
+    private final String authorities;
+    private final Long memberId;
+    private final String nickname;
+    private final int securityVersion;
+    private final long expirationSeconds;
+
+    Hs512Claims(String tokenId, String subject, Integer roleMask, String authorities,
+                Long memberId, String nickname, int securityVersion, long expirationSeconds) {
+        this.status = TokenVerification.Status.VALID;
+        this.tokenId = tokenId;
+        this.subject = subject;
+        this.roleMask = roleMask;
+        this.authorities = authorities;
+        this.memberId = memberId;
+        this.nickname = nickname;
+        this.securityVersion = securityVersion;
+        this.expirationSeconds = expirationSeconds;
+    }
+
+    private Hs512Claims(TokenVerification.Status status) {
+        this.status = status;
+        this.tokenId = null;
+        this.subject = null;
+        this.roleMask = null;
+        this.authorities = null;
+        this.memberId = null;
+        this.nickname = null;
+        this.securityVersion = 0;
+        this.expirationSeconds = 0L;
+    }
+
+    TokenVerification.Status getStatus() {
+        return status;
+    }
+
+    boolean isValid() {
+        return status == TokenVerification.Status.VALID;
+    }
+
+    String getTokenId() {
+        return tokenId;
+    }
+
+    String getSubject() {
+        return subject;
+    }
+
+    // a1 클레임, 없으면 null
+    Integer getRoleMask() {
+        return roleMask;
+    }
+
+    // auth 클레임, 없으면 null
+    String getAuthorities() {
+        return authorities;
+    }
+
+    Long getMemberId() {
+        return memberId;
+    }
+
+    String getNickname() {
+        return nickname;
+    }
+
+    // sv 클레임, 없으면 0
+    int getSecurityVersion() {
+        return securityVersion;
+    }
+
+    long getExpirationSeconds() {
+        return expirationSeconds;
+    }
+}
@@ -0,0 +1,495 @@
+package com.example.jwttutorial.jwt;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import javax.crypto.Mac;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TokenProvider 가 발급하는 모양의 HS512 토큰만 처리하는 서명/검증 경로 (그 외 토큰은 JJWT 가 처리)
+ *
+ * JJWT 는 토큰마다 Mac 인스턴스를 새로 얻고, Base64URL 디코딩 결과를 새 배열로 만들고, 헤더와 본문을 Map 으로 역직렬화함
+ * 이 클래스는 스레드마다 한 번 초기화한 Mac 과 버퍼를 재사용하고, 본문은 Jackson 스트리밍 파서로 Hs512Claims 에 바로 읽음
+ *
+ * 헤더: 키마다 JJWT 가 만드는 헤더({"kid":"..","alg":"HS512"})와 kid 없는 기본 키 헤더({"alg":"HS512"})만 처리
+ * 서명: 부분 문자열을 만들지 않고 토큰 문자열을 바로 MAC 계산, 서명 비교는 길이와 관계없이 항상 64바이트를 모두 비교
+ * 본문: jti, sub, a1, auth, mid, nick, sv, exp 외의 클레임, 잘못된 타입, 중복 클레임이 있으면 처리하지 않음
+ *
+ * verify 가 null 을 반환하면 JJWT 로 다시 검증해야 함
+ * 서명이 틀린 토큰은 본문을 읽기 전에 BAD_SIGNATURE 로 거절하므로, 본문 JSON 까지 깨진 토큰은 JJWT(MALFORMED)와 사유가 다를 수 있음
+ */
+final class Hs512TokenEngine {
+
+    static final String ALGORITHM = "HmacSHA512";
+    static final int SIGNATURE_LENGTH = 64;
+    // 64바이트 서명의 패딩 없는 Base64URL 길이
+    static final int ENCODED_SIGNATURE_LENGTH = 86;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final byte[] BASE64_URL_CHARS =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final int[] BASE64_URL_VALUES = new int[128];
+
+    // 본문 클레임별 비트 (중복 확인용)
+    private static final int JTI = 1;
+    private static final int SUB = 1 << 1;
+    private static final int ROLE_MASK = 1 << 2;
+    private static final int AUTHORITIES = 1 << 3;
+    private static final int MEMBER_ID = 1 << 4;
+    private static final int NICKNAME = 1 << 5;
+    private static final int SECURITY_VERSION = 1 << 6;
+    private static final int EXP = 1 << 7;
+
+    static {
+        Arrays.fill(BASE64_URL_VALUES, -1);
+        for (int i = 0; i < BASE64_URL_CHARS.length; i++) {
+            BASE64_URL_VALUES[BASE64_URL_CHARS[i]] = i;
+        }
+    }
+
+    // 슬롯 번호 -> HMAC 키, 헤더 -> 슬롯 번호 (초기화 이후 변경되지 않음)
+    private final Key[] keys;
+    private final String[] headers;
+    private final int[] headerSlots;
+    private final Map<String, Integer> slotsByKeyId;
+    private final byte[][] signingHeaders;
+    private final ThreadLocal<Buffers> buffers;
+
+    Hs512TokenEngine(JwtKeyRegistry keyRegistry) {
+        List<Key> slotKeys = new ArrayList<>();
+        List<byte[]> slotHeaders = new ArrayList<>();
+        Map<String, Integer> slots = new HashMap<>();
+        List<String> knownHeaders = new ArrayList<>();
+        List<Integer> knownHeaderSlots = new ArrayList<>();
+
+        for (SigningKey signingKey : keyRegistry.getKeys()) {
+            if (signingKey.getAlgorithm() != SignatureAlgorithm.HS512) {
+                continue;
+            }
+            int slot = slotKeys.size();
+            slotKeys.add(signingKey.getVerificationKey());
+            slots.put(signingKey.getId(), slot);
+
+            byte[] header = encode(header(signingKey.getId()));
+            slotHeaders.add(header);
+            knownHeaders.add(new String(header, StandardCharsets.US_ASCII));
+            knownHeaderSlots.add(slot);
+            // kid 가 없는 토큰은 기본 키로 검증 (JwtKeyRegistry 와 같은 규칙)
+            if (JwtKeyRegistry.DEFAULT_KEY_ID.equals(signingKey.getId())) {
+                knownHeaders.add(new String(encode(header(null)), StandardCharsets.US_ASCII));
+                knownHeaderSlots.add(slot);
+            }
+        }
+
+        this.keys = slotKeys.toArray(new Key[0]);
+        this.signingHeaders = slotHeaders.toArray(new byte[0][]);
+        this.slotsByKeyId = Map.copyOf(slots);
+        this.headers = knownHeaders.toArray(new String[0]);
+        this.headerSlots = knownHeaderSlots.stream().mapToInt(Integer::intValue).toArray();
+        this.buffers = ThreadLocal.withInitial(() -> new Buffers(keys.length));
+    }
+
+    // 이 엔진으로 서명할 수 있는 키인지 여부
+    boolean canSign(SigningKey signingKey) {
+        return signingKey.getAlgorithm() == SignatureAlgorithm.HS512 && slotsByKeyId.containsKey(signingKey.getId());
+    }
+
+    /**
+     * 클레임을 JJWT 와 같은 헤더/클레임 순서로 직렬화하여 서명한 토큰
+     */
+    String sign(SigningKey signingKey, Hs512Claims claims) {
+        int slot = slotsByKeyId.get(signingKey.getId());
+        Buffers buffer = buffers.get();
+
+        ExposedByteArrayOutputStream payload = buffer.payloadOutput;
+        payload.reset();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(payload)) {
+            writeClaims(generator, claims);
+        } catch (IOException e) {
+            throw new IllegalStateException("JWT 클레임을 직렬화하지 못했습니다.", e);
+        }
+
+        byte[] header = signingHeaders[slot];
+        int length = header.length + 1 + encodedLength(payload.size()) + 1 + ENCODED_SIGNATURE_LENGTH;
+        byte[] token = buffer.token(length);
+        System.arraycopy(header, 0, token, 0, header.length);
+        int position = header.length;
+        token[position++] = '.';
+        position = encode(payload.buffer(), 0, payload.size(), token, position);
+
+        Mac mac = buffer.mac(slot, keys[slot]);
+        mac.update(token, 0, position);
+        doFinal(mac, buffer.signature);
+
+        token[position++] = '.';
+        position = encode(buffer.signature, 0, SIGNATURE_LENGTH, token, position);
+        return new String(token, 0, position, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 검증 결과 클레임, 거절이면 Hs512Claims.BAD_SIGNATURE / EXPIRED, 이 엔진이 처리할 수 없는 토큰이면 null
+     */
+    Hs512Claims verify(String token, long nowMillis) {
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+        int slot = headerSlot(token, firstDot);
+        // 서명 없는 토큰(JJWT 의 UNSUPPORTED)도 JJWT 에 맡김
+        if (slot < 0 || secondDot == token.length() - 1) {
+            return null;
+        }
+
+        Buffers buffer = buffers.get();
+        int length = token.length();
+        byte[] bytes = buffer.token(length);
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c >= 128 || (c != '.' && BASE64_URL_VALUES[c] < 0)) {
+                return null;
+            }
+            bytes[i] = (byte) c;
+        }
+
+        // 서명 확인 (길이가 다르면 계산은 하되 틀린 서명으로 처리)
+        Mac mac = buffer.mac(slot, keys[slot]);
+        mac.update(bytes, 0, secondDot);
+        doFinal(mac, buffer.expected);
+        int diff = length - secondDot - 1 == ENCODED_SIGNATURE_LENGTH ? 0 : 1;
+        if (diff == 0) {
+            decode(bytes, secondDot + 1, length, buffer.signature, 0);
+        }
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            diff |= buffer.signature[i] ^ buffer.expected[i];
+        }
+        if (diff != 0) {
+            return Hs512Claims.BAD_SIGNATURE;
+        }
+
+        int payloadLength = decodedLength(secondDot - firstDot - 1);
+        byte[] payload = buffer.payload(payloadLength);
+        decode(bytes, firstDot + 1, secondDot, payload, 0);
+        Hs512Claims claims = readClaims(payload, payloadLength);
+        if (claims == null) {
+            return null;
+        }
+        // JJWT 와 같이 현재 시각이 exp 를 지난 경우 만료
+        if (nowMillis > claims.getExpirationSeconds() * 1000) {
+            return Hs512Claims.EXPIRED;
+        }
+        return claims;
+    }
+
+    private int headerSlot(String token, int headerLength) {
+        for (int i = 0; i < headers.length; i++) {
+            String header = headers[i];
+            if (header.length() == headerLength && token.regionMatches(0, header, 0, headerLength)) {
+                return headerSlots[i];
+            }
+        }
+        return -1;
+    }
+
+    // 허용된 클레임만 있는 JSON 객체 하나면 클레임, 그 외에는 null
+    private static Hs512Claims readClaims(byte[] payload, int length) {
+        String tokenId = null;
+        String subject = null;
+        Integer roleMask = null;
+        String authorities = null;
+        Long memberId = null;
+        String nickname = null;
+        int securityVersion = 0;
+        long expiration = 0L;
+        int seen = 0;
+
+        // JJWT 는 '{' 로 시작하고 '}' 로 끝나는 본문만 클레임으로 읽음
+        if (length < 2 || payload[0] != '{' || payload[length - 1] != '}') {
+            return null;
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(payload, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                int field;
+                switch (name) {
+                    case "jti":
+                        field = JTI;
+                        tokenId = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                        break;
+                    case "sub":
+                        field = SUB;
+                        subject = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                        break;
+                    case AuthorityCodec.ROLE_MASK_KEY:
+                        field = ROLE_MASK;
+                        roleMask = isInteger(parser, value, JsonParser.NumberType.INT) ? parser.getIntValue() : null;
+                        break;
+                    case AuthorityCodec.AUTHORITIES_KEY:
+                        field = AUTHORITIES;
+                        authorities = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                        break;
+                    case TokenProvider.MEMBER_ID_KEY:
+                        field = MEMBER_ID;
+                        memberId = isInteger(parser, value, JsonParser.NumberType.LONG) ? parser.getLongValue() : null;
+                        break;
+                    case TokenProvider.NICKNAME_KEY:
+                        field = NICKNAME;
+                        nickname = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                        break;
+                    case TokenProvider.SECURITY_VERSION_KEY:
+                        field = SECURITY_VERSION;
+                        if (!isInteger(parser, value, JsonParser.NumberType.INT)) {
+                            return null;
+                        }
+                        securityVersion = parser.getIntValue();
+                        break;
+                    case "exp":
+                        field = EXP;
+                        if (!isInteger(parser, value, JsonParser.NumberType.LONG)) {
+                            return null;
+                        }
+                        expiration = parser.getLongValue();
+                        if (expiration < 0 || expiration > Long.MAX_VALUE / 1000) {
+                            return null;
+                        }
+                        break;
+                    default:
+                        return null;
+                }
+                // 중복 클레임이거나 값이 허용된 타입이 아니면 JJWT 에 맡김
+                if ((seen & field) != 0 || !hasValue(field, tokenId, subject, roleMask, authorities, memberId, nickname)) {
+                    return null;
+                }
+                seen |= field;
+            }
+            if (token != JsonToken.END_OBJECT || parser.nextToken() != null) {
+                return null;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+
+        if ((seen & (JTI | SUB | EXP)) != (JTI | SUB | EXP)) {
+            return null;
+        }
+        return new Hs512Claims(tokenId, subject, roleMask, authorities, memberId, nickname, securityVersion,
+                expiration);
+    }
+
+    private static boolean isInteger(JsonParser parser, JsonToken value, JsonParser.NumberType maxType)
+            throws IOException {
+        if (value != JsonToken.VALUE_NUMBER_INT) {
+            return false;
+        }
+        JsonParser.NumberType type = parser.getNumberType();
+        return type == JsonParser.NumberType.INT
+                || (maxType == JsonParser.NumberType.LONG && type == JsonParser.NumberType.LONG);
+    }
+
+    private static boolean hasValue(int field, String tokenId, String subject, Integer roleMask,
+                                    String authorities, Long memberId, String nickname) {
+        switch (field) {
+            case JTI:
+                return tokenId != null;
+            case SUB:
+                return subject != null;
+            case ROLE_MASK:
+                return roleMask != null;
+            case AUTHORITIES:
+                return authorities != null;
+            case MEMBER_ID:
+                return memberId != null;
+            case NICKNAME:
+                return nickname != null;
+            default:
+                return true;
+        }
+    }
+
+    // TokenProvider(JJWT 빌더)가 클레임을 넣는 순서와 같게 기록
+    private static void writeClaims(JsonGenerator generator, Hs512Claims claims) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("jti", claims.getTokenId());
+        generator.writeStringField("sub", claims.getSubject());
+        if (claims.getRoleMask() != null) {
+            generator.writeNumberField(AuthorityCodec.ROLE_MASK_KEY, claims.getRoleMask());
+        }
+        if (claims.getAuthorities() != null) {
+            generator.writeStringField(AuthorityCodec.AUTHORITIES_KEY, claims.getAuthorities());
+        }
+        if (claims.getMemberId() != null) {
+            generator.writeNumberField(TokenProvider.MEMBER_ID_KEY, claims.getMemberId());
+        }
+        if (claims.getNickname() != null) {
+            generator.writeStringField(TokenProvider.NICKNAME_KEY, claims.getNickname());
+        }
+        if (claims.getSecurityVersion() != 0) {
+            generator.writeNumberField(TokenProvider.SECURITY_VERSION_KEY, claims.getSecurityVersion());
+        }
+        generator.writeNumberField("exp", claims.getExpirationSeconds());
+        generator.writeEndObject();
+    }
+
+    // JJWT 가 kid 헤더를 먼저 넣고 서명할 때 alg 를 추가하는 것과 같은 순서
+    private static byte[] header(String keyId) {
+        Map<String, String> header = new LinkedHashMap<>();
+        if (keyId != null) {
+            header.put("kid", keyId);
+        }
+        header.put("alg", SignatureAlgorithm.HS512.getValue());
+
+        ExposedByteArrayOutputStream output = new ExposedByteArrayOutputStream();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(output)) {
+            generator.writeStartObject();
+            for (Map.Entry<String, String> entry : header.entrySet()) {
+                generator.writeStringField(entry.getKey(), entry.getValue());
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] encode(byte[] source) {
+        byte[] target = new byte[encodedLength(source.length)];
+        encode(source, 0, source.length, target, 0);
+        return target;
+    }
+
+    private static int encodedLength(int length) {
+        return length / 3 * 4 + (length % 3 == 0 ? 0 : length % 3 + 1);
+    }
+
+    private static int decodedLength(int length) {
+        return length / 4 * 3 + (length % 4 == 0 ? 0 : Math.max(length % 4 - 1, 0));
+    }
+
+    // 패딩 없는 Base64URL 인코딩, 쓴 위치 다음 인덱스를 반환
+    private static int encode(byte[] source, int offset, int length, byte[] target, int position) {
+        int end = offset + length;
+        int i = offset;
+        while (end - i >= 3) {
+            int bits = (source[i++] & 0xff) << 16 | (source[i++] & 0xff) << 8 | (source[i++] & 0xff);
+            target[position++] = BASE64_URL_CHARS[bits >>> 18];
+            target[position++] = BASE64_URL_CHARS[(bits >>> 12) & 0x3f];
+            target[position++] = BASE64_URL_CHARS[(bits >>> 6) & 0x3f];
+            target[position++] = BASE64_URL_CHARS[bits & 0x3f];
+        }
+        int remaining = end - i;
+        if (remaining > 0) {
+            int bits = (source[i] & 0xff) << 16 | (remaining == 2 ? (source[i + 1] & 0xff) << 8 : 0);
+            target[position++] = BASE64_URL_CHARS[bits >>> 18];
+            target[position++] = BASE64_URL_CHARS[(bits >>> 12) & 0x3f];
+            if (remaining == 2) {
+                target[position++] = BASE64_URL_CHARS[(bits >>> 6) & 0x3f];
+            }
+        }
+        return position;
+    }
+
+    // 이미 Base64URL 문자만 있는 것을 확인한 구간을 디코딩, 남는 비트는 JJWT 와 같이 무시
+    private static int decode(byte[] source, int from, int to, byte[] target, int position) {
+        int bits = 0;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            bits = bits << 6 | BASE64_URL_VALUES[source[i]];
+            if (++count == 4) {
+                target[position++] = (byte) (bits >>> 16);
+                target[position++] = (byte) (bits >>> 8);
+                target[position++] = (byte) bits;
+                bits = 0;
+                count = 0;
+            }
+        }
+        if (count == 3) {
+            target[position++] = (byte) (bits >>> 10);
+            target[position++] = (byte) (bits >>> 2);
+        } else if (count == 2) {
+            target[position++] = (byte) (bits >>> 4);
+        }
+        return position;
+    }
+
+    private static void doFinal(Mac mac, byte[] output) {
+        try {
+            mac.doFinal(output, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 을 계산하지 못했습니다.", e);
+        }
+    }
+
+    // 스레드마다 재사용하는 Mac 과 버퍼 (Mac 은 키 슬롯마다 처음 쓸 때 한 번만 init)
+    private static final class Buffers {
+
+        private final Mac[] macs;
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+        private final ExposedByteArrayOutputStream payloadOutput = new ExposedByteArrayOutputStream();
+        private byte[] token = new byte[512];
+        private byte[] payload = new byte[256];
+
+        private Buffers(int slots) {
+            this.macs = new Mac[slots];
+        }
+
+        private Mac mac(int slot, Key key) {
+            Mac mac = macs[slot];
+            if (mac == null) {
+                try {
+                    mac = Mac.getInstance(ALGORITHM);
+                    mac.init(key);
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException("HMAC 을 초기화하지 못했습니다.", e);
+                }
+                macs[slot] = mac;
+            }
+            return mac;
+        }
+
+        private byte[] token(int length) {
+            if (token.length < length) {
+                token = new byte[Math.max(length, token.length * 2)];
+            }
+            return token;
+        }
+
+        private byte[] payload(int length) {
+            if (payload.length < length) {
+                payload = new byte[Math.max(length, payload.length * 2)];
+            }
+            return payload;
+        }
+    }
+
+    // 복사 없이 내부 배열을 읽을 수 있는 ByteArrayOutputStream
+    private static final class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+
+        private ExposedByteArrayOutputStream() {
+            super(256);
+        }
+
+        private byte[] buffer() {
+            return buf;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.jwttutorial.jwt;
 
+import com.example.jwttutorial.audit.AuditLog;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
@@ -10,8 +13,17 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class JwtAccessDeniedHandler implements AccessDeniedHandler {
 
+    private static final PrecomputedErrorResponse FORBIDDEN = new PrecomputedErrorResponse(HttpStatus.FORBIDDEN);
+
+    private final AuditLog auditLog;
+
+    public JwtAccessDeniedHandler(AuditLog auditLog) {
+        this.auditLog = auditLog;
+    }
+
     // 클라이언트에게 403 Forbidden 상태 코드를 반환하여 접근 거부 상태를 알려줌.
     // 접근이 거부되었을 때 발생하는 예외인 AccessDeniedException을 처리하는 메소드
     @Override
@@ -19,9 +31,13 @@ public class JwtAccessDeniedHandler implements AccessDeniedHandler {
                        HttpServletResponse response,
                        AccessDeniedException accessDeniedException) throws IOException, ServletException {
 
-        // HttpServletResponse의 sendError 메소드를 사용하여 클라이언트에게 403 Forbidden 상태 코드를 반환.
+        // 인증은 되었지만 권한이 부족한 요청을 감사 로그에 기록
+        auditLog.accessDenied(request.getUserPrincipal() != null ? request.getUserPrincipal().getName() : null,
+                request.getRemoteAddr(), request.getRequestURI());
+
+        // 클라이언트에게 403 Forbidden 상태 코드와 미리 만들어 둔 본문을 반환 (오류 페이지 디스패치를 거치지 않음)
         // 이를 통해 클라이언트는 접근이 거부되었음을 인지하고 해당 상태 코드에 따른 적절한 처리를 수행
-        response.sendError(HttpServletResponse.SC_FORBIDDEN);
+        FORBIDDEN.write(response);
 
     }
 }
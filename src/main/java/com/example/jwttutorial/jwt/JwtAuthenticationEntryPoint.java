@@ -1,5 +1,9 @@
 package com.example.jwttutorial.jwt;
 
+import com.example.jwttutorial.audit.AuditLog;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
@@ -10,8 +14,17 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
+    private static final PrecomputedErrorResponse UNAUTHORIZED = new PrecomputedErrorResponse(HttpStatus.UNAUTHORIZED);
+
+    private final AuditLog auditLog;
+
+    public JwtAuthenticationEntryPoint(AuditLog auditLog) {
+        this.auditLog = auditLog;
+    }
+
     // 클라이언트에게 401 Unauthorized 상태 코드를 반환하여 인증 실패 상태를 알림.
     // 인증에 실패하였을 때 발생하는 예외인 AuthenticationException을 처리하는 메소드.
     @Override
@@ -19,8 +32,14 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
                          HttpServletResponse response,
                          AuthenticationException authException) throws IOException, ServletException {
 
-        // HttpServletResponse의 sendError 메소드를 사용하여 클라이언트에게 401 Unauthorized 상태 코드를 반환
+        // 인증 정보 없이 보호된 경로에 접근한 요청을 감사 로그에 기록 (토큰이 거부된 경우는 JwtFilter 가 따로 기록)
+        auditLog.authenticationRequired(request.getRemoteAddr(), request.getRequestURI(),
+                authException.getClass().getSimpleName());
+
+        // 클라이언트에게 401 Unauthorized 상태 코드와 미리 만들어 둔 본문을 반환
+        // sendError 와 달리 오류 페이지 디스패치(/error)를 거치지 않음
         // 이를 통해 클라이언트는 인증에 실패했음을 인지하고 해당 상태 코드에 따른 적절한 처리를 수행
-        response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        UNAUTHORIZED.write(response);
     }
 }
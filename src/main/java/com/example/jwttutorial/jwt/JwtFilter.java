@@ -1,5 +1,6 @@
 package com.example.jwttutorial.jwt;
 
+import com.example.jwttutorial.audit.AuditLog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
@@ -7,21 +8,30 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
 
+import javax.servlet.DispatcherType;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
+import java.util.Set;
 
 public class JwtFilter extends GenericFilterBean {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtFilter.class);
     public static final String AUTHORIZATION_HEADER = "Authorization";
     private TokenProvider tokenProvider;
+    private JwtMetrics jwtMetrics;
+    private AuditLog auditLog;
+    // 인증 없이 허용되는 경로 (SecurityConfig.PERMIT_ALL_PATHS), 토큰을 검증해도 쓰이지 않으므로 건너뜀
+    private Set<String> permitAllPaths;
 
-    public JwtFilter(TokenProvider tokenProvider) {
+    public JwtFilter(TokenProvider tokenProvider, JwtMetrics jwtMetrics, AuditLog auditLog, Set<String> permitAllPaths) {
         this.tokenProvider = tokenProvider;
+        this.jwtMetrics = jwtMetrics;
+        this.auditLog = auditLog;
+        this.permitAllPaths = permitAllPaths;
     }
 
     // JWT 필터의 역할은 클라이언트 요청에서 JWT 토큰을 추출하고, 해당 토큰을 검증하여 인증 정보를 설정
@@ -29,23 +39,44 @@ public class JwtFilter extends GenericFilterBean {
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
 
+        // Callable 을 반환한 컨트롤러의 결과를 쓰기 위한 ASYNC 디스패치는 최초 요청에서 이미 인증/인가를 마쳤으므로 토큰을 다시 검증하지 않음
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            chain.doFilter(request, response);
+            return;
+        }
+
         HttpServletRequest httpServletRequest = (HttpServletRequest) request;
+        // 경로가 정확히 일치할 때만 건너뛰므로, 그 외 경로(끝에 / 가 붙은 경로 등)는 기존과 같이 토큰을 검증
+        if (permitAllPaths.contains(httpServletRequest.getServletPath())
+                && httpServletRequest.getPathInfo() == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
         String jwt = resolveToken(httpServletRequest);
         String requestURI = httpServletRequest.getRequestURI();
 
-        // JWT 토큰이 존재하고, 유효성을 검증하는 경우 처리
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
+        // JWT 토큰이 존재하는 경우 서명 검증과 클레임 파싱을 한 번에 수행
+        // 토큰 원문은 로그에 남기지 않음 (거부된 토큰은 감사 로그에 지문만 기록)
+        if (StringUtils.hasText(jwt)) {
 
-            logger.debug("요청에서 추출한 JWT 토큰: {}", jwt);
+            TokenVerification verification = tokenProvider.verify(jwt);
+            jwtMetrics.recordFilter(verification.getStatus(), System.nanoTime() - startNanos);
 
-            // 추출한 JWT 토큰을 사용하여 인증 정보 가져옴.
-            Authentication authentication = tokenProvider.getAuthentication(jwt);
+            if (verification.isValid()) {
+                // 검증 과정에서 생성된 인증 정보를 그대로 사용
+                Authentication authentication = verification.getAuthentication();
 
-            // SecurityContextHolder를 사용하여 가져온 인증 정보를 SecurityContext에 설정
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+                // SecurityContextHolder를 사용하여 가져온 인증 정보를 SecurityContext에 설정
+                SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            logger.debug("Security Context 에 '{}' 인증 정보를 저장했습니다, uri: {}", authentication.getName(), requestURI);
+                logger.debug("Security Context 에 '{}' 인증 정보를 저장했습니다, uri: {}", authentication.getName(), requestURI);
+            } else {
+                auditLog.tokenRejected(request.getRemoteAddr(), requestURI, verification.getStatus().name(), jwt);
+            }
         } else {
+            jwtMetrics.recordFilter(null, System.nanoTime() - startNanos);
             logger.debug("유효한 JWT 토큰이 없습니다, uri: {}", requestURI);
         }
         // 다음 필터로 요청을 전달 만약 다른 필터가 없다면 실제 요청을 처리하는 컨트롤러로 전달됨
@@ -53,7 +84,7 @@ public class JwtFilter extends GenericFilterBean {
     }
 
     // 클라이언트 요청에서 JWT 토큰을 추출하는 메소드
-    private String resolveToken(HttpServletRequest request) {
+    public static String resolveToken(HttpServletRequest request) {
 
         // Authorization 헤더에서 JWT 토큰을 가져옴
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
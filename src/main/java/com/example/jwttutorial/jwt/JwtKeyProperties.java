@@ -0,0 +1,46 @@
+package com.example.jwttutorial.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JWT 서명 키 설정 (jwt.signing.*)
+ *
+ * active-key-id: 새 토큰 서명에 사용할 키 ID, 토큰 헤더의 kid 로 기록됨
+ * keys: 서명 또는 검증에 사용할 키 목록
+ * 키 교체 기간에는 이전 키를 목록에 남겨 두어 이미 발급된 토큰을 계속 검증할 수 있도록 함
+ *
+ * jwt.secret 으로 만든 HS512 키는 항상 'default' ID 로 등록됨
+ */
+@Data
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtKeyProperties {
+
+    private String activeKeyId = JwtKeyRegistry.DEFAULT_KEY_ID;
+
+    private List<KeyDefinition> keys = new ArrayList<>();
+
+    @Data
+    public static class KeyDefinition {
+
+        // 토큰 헤더의 kid 로 사용되는 키 ID
+        private String id;
+
+        // HS256/384/512, RS256/384/512, PS256/384/512, ES256/384/512
+        private SignatureAlgorithm algorithm;
+
+        // HMAC 키 (Base64)
+        private String secret;
+
+        // RSA/EC 개인 키 (Base64 PKCS#8 DER 또는 PEM), 검증 전용 키는 비워 둠
+        private String privateKey;
+
+        // RSA/EC 공개 키 (Base64 X.509 DER 또는 PEM)
+        // 개인 키와 공개 키를 모두 비워 두면 시작할 때 임시 키 쌍을 생성 (재시작하면 이전 토큰은 검증 불가)
+        private String publicKey;
+    }
+}
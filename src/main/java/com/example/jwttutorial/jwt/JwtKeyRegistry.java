@@ -0,0 +1,226 @@
+package com.example.jwttutorial.jwt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolver;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.*;
+
+/**
+ * JWT 서명 키 저장소
+ * afterPropertiesSet: jwt.secret 과 jwt.signing.* 설정으로 키 목록과 서명용 활성 키, JWKS 문서를 한 번만 만들어 둠
+ *
+ * resolveSigningKey: JwtParser 가 토큰을 검증할 때 헤더의 kid 로 검증 키를 찾는 메소드
+ * 키 목록은 초기화 이후 변경되지 않는 Map 이므로 kid 조회는 O(1)
+ * kid 가 없는 토큰은 kid 도입 이전에 발급된 토큰으로 보고 'default' 키로 검증
+ *
+ * getJwks: RSA/EC 공개 키를 담은 JWKS 문서 (/.well-known/jwks.json 응답 본문)
+ * HMAC 키는 공개할 수 없으므로 JWKS 에 포함하지 않음
+ */
+@Component
+public class JwtKeyRegistry implements SigningKeyResolver, InitializingBean {
+
+    public static final String DEFAULT_KEY_ID = "default";
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final Logger logger = LoggerFactory.getLogger(JwtKeyRegistry.class);
+    private final JwtKeyProperties properties;
+    private final String secret;
+    private Map<String, SigningKey> keys;
+    private SigningKey activeKey;
+    private byte[] jwks;
+
+    public JwtKeyRegistry(JwtKeyProperties properties, @Value("${jwt.secret:}") String secret) {
+        this.properties = properties;
+        this.secret = secret;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        Map<String, SigningKey> loaded = new HashMap<>();
+
+        // jwt.secret 으로 만든 HS512 기본 키
+        if (StringUtils.hasText(secret)) {
+            Key hmacKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+            loaded.put(DEFAULT_KEY_ID, new SigningKey(DEFAULT_KEY_ID, SignatureAlgorithm.HS512, hmacKey, hmacKey));
+        }
+
+        for (JwtKeyProperties.KeyDefinition definition : properties.getKeys()) {
+            if (!StringUtils.hasText(definition.getId()) || definition.getAlgorithm() == null) {
+                throw new IllegalStateException("jwt.signing.keys 에는 id 와 algorithm 이 필요합니다.");
+            }
+            if (loaded.put(definition.getId(), loadKey(definition)) != null) {
+                logger.warn("서명 키 '{}' 가 중복 등록되어 나중에 설정된 키를 사용합니다.", definition.getId());
+            }
+        }
+
+        this.keys = Map.copyOf(loaded);
+        this.activeKey = keys.get(properties.getActiveKeyId());
+        if (activeKey == null || !activeKey.canSign()) {
+            throw new IllegalStateException("서명에 사용할 키 '" + properties.getActiveKeyId() + "' 를 찾을 수 없습니다.");
+        }
+        this.jwks = buildJwks();
+
+        logger.info("JWT 서명 키 {}개 등록, 활성 키: {} ({})", keys.size(), activeKey.getId(), activeKey.getAlgorithm());
+    }
+
+    // 새 토큰 서명에 사용할 키
+    public SigningKey getActiveKey() {
+        return activeKey;
+    }
+
+    // kid 로 키 조회, 없으면 null
+    public SigningKey getKey(String keyId) {
+        return keyId == null ? null : keys.get(keyId);
+    }
+
+    // 등록된 모든 키 (서명 키와 검증 전용 키)
+    public Collection<SigningKey> getKeys() {
+        return keys.values();
+    }
+
+    // 미리 만들어 둔 JWKS 문서
+    public byte[] getJwks() {
+        return jwks;
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        return resolve(header);
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, String plaintext) {
+        return resolve(header);
+    }
+
+    private Key resolve(JwsHeader header) {
+        String keyId = header.getKeyId();
+        SigningKey signingKey = keys.get(keyId == null ? DEFAULT_KEY_ID : keyId);
+        if (signingKey == null) {
+            throw new SignatureException("등록되지 않은 서명 키입니다.");
+        }
+        // 헤더의 alg 를 바꿔 다른 알고리즘으로 검증하도록 유도하는 토큰 차단
+        if (!signingKey.getAlgorithm().getValue().equals(header.getAlgorithm())) {
+            throw new SignatureException("서명 키와 알고리즘이 일치하지 않습니다.");
+        }
+        return signingKey.getVerificationKey();
+    }
+
+    private SigningKey loadKey(JwtKeyProperties.KeyDefinition definition) throws GeneralSecurityException {
+        String id = definition.getId();
+        SignatureAlgorithm algorithm = definition.getAlgorithm();
+
+        if (algorithm.isHmac()) {
+            if (!StringUtils.hasText(definition.getSecret())) {
+                throw new IllegalStateException("HMAC 키 '" + id + "' 에는 secret 이 필요합니다.");
+            }
+            Key hmacKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(definition.getSecret()));
+            return new SigningKey(id, algorithm, hmacKey, hmacKey);
+        }
+
+        if (!algorithm.isRsa() && !algorithm.isEllipticCurve()) {
+            throw new IllegalStateException("지원되지 않는 서명 알고리즘입니다: " + algorithm);
+        }
+
+        // 키를 지정하지 않으면 임시 키 쌍 생성 (개발용)
+        if (!StringUtils.hasText(definition.getPrivateKey()) && !StringUtils.hasText(definition.getPublicKey())) {
+            logger.warn("서명 키 '{}' 가 설정되지 않아 임시 {} 키 쌍을 생성합니다. 재시작하면 이 키로 발급된 토큰은 검증할 수 없습니다.",
+                    id, algorithm);
+            KeyPair keyPair = Keys.keyPairFor(algorithm);
+            return new SigningKey(id, algorithm, keyPair.getPrivate(), keyPair.getPublic());
+        }
+
+        if (!StringUtils.hasText(definition.getPublicKey())) {
+            throw new IllegalStateException("서명 키 '" + id + "' 에는 public-key 가 필요합니다.");
+        }
+
+        KeyFactory keyFactory = KeyFactory.getInstance(algorithm.isRsa() ? "RSA" : "EC");
+        PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(decodeDer(definition.getPublicKey())));
+        PrivateKey privateKey = StringUtils.hasText(definition.getPrivateKey())
+                ? keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodeDer(definition.getPrivateKey())))
+                : null;
+        return new SigningKey(id, algorithm, privateKey, publicKey);
+    }
+
+    // PEM 헤더/푸터와 공백을 제거하고 Base64 디코딩
+    private static byte[] decodeDer(String value) {
+        String base64 = value
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Decoders.BASE64.decode(base64);
+    }
+
+    private byte[] buildJwks() throws JsonProcessingException {
+        List<Map<String, Object>> jwkList = new ArrayList<>();
+
+        // kid 순으로 정렬하여 항상 같은 문서가 만들어지도록 함
+        for (SigningKey signingKey : new TreeMap<>(keys).values()) {
+            if (!signingKey.isAsymmetric()) {
+                continue;
+            }
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            PublicKey publicKey = (PublicKey) signingKey.getVerificationKey();
+
+            if (publicKey instanceof RSAPublicKey) {
+                RSAPublicKey rsaPublicKey = (RSAPublicKey) publicKey;
+                jwk.put("kty", "RSA");
+                jwk.put("kid", signingKey.getId());
+                jwk.put("use", "sig");
+                jwk.put("alg", signingKey.getAlgorithm().getValue());
+                jwk.put("n", base64Url(rsaPublicKey.getModulus(), 0));
+                jwk.put("e", base64Url(rsaPublicKey.getPublicExponent(), 0));
+            } else if (publicKey instanceof ECPublicKey) {
+                ECPublicKey ecPublicKey = (ECPublicKey) publicKey;
+                int fieldSize = ecPublicKey.getParams().getCurve().getField().getFieldSize();
+                int coordinateLength = (fieldSize + 7) / 8;
+                jwk.put("kty", "EC");
+                jwk.put("kid", signingKey.getId());
+                jwk.put("use", "sig");
+                jwk.put("alg", signingKey.getAlgorithm().getValue());
+                jwk.put("crv", "P-" + fieldSize);
+                jwk.put("x", base64Url(ecPublicKey.getW().getAffineX(), coordinateLength));
+                jwk.put("y", base64Url(ecPublicKey.getW().getAffineY(), coordinateLength));
+            } else {
+                continue;
+            }
+            jwkList.add(jwk);
+        }
+
+        return new ObjectMapper().writeValueAsBytes(Collections.singletonMap("keys", jwkList));
+    }
+
+    // 부호 없는 big-endian 바이트로 변환하여 Base64URL 인코딩 (length 가 0 이면 최소 길이)
+    private static String base64Url(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        int targetLength = length > 0 ? length : (value.bitLength() + 7) / 8;
+        byte[] unsigned = new byte[targetLength];
+        int copyLength = Math.min(bytes.length, targetLength);
+        System.arraycopy(bytes, bytes.length - copyLength, unsigned, targetLength - copyLength, copyLength);
+        return BASE64_URL.encodeToString(unsigned);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.jwttutorial.jwt;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 처리 구간별 타이머와 카운터
+ *
+ * jwt.token.create: 토큰 생성 (TokenProvider.createToken)
+ * jwt.token.verify: 서명 검증 + 클레임 파싱 (JJWT parseClaimsJws), outcome 태그로 결과 구분
+ * jwt.claims.resolve: 검증된 클레임으로 Authentication 객체 생성
+ * jwt.filter: JwtFilter.doFilter 에서 토큰 처리에 걸린 전체 시간, outcome 태그로 결과 구분 (토큰이 없으면 none)
+ * jwt.cache.requests / jwt.cache.evictions / jwt.cache.size: VerifiedTokenCache 통계
+ *
+ * 모든 Meter 는 생성 시점에 결과별로 미리 등록해 두고 상태의 ordinal 로 찾으므로
+ * 요청마다 태그 문자열을 만들거나 레지스트리를 조회하지 않음
+ */
+@Component
+public class JwtMetrics {
+
+    private static final String NO_TOKEN = "none";
+
+    private final Timer createTimer;
+    private final Timer resolveTimer;
+    private final Timer[] verifyTimers;
+    private final Timer[] filterTimers;
+    private final Timer filterNoTokenTimer;
+
+    public JwtMetrics(MeterRegistry meterRegistry, VerifiedTokenCache verifiedTokenCache) {
+        this.createTimer = Timer.builder("jwt.token.create")
+                .description("JWT 토큰 생성 시간")
+                .register(meterRegistry);
+        this.resolveTimer = Timer.builder("jwt.claims.resolve")
+                .description("검증된 클레임으로 인증 정보를 만드는 시간")
+                .register(meterRegistry);
+
+        TokenVerification.Status[] statuses = TokenVerification.Status.values();
+        this.verifyTimers = new Timer[statuses.length];
+        this.filterTimers = new Timer[statuses.length];
+        for (TokenVerification.Status status : statuses) {
+            String outcome = status.name().toLowerCase(Locale.ROOT);
+            verifyTimers[status.ordinal()] = Timer.builder("jwt.token.verify")
+                    .description("JWT 서명 검증과 클레임 파싱 시간")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+            filterTimers[status.ordinal()] = Timer.builder("jwt.filter")
+                    .description("JwtFilter 토큰 처리 시간")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+        this.filterNoTokenTimer = Timer.builder("jwt.filter")
+                .description("JwtFilter 토큰 처리 시간")
+                .tag("outcome", NO_TOKEN)
+                .register(meterRegistry);
+
+        FunctionCounter.builder("jwt.cache.requests", verifiedTokenCache, VerifiedTokenCache::getHitCount)
+                .description("검증 결과 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.cache.requests", verifiedTokenCache, VerifiedTokenCache::getMissCount)
+                .description("검증 결과 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.cache.evictions", verifiedTokenCache, VerifiedTokenCache::getEvictionCount)
+                .description("크기 초과 또는 만료로 제거된 캐시 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.cache.size", verifiedTokenCache, VerifiedTokenCache::getSize)
+                .description("캐시된 검증 결과 수")
+                .register(meterRegistry);
+    }
+
+    public void recordCreate(long nanos) {
+        createTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordResolve(long nanos) {
+        resolveTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordVerify(TokenVerification.Status status, long nanos) {
+        verifyTimers[status.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // status 가 null 이면 요청에 토큰이 없는 경우
+    public void recordFilter(TokenVerification.Status status, long nanos) {
+        Timer timer = status == null ? filterNoTokenTimer : filterTimers[status.ordinal()];
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
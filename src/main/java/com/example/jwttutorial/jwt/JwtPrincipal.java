@@ -0,0 +1,103 @@
+package com.example.jwttutorial.jwt;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 검증된 액세스 토큰으로 만든 인증 주체 (불변)
+ * 토큰의 클레임만으로 만들어지므로 요청마다 회원 엔티티를 조회하거나 생성하지 않음
+ *
+ * membername: sub 클레임
+ * memberId / nickname: mid / nick 클레임, 이 클레임이 없는 이전 토큰이면 null
+ * authorities: AuthorityCodec 이 공유하는 불변 권한 리스트
+ * securityVersion: sv 클레임 (토큰 발급 당시 회원의 보안 버전), 클레임이 없는 토큰이면 0
+ * roleMask: authorities 중 Role 에 해당하는 권한의 비트마스크 (@RequireRoles 확인용으로 생성 시 한 번 계산)
+ */
+public final class JwtPrincipal implements Principal {
+
+    private final String membername;
+    private final Long memberId;
+    private final String nickname;
+    private final List<GrantedAuthority> authorities;
+    private final int securityVersion;
+    private final int roleMask;
+
+    public JwtPrincipal(String membername, Long memberId, String nickname, List<GrantedAuthority> authorities) {
+        this(membername, memberId, nickname, 0, authorities);
+    }
+
+    public JwtPrincipal(String membername, Long memberId, String nickname, int securityVersion,
+                        List<GrantedAuthority> authorities) {
+        this.membername = Objects.requireNonNull(membername, "membername");
+        this.memberId = memberId;
+        this.nickname = nickname;
+        this.securityVersion = securityVersion;
+        this.authorities = authorities;
+        this.roleMask = AuthorityCodec.roleMask(authorities);
+    }
+
+    @Override
+    public String getName() {
+        return membername;
+    }
+
+    public String getMembername() {
+        return membername;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    public int getSecurityVersion() {
+        return securityVersion;
+    }
+
+    public int getRoleMask() {
+        return roleMask;
+    }
+
+    // 회원 정보 클레임(mid, nick)이 들어 있는 토큰인지 여부
+    public boolean hasProfile() {
+        return memberId != null && nickname != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JwtPrincipal)) {
+            return false;
+        }
+        JwtPrincipal other = (JwtPrincipal) o;
+        return membername.equals(other.membername)
+                && Objects.equals(memberId, other.memberId)
+                && Objects.equals(nickname, other.nickname)
+                && securityVersion == other.securityVersion
+                && authorities.equals(other.authorities);
+    }
+
+    @Override
+    public int hashCode() {
+        return membername.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "JwtPrincipal{membername='" + membername + "', memberId=" + memberId
+                + ", nickname='" + nickname + "', securityVersion=" + securityVersion
+                + ", authorities=" + authorities + '}';
+    }
+}
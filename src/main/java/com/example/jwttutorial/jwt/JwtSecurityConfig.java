@@ -1,17 +1,27 @@
 package com.example.jwttutorial.jwt;
 
+import com.example.jwttutorial.audit.AuditLog;
 import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.DefaultSecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Set;
+
 public class JwtSecurityConfig extends
             SecurityConfigurerAdapter<DefaultSecurityFilterChain, HttpSecurity> {
 
     private TokenProvider tokenProvider;
+    private JwtMetrics jwtMetrics;
+    private AuditLog auditLog;
+    private Set<String> permitAllPaths;
 
-    public JwtSecurityConfig(TokenProvider tokenProvider) {
+    public JwtSecurityConfig(TokenProvider tokenProvider, JwtMetrics jwtMetrics, AuditLog auditLog,
+                             Set<String> permitAllPaths) {
         this.tokenProvider = tokenProvider;
+        this.jwtMetrics = jwtMetrics;
+        this.auditLog = auditLog;
+        this.permitAllPaths = permitAllPaths;
     }
 
     // JwtFilter를 Spring Security 필터 체인에 추가하는 역할을 담당하는 메소드
@@ -19,7 +29,7 @@ public class JwtSecurityConfig extends
     public void configure(HttpSecurity http) {
 
         // 주입받은 TokenProvider 객체를 사용하여 JwtFilter 인스턴스를 생성
-        JwtFilter customFilter = new JwtFilter(tokenProvider);
+        JwtFilter customFilter = new JwtFilter(tokenProvider, jwtMetrics, auditLog, permitAllPaths);
 
         // JwtFilter를 UsernamePasswordAuthenticationFilter 이전에 추가
         // JwtFilter는 인증 정보를 검증하고 인증된 사용자에 대한 SecurityContext를 설정
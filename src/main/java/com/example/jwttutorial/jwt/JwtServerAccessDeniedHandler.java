@@ -0,0 +1,41 @@
+package com.example.jwttutorial.jwt;
+
+import com.example.jwttutorial.audit.AuditLog;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+
+/**
+ * reactive 프로필의 JwtAccessDeniedHandler, 같은 403 응답과 감사 로그
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class JwtServerAccessDeniedHandler implements ServerAccessDeniedHandler {
+
+    private static final PrecomputedErrorResponse FORBIDDEN = new PrecomputedErrorResponse(HttpStatus.FORBIDDEN);
+
+    private final AuditLog auditLog;
+
+    public JwtServerAccessDeniedHandler(AuditLog auditLog) {
+        this.auditLog = auditLog;
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, AccessDeniedException denied) {
+        // 인증은 되었지만 권한이 부족한 요청을 감사 로그에 기록
+        return exchange.getPrincipal()
+                .map(Principal::getName)
+                .defaultIfEmpty("")
+                .flatMap(name -> {
+                    auditLog.accessDenied(name.isEmpty() ? null : name,
+                            JwtWebFilter.clientIp(exchange.getRequest()), exchange.getRequest().getPath().value());
+                    return FORBIDDEN.write(exchange.getResponse());
+                });
+    }
+}
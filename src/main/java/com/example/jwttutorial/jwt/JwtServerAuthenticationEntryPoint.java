@@ -0,0 +1,37 @@
+package com.example.jwttutorial.jwt;
+
+import com.example.jwttutorial.audit.AuditLog;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * reactive 프로필의 JwtAuthenticationEntryPoint, 같은 401 응답과 감사 로그
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class JwtServerAuthenticationEntryPoint implements ServerAuthenticationEntryPoint {
+
+    private static final PrecomputedErrorResponse UNAUTHORIZED = new PrecomputedErrorResponse(HttpStatus.UNAUTHORIZED);
+
+    private final AuditLog auditLog;
+
+    public JwtServerAuthenticationEntryPoint(AuditLog auditLog) {
+        this.auditLog = auditLog;
+    }
+
+    @Override
+    public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException authException) {
+        // 인증 정보 없이 보호된 경로에 접근한 요청을 감사 로그에 기록 (토큰이 거부된 경우는 JwtWebFilter 가 따로 기록)
+        auditLog.authenticationRequired(JwtWebFilter.clientIp(exchange.getRequest()),
+                exchange.getRequest().getPath().value(), authException.getClass().getSimpleName());
+
+        exchange.getResponse().getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        return UNAUTHORIZED.write(exchange.getResponse());
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.jwttutorial.jwt;
+
+import com.example.jwttutorial.audit.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.Set;
+
+/**
+ * reactive 프로필(WebFlux)의 JwtFilter
+ *
+ * 토큰 검증은 메모리에서 끝나므로(서명 검증, 검증 캐시, 폐기 목록, 보안 버전 표) 이벤트 루프 스레드에서 바로 수행하고,
+ * 인증 정보는 ThreadLocal(SecurityContextHolder) 대신 Reactor Context(ReactiveSecurityContextHolder)로 전달
+ * 참조 토큰은 캐시에 없으면 DB 를 조회하므로 블로킹 스케줄러에서 검증
+ */
+public class JwtWebFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtWebFilter.class);
+
+    private final TokenProvider tokenProvider;
+    private final JwtMetrics jwtMetrics;
+    private final AuditLog auditLog;
+    // 인증 없이 허용되는 경로 (SecurityConfig.PERMIT_ALL_PATHS), 토큰을 검증해도 쓰이지 않으므로 건너뜀
+    private final Set<String> permitAllPaths;
+    private final Scheduler blockingScheduler;
+
+    public JwtWebFilter(TokenProvider tokenProvider, JwtMetrics jwtMetrics, AuditLog auditLog,
+                        Set<String> permitAllPaths, Scheduler blockingScheduler) {
+        this.tokenProvider = tokenProvider;
+        this.jwtMetrics = jwtMetrics;
+        this.auditLog = auditLog;
+        this.permitAllPaths = permitAllPaths;
+        this.blockingScheduler = blockingScheduler;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        // 경로가 정확히 일치할 때만 건너뜀 (JwtFilter 와 같은 기준)
+        if (permitAllPaths.contains(request.getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+
+        long startNanos = System.nanoTime();
+        String jwt = resolveToken(request);
+        if (!StringUtils.hasText(jwt)) {
+            jwtMetrics.recordFilter(null, System.nanoTime() - startNanos);
+            logger.debug("유효한 JWT 토큰이 없습니다, uri: {}", request.getPath());
+            return chain.filter(exchange);
+        }
+
+        if (ReferenceTokenStore.isReferenceToken(jwt)) {
+            return Mono.fromCallable(() -> tokenProvider.verify(jwt))
+                    .subscribeOn(blockingScheduler)
+                    .flatMap(verification -> proceed(exchange, chain, jwt, verification, startNanos));
+        }
+        return proceed(exchange, chain, jwt, tokenProvider.verify(jwt), startNanos);
+    }
+
+    private Mono<Void> proceed(ServerWebExchange exchange, WebFilterChain chain, String jwt,
+                               TokenVerification verification, long startNanos) {
+        jwtMetrics.recordFilter(verification.getStatus(), System.nanoTime() - startNanos);
+
+        ServerHttpRequest request = exchange.getRequest();
+        if (!verification.isValid()) {
+            // 토큰 원문은 로그에 남기지 않음 (거부된 토큰은 감사 로그에 지문만 기록)
+            auditLog.tokenRejected(clientIp(request), request.getPath().value(), verification.getStatus().name(), jwt);
+            return chain.filter(exchange);
+        }
+
+        // 검증 과정에서 생성된 인증 정보를 그대로 사용
+        Authentication authentication = verification.getAuthentication();
+        logger.debug("Reactor Context 에 '{}' 인증 정보를 저장했습니다, uri: {}", authentication.getName(), request.getPath());
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+    }
+
+    // Authorization 헤더의 Bearer 토큰 (JwtFilter.resolveToken 과 같은 규칙)
+    public static String resolveToken(ServerHttpRequest request) {
+        String bearerToken = request.getHeaders().getFirst(JwtFilter.AUTHORIZATION_HEADER);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+
+    // 요청을 보낸 클라이언트 IP (HttpServletRequest.getRemoteAddr 와 같은 값)
+    public static String clientIp(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return null;
+        }
+        return remoteAddress.getAddress().getHostAddress();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.jwttutorial.jwt;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 401/403 응답 본문을 미리 만들어 두고 그대로 쓰는 응답
+ * sendError 는 컨테이너의 오류 페이지 디스패치(/error)로 필터 체인과 BasicErrorController 를 한 번 더 거치므로,
+ * 인증/인가 실패 응답은 상태 코드와 고정된 JSON 본문을 직접 씀
+ * {"status":401,"error":"Unauthorized"}
+ *
+ * reactive 프로필(WebFlux)에서는 같은 본문을 ServerHttpResponse 에 씀
+ */
+final class PrecomputedErrorResponse {
+
+    private final int status;
+    private final byte[] body;
+
+    PrecomputedErrorResponse(HttpStatus status) {
+        this.status = status.value();
+        this.body = ("{\"status\":" + status.value() + ",\"error\":\"" + status.getReasonPhrase() + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    void write(HttpServletResponse response) throws IOException {
+        if (response.isCommitted()) {
+            return;
+        }
+        response.setStatus(status);
+        response.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        response.flushBuffer();
+    }
+
+    Mono<Void> write(ServerHttpResponse response) {
+        if (response.isCommitted()) {
+            return Mono.empty();
+        }
+        response.setRawStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.jwttutorial.jwt;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 참조 토큰 설정 (jwt.reference-token.*)
+ *
+ * enabled: true 이면 로그인/재발급 시 JWT 대신 무작위 참조 토큰을 발급 (이미 발급된 JWT 는 계속 검증)
+ * maximum-size: 메모리에 보관하는 참조 토큰 최대 개수, 넘치면 오래 쓰이지 않은 토큰부터 제거되고 다음 요청에서 DB 로 다시 불러옴
+ * unknown-cache-size / unknown-cache-seconds: 발급 기록이 없는 토큰의 조회 결과를 보관하는 개수와 시간
+ *   (같은 잘못된 토큰이 반복해서 들어와도 DB 를 매번 조회하지 않도록 함)
+ * cleanup-interval-ms: 만료된 참조 토큰 행을 삭제하는 주기
+ */
+@Data
+@ConfigurationProperties(prefix = "jwt.reference-token")
+public class ReferenceTokenProperties {
+
+    private boolean enabled = false;
+
+    private long maximumSize = 100_000;
+
+    private long unknownCacheSize = 10_000;
+
+    private long unknownCacheSeconds = 60;
+
+    private long cleanupIntervalMs = 60_000;
+}
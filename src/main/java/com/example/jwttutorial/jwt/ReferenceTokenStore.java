@@ -0,0 +1,190 @@
+package com.example.jwttutorial.jwt;
+
+import com.example.jwttutorial.entity.ReferenceToken;
+import com.example.jwttutorial.repository.ReferenceTokenRepository;
+import com.example.jwttutorial.util.TokenDigest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 참조 토큰(opaque token) 발급과 검증
+ * 토큰은 "rt_" + 32byte 난수의 Base64URL 문자열(46자)이며 그 자체로는 아무 정보도 담지 않음
+ *
+ * issue: 인증 정보를 reference_token 테이블에 저장(다이제스트로만 조회 가능)하고 메모리 맵에도 넣어 둠
+ * verify: 메모리 맵(토큰 -> 미리 만들어 둔 TokenVerification) 조회 한 번으로 끝나며, 서명 검증이나 파싱이 없음
+ * 메모리에 없는 토큰(재시작, 다른 인스턴스에서 발급, 크기 초과로 제거됨)만 테이블에서 불러와 다시 넣음
+ *
+ * 각 항목은 토큰의 만료 시각에 맞춰 메모리에서 제거되고, 만료된 행은 주기적으로 삭제
+ * 폐기는 JWT 와 같이 토큰 ID 를 TokenDenylist 에 추가하는 방식 (TokenProvider.revoke)
+ */
+@Component
+public class ReferenceTokenStore {
+
+    public static final String PREFIX = "rt_";
+
+    private static final int TOKEN_BYTES = 32;
+    private static final int TOKEN_LENGTH = PREFIX.length() + 43;
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final Logger logger = LoggerFactory.getLogger(ReferenceTokenStore.class);
+    private final ReferenceTokenRepository repository;
+    private final AuthorityCodec authorityCodec;
+    private final boolean enabled;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Cache<String, TokenVerification> tokens;
+    // 발급 기록이 없거나 만료된 토큰 -> 거부 사유
+    private final Cache<String, TokenVerification.Status> rejectedTokens;
+
+    public ReferenceTokenStore(ReferenceTokenRepository repository,
+                               AuthorityCodec authorityCodec,
+                               ReferenceTokenProperties properties) {
+        this.repository = repository;
+        this.authorityCodec = authorityCodec;
+        this.enabled = properties.isEnabled();
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new TokenExpiry())
+                .build();
+        this.rejectedTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getUnknownCacheSize())
+                .expireAfterWrite(properties.getUnknownCacheSeconds(), TimeUnit.SECONDS)
+                .build();
+    }
+
+    // 로그인/재발급 시 JWT 대신 참조 토큰을 발급하는지 여부
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 참조 토큰 형식인지 확인 (JWT 는 '.' 이 들어 있고 이 접두사로 시작하지 않음)
+    public static boolean isReferenceToken(String token) {
+        return token.length() == TOKEN_LENGTH && token.startsWith(PREFIX);
+    }
+
+    // 인증 정보로 참조 토큰 발급, 테이블에 기록된 뒤 반환하므로 다른 인스턴스에서도 바로 검증 가능
+    public String issue(Authentication authentication, long validityInMilliseconds) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = PREFIX + BASE64_URL.encodeToString(bytes);
+        String tokenId = UUID.randomUUID().toString();
+        long expiresAtMillis = System.currentTimeMillis() + validityInMilliseconds;
+
+        String authorityNames = AuthorityCodec.toNames(authentication.getAuthorities());
+        Object principal = authentication.getPrincipal();
+        Long memberId = TokenProvider.memberId(principal);
+        String nickname = TokenProvider.nickname(principal);
+        int securityVersion = TokenProvider.securityVersion(principal);
+
+        repository.save(ReferenceToken.builder()
+                .tokenHash(TokenDigest.sha256Base64Url(token))
+                .tokenId(tokenId)
+                .membername(authentication.getName())
+                .memberId(memberId)
+                .nickname(nickname)
+                .authorities(authorityNames)
+                .securityVersion(securityVersion)
+                .expiresAt(Instant.ofEpochMilli(expiresAtMillis))
+                .build());
+
+        tokens.put(token, verification(token, authentication.getName(), memberId, nickname, securityVersion,
+                authorityNames, tokenId, expiresAtMillis));
+        return token;
+    }
+
+    // 참조 토큰 검증, 메모리에 있으면 해시 조회 한 번으로 끝남
+    public TokenVerification verify(String token) {
+        TokenVerification verification = tokens.getIfPresent(token);
+        if (verification != null && verification.getExpiresAtMillis() > System.currentTimeMillis()) {
+            return verification;
+        }
+        if (!isReferenceToken(token)) {
+            return TokenVerification.failure(TokenVerification.Status.MALFORMED);
+        }
+        TokenVerification.Status rejected = rejectedTokens.getIfPresent(token);
+        if (rejected != null) {
+            return TokenVerification.failure(rejected);
+        }
+        return load(token);
+    }
+
+    // 만료된 행 삭제 (메모리의 항목은 만료 시각에 맞춰 자동으로 제거됨)
+    @Scheduled(fixedDelayString = "${jwt.reference-token.cleanup-interval-ms:60000}")
+    public void removeExpired() {
+        try {
+            int deleted = repository.deleteExpired(Instant.now());
+            if (deleted > 0) {
+                logger.debug("만료된 참조 토큰 {}건을 삭제했습니다.", deleted);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("만료된 참조 토큰을 삭제하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    private TokenVerification load(String token) {
+        Optional<ReferenceToken> stored = repository.findByTokenHash(TokenDigest.sha256Base64Url(token));
+        if (stored.isEmpty()) {
+            // 발급된 적 없는 토큰은 서명이 틀린 JWT 와 같이 취급
+            rejectedTokens.put(token, TokenVerification.Status.BAD_SIGNATURE);
+            return TokenVerification.failure(TokenVerification.Status.BAD_SIGNATURE);
+        }
+
+        ReferenceToken referenceToken = stored.get();
+        long expiresAtMillis = referenceToken.getExpiresAt().toEpochMilli();
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            rejectedTokens.put(token, TokenVerification.Status.EXPIRED);
+            return TokenVerification.failure(TokenVerification.Status.EXPIRED);
+        }
+
+        TokenVerification verification = verification(token, referenceToken.getMembername(),
+                referenceToken.getMemberId(), referenceToken.getNickname(), referenceToken.getSecurityVersion(),
+                referenceToken.getAuthorities(), referenceToken.getTokenId(), expiresAtMillis);
+        tokens.put(token, verification);
+        return verification;
+    }
+
+    // JWT 검증 결과와 같은 형태(JwtPrincipal, 공유 권한 리스트)의 인증 정보 생성
+    private TokenVerification verification(String token, String membername, Long memberId, String nickname,
+                                           int securityVersion, String authorityNames, String tokenId,
+                                           long expiresAtMillis) {
+        List<GrantedAuthority> authorities = authorityCodec.fromNames(authorityNames);
+        JwtPrincipal principal = new JwtPrincipal(membername, memberId, nickname, securityVersion, authorities);
+        return TokenVerification.valid(new UsernamePasswordAuthenticationToken(principal, token, authorities),
+                tokenId, expiresAtMillis);
+    }
+
+    // 각 항목을 토큰의 만료 시각까지만 보관
+    private static final class TokenExpiry implements Expiry<String, TokenVerification> {
+
+        @Override
+        public long expireAfterCreate(String key, TokenVerification value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, value.getExpiresAtMillis() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenVerification value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenVerification value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.jwttutorial.jwt;
+
+import com.example.jwttutorial.service.MemberSecurityChangedEvent;
+import com.example.jwttutorial.sharedstate.SharedStateStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원 이름 -> 보안 버전 표
+ * 권한 변경이나 비활성화 이전에 발급된 액세스 토큰을 요청마다 DB 조회 없이 거절하기 위해 메모리에 보관
+ *
+ * isStale: 토큰의 sv 클레임이 표의 버전보다 낮으면 true, 맵 조회 한 번이며 객체를 생성하지 않음
+ * 표에는 최근에 바뀐 회원만 있으므로 대부분의 요청은 없는 키 조회로 끝남
+ *
+ * MemberService 가 커밋한 변경(MemberSecurityChangedEvent)을 SharedStateStore 의 security-version 항목으로 기록하여
+ * 다른 인스턴스에도 전달하고, 다른 인스턴스의 변경은 SharedStateStore 의 변경 알림으로 받음
+ * 항목은 변경 시각부터 액세스 토큰의 최대 유효 기간만 보관 (그 이전에 발급된 토큰은 이미 만료되었으므로)
+ */
+@Component
+public class SecurityVersionTable implements InitializingBean {
+
+    private static final String NAMESPACE = "security-version";
+
+    private final Logger logger = LoggerFactory.getLogger(SecurityVersionTable.class);
+    private final SharedStateStore sharedStateStore;
+    private final long retentionMillis;
+    private final Map<String, Stamp> versions = new ConcurrentHashMap<>();
+
+    public SecurityVersionTable(SharedStateStore sharedStateStore,
+                                @Value("${jwt.token-validity-in-seconds}") long tokenValidityInSeconds) {
+        this.sharedStateStore = sharedStateStore;
+        this.retentionMillis = tokenValidityInSeconds * 1000;
+    }
+
+    // 아직 보관 기간이 남은 항목으로 표를 복원하고, 이후 변경(다른 인스턴스의 변경 포함)을 구독
+    @Override
+    public void afterPropertiesSet() {
+        sharedStateStore.forEach(NAMESPACE, this::update);
+        sharedStateStore.addListener(NAMESPACE, this::update);
+        logger.info("회원 보안 버전 {}건을 불러왔습니다.", versions.size());
+    }
+
+    // 토큰에 기록된 보안 버전이 회원의 현재 버전보다 낮은지 확인
+    public boolean isStale(String membername, int tokenSecurityVersion) {
+        Stamp stamp = versions.get(membername);
+        return stamp != null && tokenSecurityVersion < stamp.version;
+    }
+
+    // 회원 정보 변경이 커밋된 뒤 새 버전을 기록 (리스너를 통해 이 인스턴스의 표에도 바로 반영됨)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberSecurityChanged(MemberSecurityChangedEvent event) {
+        sharedStateStore.put(NAMESPACE, event.getMembername(), event.getSecurityVersion(),
+                System.currentTimeMillis() + retentionMillis);
+        logger.info("'{}' 회원의 보안 버전이 {} 로 바뀌어 이전에 발급된 토큰을 거절합니다.",
+                event.getMembername(), event.getSecurityVersion());
+    }
+
+    public int size() {
+        return versions.size();
+    }
+
+    // 보관 기간이 지난 항목 제거
+    @Scheduled(fixedDelayString = "${jwt.security-version.cleanup-interval-ms:60000}")
+    public void removeExpired() {
+        long now = System.currentTimeMillis();
+        versions.values().removeIf(stamp -> stamp.expiresAtMillis <= now);
+    }
+
+    // 동기화 순서가 뒤바뀌어도 버전이 내려가지 않도록 높은 버전을 유지
+    private void update(String membername, long version, long expiresAtMillis) {
+        versions.merge(membername, new Stamp(version, expiresAtMillis),
+                (current, updated) -> updated.version >= current.version ? updated : current);
+    }
+
+    private static final class Stamp {
+
+        private final long version;
+        private final long expiresAtMillis;
+
+        private Stamp(long version, long expiresAtMillis) {
+            this.version = version;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
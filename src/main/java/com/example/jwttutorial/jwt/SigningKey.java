@@ -0,0 +1,50 @@
+package com.example.jwttutorial.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.security.Key;
+
+/**
+ * kid 로 식별되는 서명 키
+ * HMAC 키는 서명과 검증에 같은 키를 사용하고, RSA/EC 키는 개인 키로 서명하고 공개 키로 검증
+ * 개인 키가 없는 키는 검증 전용 (키 교체 기간 동안 이전 키로 발급된 토큰 검증에 사용)
+ */
+public final class SigningKey {
+
+    private final String id;
+    private final SignatureAlgorithm algorithm;
+    private final Key signingKey;
+    private final Key verificationKey;
+
+    public SigningKey(String id, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey) {
+        this.id = id;
+        this.algorithm = algorithm;
+        this.signingKey = signingKey;
+        this.verificationKey = verificationKey;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    public Key getVerificationKey() {
+        return verificationKey;
+    }
+
+    public boolean canSign() {
+        return signingKey != null;
+    }
+
+    // 공개 키를 JWKS 로 배포할 수 있는 비대칭 키인지 여부
+    public boolean isAsymmetric() {
+        return algorithm.isRsa() || algorithm.isEllipticCurve();
+    }
+}
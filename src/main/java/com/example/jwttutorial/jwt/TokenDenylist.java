@@ -0,0 +1,101 @@
+package com.example.jwttutorial.jwt;
+
+import com.example.jwttutorial.sharedstate.SharedStateStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 만료 전에 폐기된 토큰(jti) 목록
+ * JwtFilter 가 요청마다 DB 조회 없이 폐기 여부를 확인할 수 있도록 메모리에 보관
+ *
+ * isRevoked: 블룸 필터로 먼저 확인하고, 있을 수도 있는 경우에만 정확한 집합(jti -> 만료 시각)을 조회
+ * 대부분의 토큰은 폐기되지 않았으므로 블룸 필터 단계에서 끝나며, 조회 과정에서 객체를 생성하지 않음
+ *
+ * revoke: SharedStateStore 의 revoked-token 항목(jti -> 만료 시각)으로 기록하여 다른 인스턴스에도 전달
+ * 다른 인스턴스에서 폐기된 토큰은 SharedStateStore 의 변경 알림으로 받아 이 인스턴스의 목록과 블룸 필터에 추가
+ * removeExpired: 만료된 항목은 토큰 자체가 만료 검증에서 거부되므로 주기적으로 제거하고 블룸 필터를 다시 만듦
+ */
+@Component
+public class TokenDenylist implements InitializingBean {
+
+    private static final String NAMESPACE = "revoked-token";
+
+    private final Logger logger = LoggerFactory.getLogger(TokenDenylist.class);
+    private final SharedStateStore sharedStateStore;
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private volatile BloomFilter bloomFilter;
+
+    public TokenDenylist(
+            SharedStateStore sharedStateStore,
+            @Value("${jwt.denylist.expected-entries:100000}") int expectedEntries,
+            @Value("${jwt.denylist.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.sharedStateStore = sharedStateStore;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    // 아직 만료되지 않은 폐기 토큰으로 메모리 목록을 복원하고, 이후 변경(다른 인스턴스의 폐기 포함)을 구독
+    @Override
+    public void afterPropertiesSet() {
+        sharedStateStore.forEach(NAMESPACE, (tokenId, expiresAt, ignored) -> revokedTokens.put(tokenId, expiresAt));
+        rebuildBloomFilter();
+        sharedStateStore.addListener(NAMESPACE, (tokenId, expiresAt, ignored) -> add(tokenId, expiresAt));
+        logger.info("폐기된 토큰 {}건을 불러왔습니다.", revokedTokens.size());
+    }
+
+    // 토큰 ID(jti)가 폐기되었는지 확인
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        Long expiresAt = revokedTokens.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    // 토큰 ID(jti)를 만료 시각까지 폐기 목록에 추가
+    // (리스너를 통해 이 인스턴스의 목록에도 바로 추가됨)
+    public void revoke(String tokenId, long expiresAtMillis) {
+        sharedStateStore.put(NAMESPACE, tokenId, expiresAtMillis, expiresAtMillis);
+        logger.info("토큰을 폐기했습니다, jti: {}", tokenId);
+    }
+
+    public int size() {
+        return revokedTokens.size();
+    }
+
+    // 만료된 항목 제거 후 남은 항목으로 블룸 필터를 다시 만듦 (블룸 필터는 항목을 삭제할 수 없음)
+    @Scheduled(fixedDelayString = "${jwt.denylist.cleanup-interval-ms:60000}")
+    public void removeExpired() {
+        long now = System.currentTimeMillis();
+        int before = revokedTokens.size();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        if (revokedTokens.size() != before) {
+            rebuildBloomFilter();
+        }
+    }
+
+    private void add(String tokenId, long expiresAtMillis) {
+        synchronized (writeLock) {
+            revokedTokens.put(tokenId, expiresAtMillis);
+            bloomFilter.add(tokenId);
+        }
+    }
+
+    private void rebuildBloomFilter() {
+        synchronized (writeLock) {
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revokedTokens.size() * 2), falsePositiveRate);
+            revokedTokens.keySet().forEach(rebuilt::add);
+            this.bloomFilter = rebuilt;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.jwttutorial.jwt;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증 전에 토큰 모양만으로 걸러내는 사전 검사
+ * JJWT 파서는 잘못된 토큰마다 예외(스택 트레이스 포함)를 만들므로, 형식이 틀린 토큰은 여기서 예외 없이 거절
+ *
+ * 1. 길이: jwt.precheck.max-length 이하
+ * 2. 구조: '.' 으로 나뉜 세 부분(header.payload.signature), 각 부분은 비어 있지 않은 Base64URL 문자열
+ * 3. 헤더: kid 로 찾은 키가 등록되어 있고 alg 가 그 키의 알고리즘과 같은지 (JwtKeyRegistry 와 같은 규칙)
+ *    이 서버가 발급하는 헤더는 키마다 하나뿐이므로 시작할 때 키별 헤더 부분을 미리 통과로 등록하여 디코딩하지 않음
+ *    그 밖의 헤더는 디코딩하여 검사하고, 통과한 헤더만 MAX_CACHED_HEADERS 개까지 추가로 캐시
+ *    (거절한 헤더는 캐시하지 않으므로 임의의 헤더를 보내도 발급한 토큰의 헤더 검사는 느려지지 않음)
+ *
+ * 거절 사유는 JJWT 가 같은 토큰에 대해 돌려주던 상태와 맞춤
+ * (형식 오류 MALFORMED, 서명 없음 UNSUPPORTED, 키/알고리즘 불일치 BAD_SIGNATURE)
+ */
+@Component
+public class TokenPrecheck {
+
+    private static final int MAX_CACHED_HEADERS = 256;
+    private static final boolean[] BASE64_URL = new boolean[128];
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    static {
+        for (char c = 'A'; c <= 'Z'; c++) {
+            BASE64_URL[c] = true;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            BASE64_URL[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            BASE64_URL[c] = true;
+        }
+        BASE64_URL['-'] = true;
+        BASE64_URL['_'] = true;
+    }
+
+    private final JwtKeyRegistry keyRegistry;
+    private final int maxLength;
+
+    // 통과한 헤더 부분, 발급 헤더는 미리 등록하고 그 밖의 헤더는 MAX_CACHED_HEADERS 개까지만 추가
+    private final Map<String, Boolean> validHeaders = new ConcurrentHashMap<>();
+    private final int issuedHeaderCount;
+
+    public TokenPrecheck(JwtKeyRegistry keyRegistry, @Value("${jwt.precheck.max-length:8192}") int maxLength) {
+        this.keyRegistry = keyRegistry;
+        this.maxLength = maxLength;
+
+        for (SigningKey signingKey : keyRegistry.getKeys()) {
+            validHeaders.put(encodedHeader(signingKey.getId(), signingKey), Boolean.TRUE);
+            // kid 가 없는 토큰은 기본 키로 검증 (JwtKeyRegistry 와 같은 규칙)
+            if (JwtKeyRegistry.DEFAULT_KEY_ID.equals(signingKey.getId())) {
+                validHeaders.put(encodedHeader(null, signingKey), Boolean.TRUE);
+            }
+        }
+        this.issuedHeaderCount = validHeaders.size();
+    }
+
+    /**
+     * 사전 검사를 통과하면 null, 거절하면 그 사유
+     */
+    public TokenVerification.Status check(String token) {
+        int length = token.length();
+        if (length > maxLength) {
+            return TokenVerification.Status.MALFORMED;
+        }
+
+        int firstDot = -1;
+        int secondDot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (firstDot < 0) {
+                    firstDot = i;
+                } else if (secondDot < 0) {
+                    secondDot = i;
+                } else {
+                    return TokenVerification.Status.MALFORMED;
+                }
+            } else if (c >= 128 || !BASE64_URL[c]) {
+                return TokenVerification.Status.MALFORMED;
+            }
+        }
+        if (secondDot < 0 || firstDot == 0 || secondDot == firstDot + 1) {
+            return TokenVerification.Status.MALFORMED;
+        }
+        if (secondDot == length - 1) {
+            // 서명이 없는 토큰 (alg: none)
+            return TokenVerification.Status.UNSUPPORTED;
+        }
+
+        TokenVerification.Status headerResult = checkHeader(token.substring(0, firstDot));
+        return headerResult == TokenVerification.Status.VALID ? null : headerResult;
+    }
+
+    private TokenVerification.Status checkHeader(String header) {
+        if (validHeaders.containsKey(header)) {
+            return TokenVerification.Status.VALID;
+        }
+
+        TokenVerification.Status result = decodeHeader(header);
+        if (result == TokenVerification.Status.VALID && validHeaders.size() < issuedHeaderCount + MAX_CACHED_HEADERS) {
+            validHeaders.putIfAbsent(header, Boolean.TRUE);
+        }
+        return result;
+    }
+
+    // 캐시된 통과 헤더 수 (테스트용)
+    int cachedHeaderCount() {
+        return validHeaders.size();
+    }
+
+    // JJWT 가 발급할 때와 같은 헤더 (kid 를 먼저 넣고 서명할 때 alg 를 추가), 직렬화도 JJWT 와 같은 Jackson 사용
+    private static String encodedHeader(String keyId, SigningKey signingKey) {
+        Map<String, String> header = new LinkedHashMap<>();
+        if (keyId != null) {
+            header.put("kid", keyId);
+        }
+        header.put("alg", signingKey.getAlgorithm().getValue());
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(header));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private TokenVerification.Status decodeHeader(String header) {
+        JsonNode node;
+        try {
+            node = OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(header));
+        } catch (IllegalArgumentException | IOException e) {
+            return TokenVerification.Status.MALFORMED;
+        }
+        if (node == null || !node.isObject() || !node.path("alg").isTextual()) {
+            return TokenVerification.Status.MALFORMED;
+        }
+
+        JsonNode kid = node.get("kid");
+        if (kid != null && !kid.isTextual()) {
+            return TokenVerification.Status.MALFORMED;
+        }
+        SigningKey signingKey = keyRegistry.getKey(kid == null ? JwtKeyRegistry.DEFAULT_KEY_ID : kid.asText());
+        if (signingKey == null || !signingKey.getAlgorithm().getValue().equals(node.get("alg").asText())) {
+            return TokenVerification.Status.BAD_SIGNATURE;
+        }
+        return TokenVerification.Status.VALID;
+    }
+}
@@ -1,9 +1,7 @@
 package com.example.jwttutorial.jwt;
 
-import com.example.jwttutorial.entity.Member;
+import com.example.jwttutorial.service.MemberDetails;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
@@ -11,110 +9,317 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.Date;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * JWT 토큰의 생성, 검증, 사용자 정보 추출 등의 역할을 수행
  * afterPropertiesSet: InitializingBean 인터페이스의 메소드로, 빈이 생성된 후 초기화 작업을 수행
  *
  * createToken: 인증 정보를 바탕으로 JWT 토큰을 생성하는 메소드입니다.
- * 인증 정보를 토큰의 클레임(claim)으로 저장하고, HS512 알고리즘을 사용하여 서명
+ * jwt.reference-token.enabled=true 이면 JWT 대신 참조 토큰을 발급 (ReferenceTokenStore)
+ * 인증 정보를 토큰의 클레임(claim)으로 저장하고, JwtKeyRegistry 의 활성 키로 서명 (헤더에 kid 기록)
+ * 활성 키가 HS512 이면 JJWT 대신 Hs512TokenEngine 으로 같은 토큰을 만듦
+ *
+ * 로그인한 회원의 ID와 닉네임은 mid / nick 클레임으로 함께 기록
+ * 회원의 보안 버전은 sv 클레임으로 기록 (권한 변경/비활성화가 없었던 회원(0)은 기록하지 않음)
  *
  * getAuthentication: 주어진 JWT 토큰으로부터 사용자 정보와 권한 정보를 추출하여 Authentication 객체 생성
- * 추출한 정보를 기반으로 사용자를 인증
+ * principal 은 클레임만으로 만든 JwtPrincipal 이며 DB 를 조회하지 않음
  *
  * validateToken: 주어진 JWT 토큰의 유효성을 검사하는 메소드
  * 서명의 유효성 및 만료 여부 등을 확인 유효한 토큰인지 검증 결과를 반환
+ *
+ * verify: 서명 검증과 클레임 파싱을 한 번만 수행하여 검증 결과와 Authentication 객체를 함께 반환
+ * 참조 토큰("rt_" 로 시작)은 ReferenceTokenStore 의 메모리 맵 조회로 검증하고, JWT 만 서명을 검증
+ * 형식이 잘못된 토큰은 TokenPrecheck 로 JJWT 파서(예외 생성)를 거치지 않고 먼저 거절
+ * 이 클래스가 발급하는 모양의 HS512 토큰은 Hs512TokenEngine 으로 검증하고, 그 외 토큰만 JJWT 로 검증
+ * 요청마다 검증이 필요한 JwtFilter 에서 사용하며, 검증에 성공한 결과는 VerifiedTokenCache 에 캐시
+ * 캐시 여부와 관계없이 TokenDenylist 로 폐기된 토큰(jti)인지, SecurityVersionTable 로 보안 버전이 지난 토큰인지 확인
+ *
+ * revoke: 토큰을 만료 시각까지 폐기 목록에 추가 (로그아웃, 관리자 폐기)
  */
 @Component
 public class TokenProvider implements InitializingBean {
 
+    public static final String MEMBER_ID_KEY = "mid";
+    public static final String NICKNAME_KEY = "nick";
+    public static final String SECURITY_VERSION_KEY = "sv";
+
     private final Logger logger = LoggerFactory.getLogger(TokenProvider.class);
-    private static final String AUTHORITIES_KEY = "auth";
-    private final String secret;
     private final long tokenValidityInMilliseconds;
-    private Key key;
+    private final JwtKeyRegistry keyRegistry;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenDenylist tokenDenylist;
+    private final JwtMetrics jwtMetrics;
+    private final AuthorityCodec authorityCodec;
+    private final TokenPrecheck tokenPrecheck;
+    private final ReferenceTokenStore referenceTokenStore;
+    private final SecurityVersionTable securityVersionTable;
+    private final Function<String, TokenVerification> verifier = this::parseAndVerify;
+    private JwtParser jwtParser;
+    private Hs512TokenEngine hs512Engine;
 
     public TokenProvider(
-            @Value("${jwt.secret}") String secret,
-            @Value("${jwt.token-validity-in-seconds}") long tokenValidityInSeconds) {
+            @Value("${jwt.token-validity-in-seconds}") long tokenValidityInSeconds,
+            JwtKeyRegistry keyRegistry,
+            VerifiedTokenCache verifiedTokenCache,
+            TokenDenylist tokenDenylist,
+            JwtMetrics jwtMetrics,
+            AuthorityCodec authorityCodec,
+            TokenPrecheck tokenPrecheck,
+            ReferenceTokenStore referenceTokenStore,
+            SecurityVersionTable securityVersionTable) {
 
-        this.secret = secret;
         this.tokenValidityInMilliseconds = tokenValidityInSeconds * 1000;
+        this.keyRegistry = keyRegistry;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenDenylist = tokenDenylist;
+        this.jwtMetrics = jwtMetrics;
+        this.authorityCodec = authorityCodec;
+        this.tokenPrecheck = tokenPrecheck;
+        this.referenceTokenStore = referenceTokenStore;
+        this.securityVersionTable = securityVersionTable;
     }
 
-    // Secret 키를 Base64 디코딩하여 Key 객체로 초기화
+    // 토큰 헤더의 kid 로 검증 키를 찾는 JwtParser 초기화
     @Override
     public void afterPropertiesSet() throws Exception {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        this.key = Keys.hmacShaKeyFor(keyBytes);
+        // JwtParser 는 불변이고 스레드 안전하므로 한 번만 생성하여 재사용
+        this.jwtParser = Jwts.parserBuilder().setSigningKeyResolver(keyRegistry).build();
+        // HS512 키마다 헤더와 Mac 슬롯을 미리 준비
+        this.hs512Engine = new Hs512TokenEngine(keyRegistry);
     }
 
     // 인증 정보를 바탕으로 JWT 토큰을 생성하는 메소드
     public String createToken(Authentication authentication) {
-        logger.info("TokenProvider: createToken...");
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
+        long startNanos = System.nanoTime();
+
+        // 참조 토큰 방식이면 클레임을 서버에 보관하고 무작위 토큰만 반환
+        if (referenceTokenStore.isEnabled()) {
+            String token = referenceTokenStore.issue(authentication, tokenValidityInMilliseconds);
+            jwtMetrics.recordCreate(System.nanoTime() - startNanos);
+            return token;
+        }
 
         long now = (new Date().getTime());
         Date validity = new Date(now + this.tokenValidityInMilliseconds);
 
         // JWT 토큰 생성
-        String token = Jwts.builder()
-                .setSubject(authentication.getName())
-                .claim(AUTHORITIES_KEY, authorities)
-                .signWith(key, SignatureAlgorithm.HS512)
-                .setExpiration(validity)
-                .compact();
+        SigningKey signingKey = keyRegistry.getActiveKey();
+        // 토큰을 개별적으로 폐기할 수 있도록 고유 ID(jti) 부여
+        String tokenId = UUID.randomUUID().toString();
+        String token;
+        if (hs512Engine.canSign(signingKey)) {
+            // JJWT 와 같은 헤더/클레임으로 직렬화하고 스레드별 Mac 으로 서명
+            Object principal = authentication.getPrincipal();
+            token = hs512Engine.sign(signingKey, new Hs512Claims(tokenId, authentication.getName(),
+                    authorityCodec.maskClaim(authentication.getAuthorities()),
+                    authorityCodec.namesClaim(authentication.getAuthorities()),
+                    memberId(principal), nickname(principal), securityVersion(principal),
+                    validity.getTime() / 1000));
+        } else {
+            JwtBuilder builder = Jwts.builder()
+                    .setHeaderParam(JwsHeader.KEY_ID, signingKey.getId())
+                    .setId(tokenId)
+                    .setSubject(authentication.getName());
+            // 권한 정보는 jwt.claims.compact 설정에 따라 문자열 또는 비트마스크로 기록
+            authorityCodec.write(authentication.getAuthorities(), builder);
+            // "내 정보" 조회를 토큰만으로 처리할 수 있도록 회원 ID와 닉네임 기록
+            writeProfile(authentication.getPrincipal(), builder);
+            token = builder
+                    .signWith(signingKey.getSigningKey(), signingKey.getAlgorithm())
+                    .setExpiration(validity)
+                    .compact();
+        }
 
-        logger.debug("생성된 JWT 토큰: {}", token);
+        jwtMetrics.recordCreate(System.nanoTime() - startNanos);
 
         return token;
     }
 
     // JWT 토큰에서 사용자 정보와 권한 정보를 추출하여 Authentication 객체 생성
     public Authentication getAuthentication(String token) {
-        Claims claims = Jwts
-                .parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
-
-        // 추출한 정보를 기반으로 사용자를 인증하여 Authentication 객체 생성
-        Member principal = new Member(claims.getSubject(), "", authorities);
-
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        return createAuthentication(claims, token);
     }
 
     // 주어진 JWT 토큰의 유효성을 검사하는 메소드
     public boolean validateToken(String token) {
+        return verify(token).isValid();
+    }
+
+    // 서명 검증과 클레임 파싱을 한 번에 수행하고, 유효한 경우 Authentication 객체까지 생성하여 반환
+    // 이미 검증된 토큰이면 캐시된 결과를 반환
+    public TokenVerification verify(String token) {
+        TokenVerification verification;
+        if (ReferenceTokenStore.isReferenceToken(token)) {
+            // 참조 토큰은 서명이 없으므로 서버에 보관된 검증 결과를 그대로 사용
+            verification = referenceTokenStore.verify(token);
+        } else {
+            long startNanos = System.nanoTime();
+            TokenVerification.Status rejected = tokenPrecheck.check(token);
+            if (rejected != null) {
+                return reject(rejected, startNanos);
+            }
+            verification = verifiedTokenCache.get(token, verifier);
+        }
+        if (verification.isValid() && tokenDenylist.isRevoked(verification.getTokenId())) {
+            logger.debug("폐기된 JWT 토큰입니다.");
+            return TokenVerification.failure(TokenVerification.Status.REVOKED);
+        }
+        if (verification.isValid() && isStale(verification)) {
+            logger.debug("권한 변경 이전에 발급된 JWT 토큰입니다.");
+            return TokenVerification.failure(TokenVerification.Status.STALE);
+        }
+        return verification;
+    }
+
+    // 유효한 토큰을 만료 시각까지 폐기, 이미 유효하지 않은 토큰이면 false 반환
+    public boolean revoke(String token) {
+        TokenVerification verification = verify(token);
+        if (!verification.isValid()) {
+            return false;
+        }
+        tokenDenylist.revoke(verification.getTokenId(), verification.getExpiresAtMillis());
+        return true;
+    }
+
+    // 토큰 원문 없이 토큰 ID(jti)로 폐기, 만료 시각을 알 수 없으므로 최대 유효 기간 동안 보관
+    public void revokeTokenId(String tokenId) {
+        tokenDenylist.revoke(tokenId, System.currentTimeMillis() + tokenValidityInMilliseconds);
+    }
+
+    private TokenVerification parseAndVerify(String token) {
+        long startNanos = System.nanoTime();
+        Hs512Claims hs512Claims = hs512Engine.verify(token, System.currentTimeMillis());
+        if (hs512Claims != null) {
+            return verified(hs512Claims, token, startNanos);
+        }
+
+        Claims claims;
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
-            logger.info("잘못된 JWT 서명입니다.");
+            claims = jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
-            logger.info("만료된 JWT 토큰입니다.");
+            logger.debug("만료된 JWT 토큰입니다.");
+            return reject(TokenVerification.Status.EXPIRED, startNanos);
         } catch (UnsupportedJwtException e) {
-            logger.info("지원되지 않는 JWT 토큰입니다.");
-        } catch (IllegalArgumentException e) {
-            logger.info("JWT 토큰이 잘못되었습니다.");
+            logger.debug("지원되지 않는 JWT 토큰입니다.");
+            return reject(TokenVerification.Status.UNSUPPORTED, startNanos);
+        } catch (io.jsonwebtoken.security.SecurityException e) {
+            logger.debug("잘못된 JWT 서명입니다.");
+            return reject(TokenVerification.Status.BAD_SIGNATURE, startNanos);
+        } catch (MalformedJwtException | IllegalArgumentException e) {
+            logger.debug("JWT 토큰이 잘못되었습니다.");
+            return reject(TokenVerification.Status.MALFORMED, startNanos);
+        } catch (JwtException e) {
+            // Base64 디코딩 오류 등 위에서 분류되지 않은 JJWT 예외
+            logger.debug("JWT 토큰이 잘못되었습니다.");
+            return reject(TokenVerification.Status.MALFORMED, startNanos);
         }
-        return false;
+        jwtMetrics.recordVerify(TokenVerification.Status.VALID, System.nanoTime() - startNanos);
+
+        long resolveStartNanos = System.nanoTime();
+        Authentication authentication = createAuthentication(claims, token);
+        jwtMetrics.recordResolve(System.nanoTime() - resolveStartNanos);
+
+        return TokenVerification.valid(authentication, claims.getId(), claims.getExpiration().getTime());
     }
-}
 
+    // Hs512TokenEngine 의 검증 결과를 JJWT 경로와 같은 결과로 변환
+    private TokenVerification verified(Hs512Claims claims, String token, long startNanos) {
+        if (!claims.isValid()) {
+            logger.debug("JWT 토큰 검증 실패: {}", claims.getStatus());
+            return reject(claims.getStatus(), startNanos);
+        }
+        jwtMetrics.recordVerify(TokenVerification.Status.VALID, System.nanoTime() - startNanos);
+
+        long resolveStartNanos = System.nanoTime();
+        List<GrantedAuthority> authorities = authorityCodec.read(claims.getRoleMask(), claims.getAuthorities());
+        JwtPrincipal principal = new JwtPrincipal(claims.getSubject(), claims.getMemberId(),
+                claims.getNickname(), claims.getSecurityVersion(), authorities);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        jwtMetrics.recordResolve(System.nanoTime() - resolveStartNanos);
+
+        return TokenVerification.valid(authentication, claims.getTokenId(), claims.getExpirationSeconds() * 1000);
+    }
+
+    // 검증 결과의 sv 가 회원의 현재 보안 버전보다 낮은지 확인 (캐시된 결과도 매번 확인)
+    private boolean isStale(TokenVerification verification) {
+        JwtPrincipal principal = (JwtPrincipal) verification.getAuthentication().getPrincipal();
+        return securityVersionTable.isStale(principal.getMembername(), principal.getSecurityVersion());
+    }
+
+    private TokenVerification reject(TokenVerification.Status status, long startNanos) {
+        jwtMetrics.recordVerify(status, System.nanoTime() - startNanos);
+        return TokenVerification.failure(status);
+    }
+
+    // 검증된 클레임으로부터 Authentication 객체 생성
+    private Authentication createAuthentication(Claims claims, String token) {
+        // 같은 권한 조합이면 미리 만들어 둔 불변 권한 리스트를 공유
+        List<GrantedAuthority> authorities = authorityCodec.read(claims);
+
+        // 추출한 정보를 기반으로 사용자를 인증하여 Authentication 객체 생성
+        Object memberId = claims.get(MEMBER_ID_KEY);
+        Object securityVersion = claims.get(SECURITY_VERSION_KEY);
+        JwtPrincipal principal = new JwtPrincipal(claims.getSubject(),
+                memberId instanceof Number ? ((Number) memberId).longValue() : null,
+                claims.get(NICKNAME_KEY, String.class),
+                securityVersion instanceof Number ? ((Number) securityVersion).intValue() : 0,
+                authorities);
+
+        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+    }
+
+    // 로그인(MemberDetails) 또는 기존 토큰(JwtPrincipal)에서 온 인증 정보면 회원 ID, 닉네임, 보안 버전을 클레임으로 기록
+    private static void writeProfile(Object principal, JwtBuilder builder) {
+        claimIfPresent(builder, MEMBER_ID_KEY, memberId(principal));
+        claimIfPresent(builder, NICKNAME_KEY, nickname(principal));
+        int securityVersion = securityVersion(principal);
+        if (securityVersion != 0) {
+            builder.claim(SECURITY_VERSION_KEY, securityVersion);
+        }
+    }
+
+    // 로그인(MemberDetails) 또는 기존 토큰(JwtPrincipal) 인증 정보의 회원 정보, 그 외에는 null / 0 (ReferenceTokenStore 와 공유)
+    static Long memberId(Object principal) {
+        if (principal instanceof MemberDetails) {
+            return ((MemberDetails) principal).getMemberId();
+        }
+        if (principal instanceof JwtPrincipal) {
+            return ((JwtPrincipal) principal).getMemberId();
+        }
+        return null;
+    }
+
+    static String nickname(Object principal) {
+        if (principal instanceof MemberDetails) {
+            return ((MemberDetails) principal).getNickname();
+        }
+        if (principal instanceof JwtPrincipal) {
+            return ((JwtPrincipal) principal).getNickname();
+        }
+        return null;
+    }
+
+    static int securityVersion(Object principal) {
+        if (principal instanceof MemberDetails) {
+            return ((MemberDetails) principal).getSecurityVersion();
+        }
+        if (principal instanceof JwtPrincipal) {
+            return ((JwtPrincipal) principal).getSecurityVersion();
+        }
+        return 0;
+    }
+
+    private static void claimIfPresent(JwtBuilder builder, String name, Object value) {
+        if (value != null) {
+            builder.claim(name, value);
+        }
+    }
+}
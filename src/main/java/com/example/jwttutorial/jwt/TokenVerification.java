@@ -0,0 +1,80 @@
+package com.example.jwttutorial.jwt;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * JWT 토큰 검증 결과
+ * 서명 검증과 클레임 파싱을 한 번에 수행한 결과를 담으며, 검증에 성공한 경우에만 Authentication 객체를 가짐
+ *
+ * 실패 결과는 Authentication 이 없으므로 상태별로 미리 만들어 두고 재사용
+ * 검증에 성공한 결과는 토큰의 만료 시각(exp)까지 VerifiedTokenCache 에 캐시될 수 있음
+ */
+public final class TokenVerification {
+
+    public enum Status {
+        VALID,          // 유효한 토큰
+        EXPIRED,        // 만료된 토큰
+        BAD_SIGNATURE,  // 서명이 올바르지 않은 토큰
+        MALFORMED,      // 형식이 잘못된 토큰
+        UNSUPPORTED,    // 지원되지 않는 토큰
+        REVOKED,        // 만료 전에 폐기된 토큰 (로그아웃, 관리자 폐기)
+        STALE           // 발급 이후 회원의 권한이 바뀌었거나 비활성화된 토큰 (SecurityVersionTable)
+    }
+
+    private static final TokenVerification[] FAILURES = new TokenVerification[Status.values().length];
+
+    static {
+        for (Status status : Status.values()) {
+            if (status != Status.VALID) {
+                FAILURES[status.ordinal()] = new TokenVerification(status, null, null, 0L);
+            }
+        }
+    }
+
+    private final Status status;
+    private final Authentication authentication;
+    private final String tokenId;
+    private final long expiresAtMillis;
+
+    private TokenVerification(Status status, Authentication authentication, String tokenId, long expiresAtMillis) {
+        this.status = status;
+        this.authentication = authentication;
+        this.tokenId = tokenId;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    // 검증에 성공한 결과 생성
+    public static TokenVerification valid(Authentication authentication, String tokenId, long expiresAtMillis) {
+        return new TokenVerification(Status.VALID, authentication, tokenId, expiresAtMillis);
+    }
+
+    // 검증에 실패한 결과 반환 (미리 만들어 둔 인스턴스 재사용)
+    public static TokenVerification failure(Status status) {
+        if (status == Status.VALID) {
+            throw new IllegalArgumentException("VALID 는 실패 상태가 아닙니다.");
+        }
+        return FAILURES[status.ordinal()];
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Authentication getAuthentication() {
+        return authentication;
+    }
+
+    // 토큰 ID (jti), 실패 결과는 null
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    // 토큰의 만료 시각 (epoch millis), 실패 결과는 0
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+}
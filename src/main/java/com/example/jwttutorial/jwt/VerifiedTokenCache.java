@@ -0,0 +1,111 @@
+package com.example.jwttutorial.jwt;
+
+import com.example.jwttutorial.util.TokenDigest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 검증이 끝난 JWT 토큰의 결과를 보관하는 캐시
+ * 같은 토큰이 반복해서 들어오면 HMAC 서명 검증과 클레임 파싱을 다시 수행하지 않고 저장된 결과를 사용
+ *
+ * 키: 토큰 원문 대신 SHA-256 다이제스트를 사용하여 메모리에 토큰을 그대로 보관하지 않음
+ * 값: 검증에 성공한 TokenVerification (Authentication 과 만료 시각 포함)
+ *
+ * 최대 개수(jwt.cache.maximum-size)를 넘으면 오래 쓰이지 않은 항목부터 제거되고,
+ * 각 항목은 토큰의 만료 시각(exp)에 맞춰 제거됨
+ * 조회는 Caffeine 의 lock-free 읽기 경로를 사용하므로 여러 요청 스레드가 동시에 조회해도 경합이 생기지 않음
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<ByteBuffer, TokenVerification> cache;
+
+    public VerifiedTokenCache(
+            @Value("${jwt.cache.enabled:false}") boolean enabled,
+            @Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+
+        // 비활성화된 경우 캐시를 만들지 않고 항상 검증을 수행
+        this.cache = enabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfter(new TokenExpiry())
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    /**
+     * 캐시에 유효한 검증 결과가 있으면 반환하고, 없으면 verifier 로 검증한 뒤 성공한 결과만 캐시
+     * 실패한 결과(만료, 서명 오류 등)는 캐시하지 않음
+     */
+    public TokenVerification get(String token, Function<String, TokenVerification> verifier) {
+        if (cache == null) {
+            return verifier.apply(token);
+        }
+
+        ByteBuffer key = ByteBuffer.wrap(TokenDigest.sha256(token));
+        TokenVerification cached = cache.getIfPresent(key);
+        if (cached != null && cached.getExpiresAtMillis() > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        TokenVerification verification = verifier.apply(token);
+        if (verification.isValid()) {
+            cache.put(key, verification);
+        }
+        return verification;
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    // 캐시 적중 횟수
+    public long getHitCount() {
+        return cache == null ? 0L : cache.stats().hitCount();
+    }
+
+    // 캐시 미스 횟수
+    public long getMissCount() {
+        return cache == null ? 0L : cache.stats().missCount();
+    }
+
+    // 크기 초과 또는 만료로 제거된 항목 수
+    public long getEvictionCount() {
+        return cache == null ? 0L : cache.stats().evictionCount();
+    }
+
+    // 현재 캐시된 항목 수 (근사값)
+    public long getSize() {
+        return cache == null ? 0L : cache.estimatedSize();
+    }
+
+    // 항목마다 토큰의 만료 시각까지만 캐시에 머물도록 하는 만료 정책
+    private static final class TokenExpiry implements Expiry<ByteBuffer, TokenVerification> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, TokenVerification value, long currentTime) {
+            long remainingMillis = value.getExpiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, TokenVerification value,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, TokenVerification value,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
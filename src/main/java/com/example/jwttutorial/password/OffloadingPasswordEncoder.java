@@ -0,0 +1,149 @@
+package com.example.jwttutorial.password;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 계산을 전용 스레드 풀에서 수행하는 PasswordEncoder
+ * 해시 계산은 CPU 를 오래 점유하므로 동시에 계산하는 수를 스레드 풀 크기로 제한하고,
+ * 대기열(queue-capacity)이 가득 차면 요청 스레드를 붙잡아 두지 않고 PasswordHashingRejectedException 으로 바로 거절
+ *
+ * 실제 해시 알고리즘은 delegate(DelegatingPasswordEncoder)가 담당
+ *
+ * timeout-ms 가 지나면 요청은 PasswordHashingRejectedException 으로 끝나지만, BCrypt/Argon2/PBKDF2 는 인터럽트를 확인하지 않으므로
+ * future.cancel(true) 로는 이미 시작된 해시 계산이 멈추지 않고 끝까지 스레드를 점유함 (대기열에 있던 작업만 실행되지 않음)
+ * 따라서 timeout-ms 는 과부하 시 응답을 끊는 용도일 뿐 CPU 사용량을 줄이지 않으며,
+ * 해시 1회 시간(calibratePasswordHashing 결과) x (queue-capacity / threads + 1) 보다 넉넉하게 잡아야 정상 부하에서 끊기지 않음
+ *
+ * password.match / password.encode: 대기열에서 기다린 시간을 포함한 전체 시간
+ * password.hashing.queue.depth: 현재 대기 중인 해시 요청 수
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final Timer matchTimer;
+    private final Timer encodeTimer;
+
+    public OffloadingPasswordEncoder(
+            PasswordEncoder delegate,
+            PasswordHashingProperties.Executor properties,
+            MeterRegistry meterRegistry) {
+        int threads = properties.getThreads() > 0
+                ? properties.getThreads()
+                : Runtime.getRuntime().availableProcessors();
+
+        this.delegate = delegate;
+        this.timeoutMs = properties.getTimeoutMs();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.matchTimer = Timer.builder("password.match")
+                .description("비밀번호 비교 시간 (대기 시간 포함)")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.encode")
+                .description("비밀번호 해시 생성 시간 (대기 시간 포함)")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.depth", this, OffloadingPasswordEncoder::getQueueDepth)
+                .description("대기 중인 비밀번호 해시 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long startNanos = System.nanoTime();
+        try {
+            return execute(() -> delegate.encode(rawPassword));
+        } finally {
+            encodeTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long startNanos = System.nanoTime();
+        try {
+            return execute(() -> delegate.matches(rawPassword, encodedPassword));
+        } finally {
+            matchTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 파라미터 비교만 하므로 요청 스레드에서 바로 수행
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // 해시 계산만 하는 원래 PasswordEncoder, 호출한 스레드에서 바로 계산함
+    public PasswordEncoder getDelegate() {
+        return delegate;
+    }
+
+    // 해시 스레드 풀, reactive 프로필은 이 풀을 스케줄러로 감싸 대기 없이 사용 (가득 차면 RejectedExecutionException)
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    // 현재 대기 중인 해시 요청 수
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingRejectedException("비밀번호 해시 요청이 너무 많습니다.", e);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기열에 있던 작업은 실행되지 않지만, 이미 계산 중인 해시는 인터럽트와 관계없이 끝까지 실행됨
+            future.cancel(true);
+            throw new PasswordHashingRejectedException("비밀번호 해시 대기 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("비밀번호 해시 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            // 해시 과정에서 발생한 예외는 그대로 호출한 쪽에 전달
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.jwttutorial.password;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * PasswordHashingProperties 로 알고리즘별 PasswordEncoder 를 만드는 팩토리
+ */
+public final class PasswordEncoders {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private PasswordEncoders() {
+    }
+
+    /**
+     * {id} 접두사로 알고리즘을 구분하는 DelegatingPasswordEncoder 생성
+     * 새 비밀번호는 encoding-id 알고리즘으로 해시하고, 접두사가 없는 기존 해시($2a$...)는 BCrypt 로 검증
+     *
+     * upgradeEncoding 은 접두사가 encoding-id 와 다르거나,
+     * BCrypt 강도 / Argon2 파라미터가 현재 설정보다 낮은 경우 true 를 반환
+     */
+    public static PasswordEncoder delegating(PasswordHashingProperties properties) {
+        PasswordEncoder bcrypt = bcrypt(properties.getBcrypt().getStrength());
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(ARGON2, argon2(properties.getArgon2()));
+        encoders.put(PBKDF2, pbkdf2(properties.getPbkdf2()));
+
+        if (!encoders.containsKey(properties.getEncodingId())) {
+            throw new IllegalStateException("지원되지 않는 password.hashing.encoding-id 입니다: " + properties.getEncodingId());
+        }
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(properties.getEncodingId(), encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegating;
+    }
+
+    public static PasswordEncoder bcrypt(int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    public static PasswordEncoder argon2(PasswordHashingProperties.Argon2 argon2) {
+        return new Argon2PasswordEncoder(argon2.getSaltLength(), argon2.getHashLength(),
+                argon2.getParallelism(), argon2.getMemory(), argon2.getIterations());
+    }
+
+    public static PasswordEncoder pbkdf2(PasswordHashingProperties.Pbkdf2 pbkdf2) {
+        Pbkdf2PasswordEncoder encoder = new Pbkdf2PasswordEncoder("", pbkdf2.getSaltLength(),
+                pbkdf2.getIterations(), pbkdf2.getHashWidth());
+        encoder.setAlgorithm(Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+        return encoder;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.jwttutorial.password;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비밀번호 해시 설정 (password.hashing.*)
+ *
+ * encoding-id: 새 비밀번호를 해시할 알고리즘 (bcrypt, argon2, pbkdf2)
+ * 저장된 해시의 알고리즘이나 비용이 설정과 다르면 로그인에 성공할 때 새 설정으로 다시 해시하여 저장
+ *
+ * executor: 해시 계산을 요청 스레드 대신 수행할 전용 스레드 풀
+ * 대기열이 가득 차면 요청을 쌓아 두지 않고 바로 503 으로 거절
+ */
+@Data
+@ConfigurationProperties(prefix = "password.hashing")
+public class PasswordHashingProperties {
+
+    private String encodingId = "bcrypt";
+
+    private Bcrypt bcrypt = new Bcrypt();
+
+    private Argon2 argon2 = new Argon2();
+
+    private Pbkdf2 pbkdf2 = new Pbkdf2();
+
+    private Executor executor = new Executor();
+
+    @Data
+    public static class Bcrypt {
+        // log2 반복 횟수 (4 ~ 31)
+        private int strength = 10;
+    }
+
+    @Data
+    public static class Argon2 {
+        private int saltLength = 16;
+        private int hashLength = 32;
+        private int parallelism = 1;
+        // KiB 단위
+        private int memory = 16384;
+        private int iterations = 2;
+    }
+
+    @Data
+    public static class Pbkdf2 {
+        private int saltLength = 16;
+        private int iterations = 310000;
+        // bit 단위
+        private int hashWidth = 256;
+    }
+
+    @Data
+    public static class Executor {
+        // 0 이면 CPU 코어 수
+        private int threads = 0;
+        private int queueCapacity = 64;
+        // 해시 결과를 기다리는 최대 시간
+        private long timeoutMs = 5000;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.jwttutorial.password;
+
+/**
+ * 비밀번호 해시 스레드 풀이 포화 상태여서 요청을 처리하지 못한 경우 발생
+ * 요청을 쌓아 두지 않고 503 Service Unavailable 로 응답하기 위해 사용
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
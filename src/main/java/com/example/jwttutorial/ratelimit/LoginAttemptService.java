@@ -0,0 +1,95 @@
+package com.example.jwttutorial.ratelimit;
+
+import com.example.jwttutorial.config.CacheConfig;
+import com.example.jwttutorial.entity.Member;
+import com.example.jwttutorial.repository.MemberRepository;
+import com.example.jwttutorial.sharedstate.SharedStateStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 연속 로그인 실패에 따른 계정 잠금
+ * 실패 횟수와 잠금 만료 시각은 member 테이블에 저장하므로 재시작 후에도 유지됨
+ *
+ * 연속 실패가 threshold 번이 되면 base-seconds 동안 잠그고, 이후 실패할 때마다 잠금 시간을 두 배로 늘림 (최대 max-seconds)
+ * 로그인에 성공하면 실패 횟수와 잠금을 초기화
+ *
+ * 회원 캐시(memberByName)는 인스턴스마다 따로 있으므로, 잠금은 SharedStateStore 의 login-lock 항목(이름 -> 잠금 만료 시각)으로도 알림
+ * 다른 인스턴스는 캐시가 갱신되기 전이라도 shared-state.sync-interval-ms 안에 잠금을 적용함
+ */
+@Service
+public class LoginAttemptService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAttemptService.class);
+    private static final String LOCK_NAMESPACE = "login-lock";
+
+    private final MemberRepository memberRepository;
+    private final SharedStateStore sharedStateStore;
+    private final LoginRateLimitProperties.Lockout lockout;
+
+    public LoginAttemptService(MemberRepository memberRepository,
+                               SharedStateStore sharedStateStore,
+                               LoginRateLimitProperties properties) {
+        this.memberRepository = memberRepository;
+        this.sharedStateStore = sharedStateStore;
+        this.lockout = properties.getLockout();
+    }
+
+    // 비밀번호를 확인하기 전에 호출, 잠긴 계정이면 LoginRateLimitedException 발생 (회원 조회는 캐시 사용)
+    public void checkNotLocked(String membername) {
+        long sharedLockedUntil = sharedStateStore.get(LOCK_NAMESPACE, membername, 0);
+        if (sharedLockedUntil > System.currentTimeMillis()) {
+            long remainingMillis = sharedLockedUntil - System.currentTimeMillis();
+            throw new LoginRateLimitedException("계정이 잠겨 있습니다.", remainingMillis / 1000 + 1);
+        }
+        memberRepository.findOneWithAuthoritiesByMembername(membername)
+                .map(Member::getLockedUntil)
+                .ifPresent(lockedUntil -> {
+                    long remainingSeconds = Duration.between(Instant.now(), lockedUntil).getSeconds();
+                    if (remainingSeconds >= 0) {
+                        throw new LoginRateLimitedException("계정이 잠겨 있습니다.", remainingSeconds + 1);
+                    }
+                });
+    }
+
+    // 비밀번호가 틀린 경우 실패 횟수를 늘리고, 기준을 넘으면 계정을 잠금
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.MEMBER_BY_NAME, key = "#membername")
+    public void recordFailure(String membername) {
+        // 동시에 들어온 실패도 모두 세도록 DB 에서 증가시키고, 행 잠금을 쥔 채 증가된 값을 다시 읽음
+        if (memberRepository.incrementFailedLogins(membername) == 0) {
+            return;
+        }
+        int failures = memberRepository.findFailedLoginCount(membername).orElse(0);
+        if (failures >= lockout.getThreshold()) {
+            Duration duration = lockDuration(failures - lockout.getThreshold());
+            Instant lockedUntil = Instant.now().plus(duration);
+            memberRepository.updateLockedUntil(membername, lockedUntil);
+            sharedStateStore.put(LOCK_NAMESPACE, membername, lockedUntil.toEpochMilli(), lockedUntil.toEpochMilli());
+            logger.warn("연속 로그인 실패 {}회로 '{}' 계정을 {}초 동안 잠급니다.",
+                    failures, membername, duration.getSeconds());
+        }
+    }
+
+    // 로그인에 성공한 경우, 실패 기록이 있을 때만 초기화 (대부분의 로그인은 쓰기 없이 끝남)
+    public void recordSuccess(String membername) {
+        boolean hasFailures = memberRepository.findOneWithAuthoritiesByMembername(membername)
+                .map(member -> member.getFailedLoginCount() > 0 || member.getLockedUntil() != null)
+                .orElse(false);
+        if (hasFailures) {
+            memberRepository.resetFailedLogins(membername);
+        }
+    }
+
+    // threshold 를 넘은 실패마다 두 배, 최대 max-seconds
+    Duration lockDuration(int extraFailures) {
+        long seconds = lockout.getBaseSeconds() << Math.min(extraFailures, 20);
+        return Duration.ofSeconds(Math.min(seconds, lockout.getMaxSeconds()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.jwttutorial.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 로그인 시도 제한 설정 (auth.rate-limit.*)
+ *
+ * membername / ip: 회원 이름별, 클라이언트 IP별 토큰 버킷
+ * capacity 만큼 연속으로 시도할 수 있고, 이후에는 분당 refill-per-minute 번씩 다시 허용
+ *
+ * max-entries: 보관할 버킷 최대 수 (버킷 종류별), 넘치면 가장 오래 사용하지 않은 버킷부터 제거
+ * idle-timeout-seconds: 이 시간 동안 사용하지 않은 버킷은 cleanup-interval-ms 주기로 제거
+ *
+ * ip-failure: 클라이언트 IP별 로그인 실패 횟수, window-seconds 동안 limit 번 실패하면 그 IP 의 시도를 거절
+ * 토큰 버킷과 달리 SharedStateStore 로 모든 인스턴스가 같은 횟수를 보므로, 인스턴스 수만큼 시도 기회가 늘어나지 않음
+ *
+ * lockout: 연속 실패가 threshold 번을 넘으면 계정을 잠그고, 이후 실패할 때마다 잠금 시간을 두 배로 늘림 (최대 max-seconds)
+ */
+@Data
+@ConfigurationProperties(prefix = "auth.rate-limit")
+public class LoginRateLimitProperties {
+
+    private boolean enabled = true;
+
+    private Bucket membername = new Bucket(5, 5);
+
+    private Bucket ip = new Bucket(20, 20);
+
+    private int maxEntries = 100000;
+
+    private int stripes = 64;
+
+    private long idleTimeoutSeconds = 600;
+
+    private long cleanupIntervalMs = 60000;
+
+    private IpFailure ipFailure = new IpFailure();
+
+    private Lockout lockout = new Lockout();
+
+    @Data
+    public static class Bucket {
+        private int capacity;
+        private int refillPerMinute;
+
+        public Bucket() {
+        }
+
+        public Bucket(int capacity, int refillPerMinute) {
+            this.capacity = capacity;
+            this.refillPerMinute = refillPerMinute;
+        }
+    }
+
+    @Data
+    public static class IpFailure {
+        private int limit = 100;
+        private long windowSeconds = 600;
+    }
+
+    @Data
+    public static class Lockout {
+        private int threshold = 5;
+        private long baseSeconds = 60;
+        private long maxSeconds = 3600;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.jwttutorial.ratelimit;
+
+/**
+ * 로그인 시도 제한을 넘었거나 계정이 잠겨 있어 비밀번호 확인 전에 거절한 경우 발생
+ * 429 Too Many Requests 와 Retry-After 헤더로 응답하기 위해 사용
+ */
+public class LoginRateLimitedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginRateLimitedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.jwttutorial.ratelimit;
+
+import com.example.jwttutorial.sharedstate.SharedStateStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도 횟수 제한 (프로세스 내부 토큰 버킷)
+ * AuthenticationManager 를 호출하기 전에 회원 이름별, 클라이언트 IP별 버킷에서 토큰을 하나씩 사용하고,
+ * 어느 한쪽이라도 비어 있으면 비밀번호 해시를 계산하지 않고 바로 거절
+ *
+ * 로그인에 성공하면 회원 이름 버킷을 초기화 (IP 버킷은 같은 IP 의 다른 계정 시도를 막기 위해 유지)
+ *
+ * 토큰 버킷은 인스턴스마다 따로 동작하므로, IP별 로그인 실패 횟수는 SharedStateStore 로 모든 인스턴스가 함께 셈
+ * 확인은 로컬 메모리 사본에서 하고, 다른 인스턴스의 실패는 shared-state.sync-interval-ms 안에 반영됨
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginRateLimiter.class);
+    private static final String IP_FAILURE_NAMESPACE = "login-failure-ip";
+
+    private final LoginRateLimitProperties properties;
+    private final SharedStateStore sharedStateStore;
+    private final StripedBucketMap membernameBuckets;
+    private final StripedBucketMap ipBuckets;
+
+    public LoginRateLimiter(LoginRateLimitProperties properties, SharedStateStore sharedStateStore) {
+        this.properties = properties;
+        this.sharedStateStore = sharedStateStore;
+        this.membernameBuckets = new StripedBucketMap(properties.getStripes(), properties.getMaxEntries(),
+                properties.getMembername());
+        this.ipBuckets = new StripedBucketMap(properties.getStripes(), properties.getMaxEntries(),
+                properties.getIp());
+    }
+
+    // 로그인 시도 1회를 기록하고, 제한을 넘었으면 LoginRateLimitedException 발생
+    public void acquire(String membername, String clientIp) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        LoginRateLimitProperties.IpFailure ipFailure = properties.getIpFailure();
+        if (sharedStateStore.get(IP_FAILURE_NAMESPACE, clientIp, 0) >= ipFailure.getLimit()) {
+            logger.info("로그인 실패 횟수 제한을 초과했습니다, ip: {}", clientIp);
+            throw new LoginRateLimitedException("로그인 실패가 너무 많습니다.", ipFailure.getWindowSeconds());
+        }
+
+        long now = System.nanoTime();
+        long waitNanos = ipBuckets.tryConsume(clientIp, now);
+        if (waitNanos == 0) {
+            waitNanos = membernameBuckets.tryConsume(membername, now);
+        }
+        if (waitNanos > 0) {
+            logger.info("로그인 시도 제한을 초과했습니다, member: {}, ip: {}", membername, clientIp);
+            throw new LoginRateLimitedException("로그인 시도가 너무 많습니다.", toRetryAfterSeconds(waitNanos));
+        }
+    }
+
+    // 비밀번호가 틀린 경우 IP별 실패 횟수를 늘림 (첫 실패부터 window-seconds 동안 유지)
+    public void onFailure(String clientIp) {
+        if (properties.isEnabled()) {
+            long windowMillis = TimeUnit.SECONDS.toMillis(properties.getIpFailure().getWindowSeconds());
+            long expiresAt = System.currentTimeMillis() + windowMillis;
+            sharedStateStore.increment(IP_FAILURE_NAMESPACE, clientIp, 1, expiresAt);
+        }
+    }
+
+    public void onSuccess(String membername) {
+        if (properties.isEnabled()) {
+            membernameBuckets.reset(membername);
+        }
+    }
+
+    public int size() {
+        return membernameBuckets.size() + ipBuckets.size();
+    }
+
+    // 오랫동안 사용하지 않은 버킷 제거 (제거된 버킷은 다음 시도 때 가득 찬 상태로 다시 만들어짐)
+    @Scheduled(fixedDelayString = "${auth.rate-limit.cleanup-interval-ms:60000}")
+    public void evictIdle() {
+        long idleBefore = System.nanoTime() - TimeUnit.SECONDS.toNanos(properties.getIdleTimeoutSeconds());
+        int removed = membernameBuckets.evictIdle(idleBefore) + ipBuckets.evictIdle(idleBefore);
+        if (removed > 0) {
+            logger.debug("사용하지 않는 로그인 제한 버킷 {}개를 제거했습니다.", removed);
+        }
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.jwttutorial.ratelimit;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 키(회원 이름, IP)별 토큰 버킷 저장소
+ *
+ * 키의 해시로 스트라이프를 고르고 스트라이프마다 락을 따로 잡으므로, 서로 다른 키의 요청은 대부분 경합하지 않음
+ * 스트라이프는 접근 순서 LinkedHashMap 이며 maxEntries / stripes 개를 넘으면 가장 오래 사용하지 않은 버킷을 제거 (메모리 상한)
+ * 오래 사용하지 않은 버킷은 evictIdle 로 주기적으로 제거
+ */
+final class StripedBucketMap {
+
+    private final Stripe[] stripes;
+    private final int capacity;
+    private final double tokensPerNano;
+
+    StripedBucketMap(int stripeCount, int maxEntries, LoginRateLimitProperties.Bucket bucket) {
+        // stripeCount 이상인 가장 작은 2의 거듭제곱 (1 이하이면 스트라이프 하나)
+        int count = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        int maxPerStripe = Math.max(1, maxEntries / count);
+
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(maxPerStripe);
+        }
+        this.capacity = bucket.getCapacity();
+        this.tokensPerNano = bucket.getRefillPerMinute() / 60_000_000_000.0;
+    }
+
+    // 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간(ns)
+    long tryConsume(String key, long nowNanos) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            TokenBucket bucket = stripe.get(key);
+            if (bucket == null) {
+                bucket = new TokenBucket(capacity, nowNanos);
+                stripe.put(key, bucket);
+            }
+            return bucket.tryConsume(nowNanos, capacity, tokensPerNano);
+        }
+    }
+
+    // 버킷을 제거하여 다시 가득 찬 상태로 시작 (로그인 성공 시)
+    void reset(String key) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+        }
+    }
+
+    int evictIdle(long idleBeforeNanos) {
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                // 접근 순서로 정렬되어 있으므로 최근에 사용한 버킷을 만나면 중단
+                Iterator<TokenBucket> iterator = stripe.values().iterator();
+                while (iterator.hasNext() && iterator.next().getLastAccessNanos() - idleBeforeNanos < 0) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Stripe extends LinkedHashMap<String, TokenBucket> {
+
+        private final int maxEntries;
+
+        private Stripe(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.jwttutorial.ratelimit;
+
+/**
+ * 토큰 버킷 하나의 상태
+ * 동기화는 버킷을 보관하는 StripedBucketMap 의 스트라이프 락이 담당
+ */
+final class TokenBucket {
+
+    private double tokens;
+    private long lastRefillNanos;
+    private long lastAccessNanos;
+
+    TokenBucket(int capacity, long nowNanos) {
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+        this.lastAccessNanos = nowNanos;
+    }
+
+    /**
+     * 토큰 하나를 사용
+     * @return 허용되면 0, 거절되면 다음 토큰이 생길 때까지 남은 시간(ns)
+     */
+    long tryConsume(long nowNanos, int capacity, double tokensPerNano) {
+        tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = nowNanos;
+        lastAccessNanos = nowNanos;
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+
+    long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+}
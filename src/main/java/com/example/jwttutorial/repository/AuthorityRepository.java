@@ -0,0 +1,7 @@
+package com.example.jwttutorial.repository;
+
+import com.example.jwttutorial.entity.Authority;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AuthorityRepository extends JpaRepository<Authority, String> {
+}
@@ -0,0 +1,11 @@
+package com.example.jwttutorial.repository;
+
+/**
+ * 회원 ID 와 권한 이름 프로젝션 (관리자 회원 검색에서 한 페이지의 권한을 한 번에 조회)
+ */
+public interface MemberAuthorityName {
+
+    Long getMemberId();
+
+    String getAuthorityName();
+}
@@ -1,9 +1,21 @@
 package com.example.jwttutorial.repository;
 
+import com.example.jwttutorial.config.CacheConfig;
+import com.example.jwttutorial.dto.MemberSearchDTO;
 import com.example.jwttutorial.entity.Member;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -15,7 +27,128 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      * @membername
      */
     //@EntityGraph 는 쿼리가 수행될 때 Eager 조회로 권한정보를 가져옴
+    //조회 결과는 회원 이름을 키로 캐시되며, 존재하지 않는 회원은 캐시하지 않음
+    //회원 정보를 변경하는 곳에서는 MEMBER_BY_NAME 캐시를 비워야 함
+    //로그인(loadUserByUsername)과 계정 잠금 확인에 쓰이므로 복제본이 아닌 주 DB 에서 조회 (readOnly 트랜잭션 안에서 호출하지 않음)
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.MEMBER_BY_NAME, key = "#p0", unless = "#result == null")
     @EntityGraph(attributePaths = "authorities")
     Optional<Member> findOneWithAuthoritiesByMembername(String membername);
 
+    /**
+     * 회원의 비밀번호 해시만 변경 (해시 알고리즘/비용 업그레이드)
+     * @param membername
+     * @param password
+     */
+    @Modifying
+    @Query("update Member m set m.password = :password where m.membername = :membername")
+    int updatePassword(@Param("membername") String membername, @Param("password") String password);
+
+    /**
+     * 캐시를 거치지 않고 주 DB 에서 회원 조회 (로그인 실패 횟수 갱신처럼 최신 값을 수정해야 하는 경우)
+     * @param membername
+     */
+    @Transactional
+    Optional<Member> findByMembername(String membername);
+
+    /**
+     * 캐시를 거치지 않고 권한 정보와 함께 회원 조회 (관리자의 권한/활성화 여부 변경)
+     * @param membername
+     */
+    @EntityGraph(attributePaths = "authorities")
+    Optional<Member> findWithAuthoritiesByMembername(String membername);
+
+    /**
+     * 연속 로그인 실패 횟수를 DB 에서 바로 1 증가 (읽고 쓰는 사이에 다른 요청의 실패가 빠지지 않도록)
+     * 갱신한 행은 트랜잭션이 끝날 때까지 잠기므로, 같은 트랜잭션에서 findFailedLoginCount 로 읽은 값은 이 실패까지 센 값
+     * @param membername
+     */
+    @Modifying
+    @Query("update Member m set m.failedLoginCount = m.failedLoginCount + 1 where m.membername = :membername")
+    int incrementFailedLogins(@Param("membername") String membername);
+
+    /**
+     * 캐시를 거치지 않고 연속 로그인 실패 횟수만 조회
+     * @param membername
+     */
+    @Transactional
+    @Query("select m.failedLoginCount from Member m where m.membername = :membername")
+    Optional<Integer> findFailedLoginCount(@Param("membername") String membername);
+
+    /**
+     * 계정 잠금 만료 시각 변경
+     * @param membername
+     * @param lockedUntil
+     */
+    @Modifying
+    @Query("update Member m set m.lockedUntil = :lockedUntil where m.membername = :membername")
+    int updateLockedUntil(@Param("membername") String membername, @Param("lockedUntil") Instant lockedUntil);
+
+    /**
+     * 연속 로그인 실패 횟수와 계정 잠금 초기화
+     * @param membername
+     */
+    @Transactional
+    @Modifying
+    @CacheEvict(cacheNames = CacheConfig.MEMBER_BY_NAME, key = "#p0")
+    @Query("update Member m set m.failedLoginCount = 0, m.lockedUntil = null where m.membername = :membername")
+    int resetFailedLogins(@Param("membername") String membername);
+
+    /**
+     * 회원 기본 정보만 조회 (캐시를 거치지 않는 최신 값, member 테이블 한 번만 조회)
+     * 읽기 전용 트랜잭션이므로 복제본이 설정되어 있으면 복제본에서 조회
+     * @param membername
+     */
+    @Transactional(readOnly = true)
+    Optional<MemberSummary> findSummaryByMembername(String membername);
+
+    /**
+     * 주어진 회원 이름 중 이미 가입된 이름만 조회 (일괄 가입 시 청크 단위 중복 확인)
+     * 바로 앞 청크에서 가입한 이름까지 보여야 하므로 주 DB 에서 조회
+     * @param membernames
+     */
+    @Transactional
+    @Query("select m.membername from Member m where m.membername in :membernames")
+    List<String> findExistingMembernames(@Param("membernames") Collection<String> membernames);
+
+    /**
+     * 관리자 회원 검색, memberId 보다 큰 회원을 member_id 순서로 조회 (keyset 페이지, 개수는 pageable 의 크기)
+     * OFFSET 없이 이전 페이지의 마지막 ID 부터 이어서 읽으므로 뒤쪽 페이지도 비용이 같음
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param prefix LIKE 패턴 ('!' 로 이스케이프한 이름 접두사 + '%')
+     * @param activated 허용할 활성화 여부 (조건이 없으면 true, false 모두)
+     */
+    @Query("select new com.example.jwttutorial.dto.MemberSearchDTO(m.memberId, m.membername, m.nickname, m.activated)"
+            + " from Member m"
+            + " where m.memberId > :afterId and m.membername like :prefix escape '!' and m.activated in :activated"
+            + " order by m.memberId")
+    List<MemberSearchDTO> searchAfter(@Param("afterId") long afterId,
+                                      @Param("prefix") String prefix,
+                                      @Param("activated") Collection<Boolean> activated,
+                                      Pageable pageable);
+
+    /**
+     * searchAfter 에 권한 조건을 더한 검색 (권한별 회원 ID 는 ix_member_authority_authority 인덱스로 조회)
+     * @param authority 권한 이름
+     */
+    @Query("select new com.example.jwttutorial.dto.MemberSearchDTO(m.memberId, m.membername, m.nickname, m.activated)"
+            + " from Member m"
+            + " where m.memberId > :afterId and m.membername like :prefix escape '!' and m.activated in :activated"
+            + " and m.memberId in (select am.memberId from Member am join am.authorities a"
+            + " where a.authorityName = :authority)"
+            + " order by m.memberId")
+    List<MemberSearchDTO> searchAfterWithAuthority(@Param("afterId") long afterId,
+                                                   @Param("prefix") String prefix,
+                                                   @Param("activated") Collection<Boolean> activated,
+                                                   @Param("authority") String authority,
+                                                   Pageable pageable);
+
+    /**
+     * 주어진 회원들의 권한 이름 조회 (검색 결과 한 페이지의 권한을 쿼리 한 번으로 채움)
+     * @param memberIds
+     */
+    @Query("select m.memberId as memberId, a.authorityName as authorityName"
+            + " from Member m join m.authorities a where m.memberId in :memberIds")
+    List<MemberAuthorityName> findAuthorityNames(@Param("memberIds") Collection<Long> memberIds);
+
 }
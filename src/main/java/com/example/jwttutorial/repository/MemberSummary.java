@@ -0,0 +1,16 @@
+package com.example.jwttutorial.repository;
+
+/**
+ * 회원 기본 정보 프로젝션
+ * 필요한 컬럼만 조회하고 엔티티/권한 컬렉션을 만들지 않으므로, 최신 값이 필요하지만 권한까지는 필요 없는 조회에 사용
+ */
+public interface MemberSummary {
+
+    Long getMemberId();
+
+    String getMembername();
+
+    String getNickname();
+
+    boolean isActivated();
+}
@@ -0,0 +1,30 @@
+package com.example.jwttutorial.repository;
+
+import com.example.jwttutorial.entity.ReferenceToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface ReferenceTokenRepository extends JpaRepository<ReferenceToken, Long> {
+
+    /**
+     * 토큰 다이제스트로 참조 토큰 조회 (token_hash 유니크 인덱스 사용)
+     * @param tokenHash
+     */
+    @Transactional(readOnly = true)
+    Optional<ReferenceToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 만료된 참조 토큰 삭제 (expires_at 인덱스 사용)
+     * @param now
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from ReferenceToken r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
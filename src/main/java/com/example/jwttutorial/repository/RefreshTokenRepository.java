@@ -0,0 +1,44 @@
+package com.example.jwttutorial.repository;
+
+import com.example.jwttutorial.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * 토큰 다이제스트로 리프레시 토큰 조회 (token_hash 유니크 인덱스 사용)
+     * @param tokenHash
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 아직 사용되지 않은 토큰만 사용 처리
+     * 같은 토큰으로 동시에 재발급을 요청하면 한 요청만 1을 반환받음
+     * @param refreshTokenId
+     */
+    @Modifying
+    @Query("update RefreshToken r set r.used = true where r.refreshTokenId = :id and r.used = false and r.revoked = false")
+    int markUsed(@Param("id") Long refreshTokenId);
+
+    /**
+     * 같은 계열의 리프레시 토큰을 모두 폐기
+     * @param familyId
+     */
+    @Modifying
+    @Query("update RefreshToken r set r.revoked = true where r.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    /**
+     * 만료된 리프레시 토큰 삭제 (expires_at 인덱스 사용)
+     * @param now
+     */
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,57 @@
+package com.example.jwttutorial.repository;
+
+import com.example.jwttutorial.entity.SharedStateEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface SharedStateEntryRepository extends JpaRepository<SharedStateEntry, Long> {
+
+    /**
+     * 이후 바뀐 만료되지 않은 항목 조회 (인스턴스 간 동기화)
+     * @param updatedAfter
+     * @param now
+     */
+    List<SharedStateEntry> findAllByUpdatedAtAfterAndExpiresAtAfter(Instant updatedAfter, Instant now);
+
+    /**
+     * 값과 만료 시각을 덮어씀, 항목이 없으면 0 반환
+     */
+    @Modifying
+    @Query("update SharedStateEntry e set e.entryValue = :value, e.expiresAt = :expiresAt, e.updatedAt = :now " +
+            "where e.stateNamespace = :namespace and e.entryKey = :key")
+    int updateValue(@Param("namespace") String namespace, @Param("key") String key, @Param("value") long value,
+                    @Param("expiresAt") Instant expiresAt, @Param("now") Instant now);
+
+    /**
+     * 만료되지 않은 항목에 delta 를 더함 (다른 인스턴스가 보낸 증가분과 DB 에서 합쳐짐), 대상이 없으면 0 반환
+     */
+    @Modifying
+    @Query("update SharedStateEntry e set e.entryValue = e.entryValue + :delta, e.updatedAt = :now " +
+            "where e.stateNamespace = :namespace and e.entryKey = :key and e.expiresAt > :now")
+    int addDelta(@Param("namespace") String namespace, @Param("key") String key, @Param("delta") long delta,
+                 @Param("now") Instant now);
+
+    /**
+     * 만료된 항목을 delta 에서 다시 시작, 대상이 없으면 0 반환
+     */
+    @Modifying
+    @Query("update SharedStateEntry e set e.entryValue = :delta, e.expiresAt = :expiresAt, e.updatedAt = :now " +
+            "where e.stateNamespace = :namespace and e.entryKey = :key and e.expiresAt <= :now")
+    int restartExpired(@Param("namespace") String namespace, @Param("key") String key, @Param("delta") long delta,
+                       @Param("expiresAt") Instant expiresAt, @Param("now") Instant now);
+
+    /**
+     * 만료된 항목 삭제
+     * @param now
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from SharedStateEntry e where e.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,59 @@
+package com.example.jwttutorial.service;
+
+import com.example.jwttutorial.entity.Authority;
+import com.example.jwttutorial.entity.Role;
+import com.example.jwttutorial.repository.AuthorityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 권한(authority) 테이블 전체를 메모리에 보관하는 캐시
+ * 권한은 몇 개 되지 않고 거의 바뀌지 않으므로 애플리케이션이 준비되면 한 번에 모두 읽어 둠
+ * (data.sql 이 실행된 뒤에 읽도록 ApplicationReadyEvent 시점에 로딩)
+ *
+ * 캐시에 없는 권한을 요청하면 DB 에서 조회하여 추가하고, DB 에도 없으면 IllegalArgumentException
+ * (저장되지 않은 권한을 만들어 반환하면 회원 저장 시점에야 외래 키 오류로 드러나므로 조회 시점에 바로 실패)
+ */
+@Component
+public class AuthorityCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthorityCache.class);
+
+    private final AuthorityRepository authorityRepository;
+    private final Map<String, Authority> authorities = new ConcurrentHashMap<>();
+
+    public AuthorityCache(AuthorityRepository authorityRepository) {
+        this.authorityRepository = authorityRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        authorityRepository.findAll()
+                .forEach(authority -> authorities.put(authority.getAuthorityName(), authority));
+        logger.info("권한 {}건을 캐시에 불러왔습니다.", authorities.size());
+    }
+
+    public Authority get(Role role) {
+        return get(role.name());
+    }
+
+    public Authority get(String authorityName) {
+        Authority authority = authorities.get(authorityName);
+        if (authority != null) {
+            return authority;
+        }
+        // 시작 이후 추가된 권한이거나 아직 로딩 전인 경우
+        return authorityRepository.findById(authorityName)
+                .map(found -> {
+                    authorities.put(found.getAuthorityName(), found);
+                    return found;
+                })
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 권한입니다: " + authorityName));
+    }
+}
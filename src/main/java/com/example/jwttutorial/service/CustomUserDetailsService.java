@@ -1,49 +1,95 @@
 package com.example.jwttutorial.service;
 
+import com.example.jwttutorial.config.CacheConfig;
 import com.example.jwttutorial.entity.Member;
 import com.example.jwttutorial.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Component("userDetailsService")
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomUserDetailsService.class);
 
     private final MemberRepository memberRepository;
+    private final Timer loadUserTimer;
 
-    public CustomUserDetailsService(MemberRepository memberRepository) {
+    public CustomUserDetailsService(MemberRepository memberRepository, MeterRegistry meterRegistry) {
         this.memberRepository = memberRepository;
+        this.loadUserTimer = Timer.builder("auth.user.load")
+                .description("로그인 시 회원 정보를 조회하는 시간 (캐시 적중 포함)")
+                .register(meterRegistry);
     }
 
     // 사용자 이름을 기반으로 데이터베이스에서 사용자 정보를 조회하여 UserDetails 객체를 생성하는 메소드
     // 사용자가 존재하지 않을 경우 UsernameNotFoundException 예외를 던짐
     @Override
     public UserDetails loadUserByUsername(String membername) throws UsernameNotFoundException {
-        return memberRepository.findOneWithAuthoritiesByMembername(membername)
-                .map(member -> createUser(membername, member))
-                .orElseThrow(() -> new UsernameNotFoundException(membername + " -> 데이터베이스에서 찾을 수 없습니다."));
+        long startNanos = System.nanoTime();
+        try {
+            return memberRepository.findOneWithAuthoritiesByMembername(membername)
+                    .map(this::createUser)
+                    .orElseThrow(() -> new UsernameNotFoundException(membername + " -> 데이터베이스에서 찾을 수 없습니다."));
+        } finally {
+            loadUserTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
     }
 
-    // 회원 객체를 기반으로 Spring Security의 UserDetails 객체를 생성하는 메소드
-    // 활성화 상태인지 확인하고, 권한 정보를 이용하여 UserDetails 객체를 생성
-    private User createUser(String membername, Member member) {
-        if (!member.isActivated()) {
-            throw new RuntimeException(membername + " -> 활성화되어 있지 않습니다.");
+    // 로그인에 성공했을 때 저장된 비밀번호 해시의 알고리즘이나 비용이 현재 설정과 다르면 호출됨
+    // (DaoAuthenticationProvider 가 PasswordEncoder.upgradeEncoding 결과에 따라 새 해시를 만들어 전달)
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.MEMBER_BY_NAME, key = "#user.username")
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        memberRepository.updatePassword(user.getUsername(), newPassword);
+        logger.info("'{}' 회원의 비밀번호 해시를 현재 설정으로 갱신했습니다.", user.getUsername());
+        // 반환된 UserDetails 가 인증 정보의 principal 이 되므로 회원 ID와 닉네임을 유지
+        if (user instanceof MemberDetails) {
+            return ((MemberDetails) user).withPassword(newPassword);
         }
+        return User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
+
+    // 회원 객체를 기반으로 Spring Security의 UserDetails 객체를 생성하는 메소드
+    // 권한 정보를 이용하여 UserDetails 객체를 생성하고, 활성화 여부는 enabled 로 전달
+    // (비활성 회원은 로그인/토큰 재발급의 인증 전 검사에서 DisabledException 으로 거절됨)
+    // 토큰에 회원 ID와 닉네임을 기록할 수 있도록 User 를 확장한 MemberDetails 사용
+    private MemberDetails createUser(Member member) {
         // 권한 정보를 Spring Security에서 사용하는 GrantedAuthority로 변환하여 리스트로 저장
         List<GrantedAuthority> grantedAuthorities = member.getAuthorities().stream()
                 .map(authority -> new SimpleGrantedAuthority(authority.getAuthorityName()))
                 .collect(Collectors.toList());
-        // UserDetails 인터페이스를 구현하는 User 객체를 생성하여 반환
-        return new User(member.getMembername(),
+        // 잠금 시각이 지나지 않았으면 accountNonLocked=false 로 만들어
+        // DaoAuthenticationProvider 가 비밀번호를 확인하기 전에 LockedException 으로 거절하도록 함
+        boolean accountNonLocked = member.getLockedUntil() == null || member.getLockedUntil().isBefore(Instant.now());
+
+        // UserDetails 인터페이스를 구현하는 MemberDetails 객체를 생성하여 반환
+        return new MemberDetails(member.getMemberId(),
+                member.getMembername(),
                 member.getPassword(),
+                member.getNickname(),
+                member.getSecurityVersion(),
+                member.isActivated(),
+                accountNonLocked,
                 grantedAuthorities);
     }
 }
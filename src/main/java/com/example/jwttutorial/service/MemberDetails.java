@@ -0,0 +1,46 @@
+package com.example.jwttutorial.service;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 로그인 시 사용하는 UserDetails
+ * 액세스 토큰에 회원 ID(mid)와 닉네임(nick) 클레임을 기록할 수 있도록 User 에 두 값을 더함
+ * securityVersion 은 로그인 시점의 보안 버전 (sv 클레임)
+ * 비활성 회원(enabled=false)과 잠긴 회원(accountNonLocked=false)은 인증 전 검사(DisabledException / LockedException)에서 거절됨
+ */
+public class MemberDetails extends User {
+
+    private final Long memberId;
+    private final String nickname;
+    private final int securityVersion;
+
+    public MemberDetails(Long memberId, String membername, String password, String nickname, int securityVersion,
+                         boolean enabled, boolean accountNonLocked,
+                         Collection<? extends GrantedAuthority> authorities) {
+        super(membername, password, enabled, true, true, accountNonLocked, authorities);
+        this.memberId = memberId;
+        this.nickname = nickname;
+        this.securityVersion = securityVersion;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public int getSecurityVersion() {
+        return securityVersion;
+    }
+
+    // 비밀번호 해시만 바꾼 사본 (해시 알고리즘/비용 업그레이드)
+    public MemberDetails withPassword(String password) {
+        return new MemberDetails(memberId, getUsername(), password, nickname, securityVersion,
+                isEnabled(), isAccountNonLocked(), getAuthorities());
+    }
+}
@@ -0,0 +1,329 @@
+package com.example.jwttutorial.service;
+
+import com.example.jwttutorial.dto.MemberDTO;
+import com.example.jwttutorial.dto.MemberImportEventDTO;
+import com.example.jwttutorial.entity.Authority;
+import com.example.jwttutorial.entity.Member;
+import com.example.jwttutorial.entity.Role;
+import com.example.jwttutorial.password.PasswordHashingRejectedException;
+import com.example.jwttutorial.repository.MemberRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * NDJSON / CSV 로 받은 회원 목록을 청크 단위로 일괄 가입
+ * 입력은 한 줄씩 읽어 청크(chunk-size)만큼만 메모리에 보관
+ *
+ * CSV 는 membername,password,nickname 3개 열이며, 첫 줄이 정확히 이 헤더이면 건너뜀
+ * 쉼표나 큰따옴표가 들어간 값은 큰따옴표로 감싸고 안의 큰따옴표는 두 번 씀 (RFC 4180, 예: "pa,ss""word")
+ * 한 행은 한 줄이어야 하므로 따옴표 안의 줄바꿈은 지원하지 않음
+ *
+ * 청크 처리 순서
+ * 1. 청크 안에서 중복된 이름과, 이미 가입된 이름(IN 쿼리 1번)을 오류로 보고
+ * 2. 비밀번호를 parallelism 개의 스레드에서 동시에 해시
+ * 3. member / member_authority 를 청크당 트랜잭션 하나에서 JDBC 배치로 insert (member_seq 로 키를 미리 할당)
+ *
+ * 해시 계산은 로그인과 같은 PasswordEncoder(OffloadingPasswordEncoder)를 거치므로
+ * 일괄 가입이 해시 스레드 풀을 차지하는 양은 parallelism 개로 제한됨
+ */
+@Service
+public class MemberImportService implements DisposableBean {
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(MemberImportService.class);
+    private static final String CSV_HEADER = "membername,password,nickname";
+    private static final int MAX_HASH_ATTEMPTS = 3;
+
+    private final MemberRepository memberRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final AuthorityCache authorityCache;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+    private final ExecutorService hashingExecutor;
+
+    public MemberImportService(MemberRepository memberRepository,
+                               PasswordEncoder passwordEncoder,
+                               AuthorityCache authorityCache,
+                               EntityManager entityManager,
+                               TransactionTemplate transactionTemplate,
+                               ObjectMapper objectMapper,
+                               Validator validator,
+                               @Value("${member.import.chunk-size:500}") int chunkSize,
+                               @Value("${member.import.parallelism:0}") int parallelism) {
+        this.memberRepository = memberRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.authorityCache = authorityCache;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.hashingExecutor = Executors.newFixedThreadPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "member-import-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 입력을 끝까지 읽어 가입시키고, 오류 행 / 청크별 진행 상황 / 마지막 요약을 listener 로 전달
+     */
+    public void importMembers(Reader input, Format format, Consumer<MemberImportEventDTO> listener) throws IOException {
+        BufferedReader reader = new BufferedReader(input);
+        Progress progress = new Progress();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (format == Format.CSV && lineNumber == 1 && line.trim().equals(CSV_HEADER))) {
+                continue;
+            }
+
+            Row row = new Row(lineNumber);
+            try {
+                row.member = parse(line, format);
+            } catch (IllegalArgumentException | JsonProcessingException e) {
+                progress.processed++;
+                fail(row, "행을 읽을 수 없습니다: " + e.getMessage(), progress, listener);
+                continue;
+            }
+
+            String violation = validate(row.member);
+            if (violation != null) {
+                progress.processed++;
+                fail(row, violation, progress, listener);
+                continue;
+            }
+
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, progress, listener);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, progress, listener);
+        }
+
+        logger.info("회원 일괄 가입 완료, 처리: {}, 가입: {}, 실패: {}",
+                progress.processed, progress.imported, progress.failed);
+        listener.accept(progress.toEvent(MemberImportEventDTO.SUMMARY));
+    }
+
+    @Override
+    public void destroy() {
+        hashingExecutor.shutdown();
+    }
+
+    private void importChunk(List<Row> chunk, Progress progress, Consumer<MemberImportEventDTO> listener) {
+        progress.processed += chunk.size();
+
+        // 청크 안에서 같은 이름이 다시 나온 행
+        Map<String, Row> rows = new LinkedHashMap<>();
+        for (Row row : chunk) {
+            if (rows.putIfAbsent(row.member.getMembername(), row) != null) {
+                fail(row, "파일 안에서 중복된 회원 이름입니다.", progress, listener);
+            }
+        }
+
+        // 이미 가입된 이름 (이전 청크에서 가입된 이름 포함)
+        for (String existing : memberRepository.findExistingMembernames(rows.keySet())) {
+            Row row = rows.remove(existing);
+            if (row != null) {
+                fail(row, "이미 가입되어 있는 유저입니다.", progress, listener);
+            }
+        }
+
+        // 비밀번호 해시를 병렬로 계산
+        List<Map.Entry<Row, Future<String>>> hashes = new ArrayList<>(rows.size());
+        for (Row row : rows.values()) {
+            hashes.add(Map.entry(row, hashingExecutor.submit(() -> encode(row.member.getPassword()))));
+        }
+
+        Authority authority = authorityCache.get(Role.ROLE_MEMBER);
+        List<Member> members = new ArrayList<>(hashes.size());
+        for (Map.Entry<Row, Future<String>> hash : hashes) {
+            try {
+                members.add(Member.builder()
+                        .membername(hash.getKey().member.getMembername())
+                        .password(hash.getValue().get())
+                        .nickname(hash.getKey().member.getNickname())
+                        .authorities(Collections.singleton(authority))
+                        .activated(true)
+                        .build());
+            } catch (ExecutionException e) {
+                fail(hash.getKey(), "비밀번호 해시에 실패했습니다: " + e.getCause().getMessage(), progress, listener);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("회원 일괄 가입이 중단되었습니다.", e);
+            }
+        }
+
+        // member 와 member_authority 를 배치로 insert, 한 행이라도 실패하면 청크 전체를 되돌림
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                members.forEach(entityManager::persist);
+                entityManager.flush();
+                entityManager.clear();
+            });
+            progress.imported += members.size();
+        } catch (RuntimeException e) {
+            logger.warn("회원 일괄 가입 청크 저장에 실패했습니다: {}", e.getMessage());
+            for (Member member : members) {
+                fail(rows.get(member.getMembername()), "저장에 실패했습니다: " + e.getMessage(), progress, listener);
+            }
+        }
+
+        listener.accept(progress.toEvent(MemberImportEventDTO.PROGRESS));
+    }
+
+    // 로그인 요청으로 해시 스레드 풀이 잠시 포화되면 조금 기다렸다가 다시 시도
+    private String encode(String rawPassword) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return passwordEncoder.encode(rawPassword);
+            } catch (PasswordHashingRejectedException e) {
+                if (attempt == MAX_HASH_ATTEMPTS) {
+                    throw e;
+                }
+                Thread.sleep(100L * attempt);
+            }
+        }
+    }
+
+    private MemberDTO parse(String line, Format format) throws JsonProcessingException {
+        if (format == Format.NDJSON) {
+            return objectMapper.readValue(line, MemberDTO.class);
+        }
+        List<String> columns = splitCsv(line);
+        if (columns.size() != 3) {
+            throw new IllegalArgumentException("CSV 행은 membername,password,nickname 3개 열이어야 합니다.");
+        }
+        return MemberDTO.builder()
+                .membername(columns.get(0).trim())
+                .password(columns.get(1))
+                .nickname(columns.get(2).trim())
+                .build();
+    }
+
+    // 쉼표로 열을 나누되, 큰따옴표로 감싼 열은 안의 쉼표를 그대로 두고 "" 를 " 로 바꿈
+    private static List<String> splitCsv(String line) {
+        List<String> columns = new ArrayList<>(3);
+        StringBuilder column = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == '"') {
+                i++;
+                while (true) {
+                    if (i >= line.length()) {
+                        throw new IllegalArgumentException("큰따옴표가 닫히지 않았습니다.");
+                    }
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        column.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        column.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                if (i < line.length() && line.charAt(i) != ',') {
+                    throw new IllegalArgumentException("닫는 큰따옴표 뒤에는 쉼표가 와야 합니다.");
+                }
+            } else {
+                int end = line.indexOf(',', i);
+                column.append(line, i, end < 0 ? line.length() : end);
+                i = end < 0 ? line.length() : end;
+            }
+            columns.add(column.toString());
+            column.setLength(0);
+            if (i >= line.length()) {
+                return columns;
+            }
+            i++;
+        }
+    }
+
+    // MemberDTO 의 검증 어노테이션(@NotNull, @Size)을 행마다 적용
+    private String validate(MemberDTO member) {
+        Set<ConstraintViolation<MemberDTO>> violations = validator.validate(member);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private void fail(Row row, String message, Progress progress, Consumer<MemberImportEventDTO> listener) {
+        progress.failed++;
+        listener.accept(MemberImportEventDTO.builder()
+                .type(MemberImportEventDTO.ERROR)
+                .line(row.lineNumber)
+                .membername(row.member != null ? row.member.getMembername() : null)
+                .message(message)
+                .build());
+    }
+
+    private static final class Row {
+
+        private final long lineNumber;
+        private MemberDTO member;
+
+        private Row(long lineNumber) {
+            this.lineNumber = lineNumber;
+        }
+    }
+
+    private static final class Progress {
+
+        private long processed;
+        private long imported;
+        private long failed;
+
+        private MemberImportEventDTO toEvent(String type) {
+            return MemberImportEventDTO.builder()
+                    .type(type)
+                    .processed(processed)
+                    .imported(imported)
+                    .failed(failed)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.jwttutorial.service;
+
+import com.example.jwttutorial.dto.MemberSearchDTO;
+import com.example.jwttutorial.dto.MemberSearchPageDTO;
+import com.example.jwttutorial.entity.Role;
+import com.example.jwttutorial.repository.MemberAuthorityName;
+import com.example.jwttutorial.repository.MemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 관리자 회원 검색 (이름 접두사, 활성화 여부, 권한 조건)
+ *
+ * 목록: member_id 기준 keyset 페이지, 회원은 필요한 컬럼만 DTO 로 조회하고 권한은 페이지당 쿼리 한 번으로 채움
+ * 내보내기: 조건에 맞는 모든 회원을 JDBC 커서(fetch-size 건씩)로 읽으면서 바로 전달하므로
+ * 회원 수와 관계없이 한 회원의 행만 메모리에 보관
+ *
+ * 모두 읽기 전용 트랜잭션이므로 복제본이 설정되어 있으면 복제본에서 조회
+ */
+@Service
+public class MemberSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemberSearchService.class);
+    private static final List<Boolean> ANY_ACTIVATED = List.of(true, false);
+    private static final char LIKE_ESCAPE = '!';
+
+    // member 와 member_authority 를 left join 하여 회원마다 권한 수만큼의 행을 member_id 순서로 읽음
+    private static final String EXPORT_SQL =
+            "select m.member_id, m.member_name, m.nick_name, m.activated, ma.authority_name"
+                    + " from member m left join member_authority ma on ma.member_id = m.member_id"
+                    + " where m.member_name like ? escape '!'";
+    private static final String ACTIVATED_CONDITION = " and m.activated = ?";
+    private static final String AUTHORITY_CONDITION =
+            " and m.member_id in (select f.member_id from member_authority f where f.authority_name = ?)";
+    private static final String EXPORT_ORDER = " order by m.member_id";
+
+    private final MemberRepository memberRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int exportFetchSize;
+
+    public MemberSearchService(MemberRepository memberRepository,
+                               JdbcTemplate jdbcTemplate,
+                               @Value("${member.search.default-page-size:100}") int defaultPageSize,
+                               @Value("${member.search.max-page-size:1000}") int maxPageSize,
+                               @Value("${member.search.export-fetch-size:1000}") int exportFetchSize) {
+        this.memberRepository = memberRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    /**
+     * after 보다 큰 member_id 의 회원을 최대 size 명 조회
+     * 다음 페이지가 있는지 확인하기 위해 한 건을 더 조회하고, 있으면 이번 페이지의 마지막 ID 를 nextAfter 로 반환
+     */
+    @Transactional(readOnly = true)
+    public MemberSearchPageDTO search(String prefix, Boolean activated, Role authority, long after, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        String pattern = likePrefix(prefix);
+        Collection<Boolean> states = activated == null ? ANY_ACTIVATED : List.of(activated);
+
+        List<MemberSearchDTO> members = authority == null
+                ? memberRepository.searchAfter(after, pattern, states, limit)
+                : memberRepository.searchAfterWithAuthority(after, pattern, states, authority.name(), limit);
+
+        Long nextAfter = null;
+        if (members.size() > pageSize) {
+            members = new ArrayList<>(members.subList(0, pageSize));
+            nextAfter = members.get(pageSize - 1).getMemberId();
+        }
+        fillAuthorities(members);
+
+        return MemberSearchPageDTO.builder()
+                .members(members)
+                .nextAfter(nextAfter)
+                .build();
+    }
+
+    /**
+     * 조건에 맞는 모든 회원을 member_id 순서로 consumer 에 전달하고 전달한 회원 수를 반환
+     * PostgreSQL 은 트랜잭션 안(autocommit off)에서 fetch size 를 지정해야 결과 전체를 받지 않고 커서로 나누어 읽음
+     */
+    @Transactional(readOnly = true)
+    public long export(String prefix, Boolean activated, Role authority, Consumer<MemberSearchDTO> consumer) {
+        StringBuilder sql = new StringBuilder(EXPORT_SQL);
+        if (activated != null) {
+            sql.append(ACTIVATED_CONDITION);
+        }
+        if (authority != null) {
+            sql.append(AUTHORITY_CONDITION);
+        }
+        sql.append(EXPORT_ORDER);
+
+        ExportRowHandler handler = new ExportRowHandler(consumer);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(exportFetchSize);
+            int index = 1;
+            statement.setString(index++, likePrefix(prefix));
+            if (activated != null) {
+                statement.setBoolean(index++, activated);
+            }
+            if (authority != null) {
+                statement.setString(index, authority.name());
+            }
+            return statement;
+        }, handler);
+        handler.flush();
+
+        logger.info("회원 내보내기 완료, 회원 수: {}", handler.exported);
+        return handler.exported;
+    }
+
+    private void fillAuthorities(List<MemberSearchDTO> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+
+        Map<Long, MemberSearchDTO> byId = new HashMap<>(members.size() * 2);
+        for (MemberSearchDTO member : members) {
+            byId.put(member.getMemberId(), member);
+        }
+        for (MemberAuthorityName authority : memberRepository.findAuthorityNames(byId.keySet())) {
+            byId.get(authority.getMemberId()).getAuthorities().add(authority.getAuthorityName());
+        }
+    }
+
+    // 접두사의 LIKE 특수 문자를 이스케이프, 조건이 없으면 모든 이름
+    private static String likePrefix(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return "%";
+        }
+
+        StringBuilder pattern = new StringBuilder(prefix.length() + 2);
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    // 같은 회원의 행(권한마다 한 행)이 연속으로 오므로 member_id 가 바뀔 때마다 이전 회원을 전달
+    private static final class ExportRowHandler implements RowCallbackHandler {
+
+        private final Consumer<MemberSearchDTO> consumer;
+        private MemberSearchDTO current;
+        private long exported;
+
+        private ExportRowHandler(Consumer<MemberSearchDTO> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long memberId = rs.getLong(1);
+            if (current == null || current.getMemberId() != memberId) {
+                flush();
+                current = new MemberSearchDTO(memberId, rs.getString(2), rs.getString(3), rs.getBoolean(4));
+            }
+            String authorityName = rs.getString(5);
+            if (authorityName != null) {
+                current.getAuthorities().add(authorityName);
+            }
+        }
+
+        private void flush() {
+            if (current != null) {
+                consumer.accept(current);
+                exported++;
+                current = null;
+            }
+        }
+    }
+}
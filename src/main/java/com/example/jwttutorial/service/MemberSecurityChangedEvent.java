@@ -0,0 +1,24 @@
+package com.example.jwttutorial.service;
+
+/**
+ * 회원의 권한이 바뀌었거나 비활성화되어 보안 버전이 올라갔음을 알리는 이벤트 (MemberService 가 발행)
+ * 이 버전보다 낮은 sv 클레임을 가진 액세스 토큰은 더 이상 유효하지 않음
+ */
+public final class MemberSecurityChangedEvent {
+
+    private final String membername;
+    private final int securityVersion;
+
+    public MemberSecurityChangedEvent(String membername, int securityVersion) {
+        this.membername = membername;
+        this.securityVersion = securityVersion;
+    }
+
+    public String getMembername() {
+        return membername;
+    }
+
+    public int getSecurityVersion() {
+        return securityVersion;
+    }
+}
@@ -1,20 +1,32 @@
 package com.example.jwttutorial.service;
 
-import com.example.jwttutorial.controller.MemberController;
+import com.example.jwttutorial.config.CacheConfig;
+import com.example.jwttutorial.dto.AuthorityDTO;
 import com.example.jwttutorial.dto.MemberDTO;
+import com.example.jwttutorial.dto.MemberInfoDTO;
+import com.example.jwttutorial.dto.MemberUpdateDTO;
 import com.example.jwttutorial.entity.Authority;
 import com.example.jwttutorial.entity.Member;
 import com.example.jwttutorial.entity.Role;
+import com.example.jwttutorial.jwt.JwtPrincipal;
 import com.example.jwttutorial.repository.MemberRepository;
+import com.example.jwttutorial.repository.MemberSummary;
 import com.example.jwttutorial.util.SecurityUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class MemberService {
@@ -23,26 +35,24 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthorityCache authorityCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public MemberService(MemberRepository memberRepository, PasswordEncoder passwordEncoder) {
+    public MemberService(MemberRepository memberRepository,
+                         PasswordEncoder passwordEncoder,
+                         AuthorityCache authorityCache,
+                         ApplicationEventPublisher eventPublisher) {
         this.memberRepository = memberRepository;
         this.passwordEncoder = passwordEncoder;
+        this.authorityCache = authorityCache;
+        this.eventPublisher = eventPublisher;
     }
 
+    // 새 회원이 저장되면 해당 회원 이름의 캐시 항목을 비움
+    @CacheEvict(cacheNames = CacheConfig.MEMBER_BY_NAME, key = "#memberDTO.membername")
     public Member signup(MemberDTO memberDTO) {
-        logger.debug("service: signup...");
-
-
-        // 회원 이름을 기준으로 데이터베이스에서 회원 정보를 조회하여 이미 가입되어 있는지 확인
-        // 가입되어 있다면 RuntimeException 예외를 발생
-        if (memberRepository.findOneWithAuthoritiesByMembername(memberDTO.getMembername()).orElse(null) != null) {
-            throw new RuntimeException("이미 가입되어 있는 유저입니다.");
-        }
-
-        // 회원 가입에 필요한 권한 객체를 생성
-        Authority authority = Authority.builder()
-                .authorityName(String.valueOf(Role.ROLE_MEMBER))
-                .build();
+        // 회원 가입에 필요한 권한 객체를 캐시에서 가져옴
+        Authority authority = authorityCache.get(Role.ROLE_MEMBER);
 
         // 회원 정보를 생성하여 데이터베이스에 저장
         Member member = Member.builder()
@@ -53,20 +63,77 @@ public class MemberService {
                 .activated(true)
                 .build();
 
-        logger.debug("service: Member: {}", member);
-        return memberRepository.save(member);
+        // 가입 여부를 미리 조회하지 않고 member_name 의 unique 제약으로 중복 가입을 막음
+        // 이미 가입되어 있다면 RuntimeException 예외를 발생
+        try {
+            return memberRepository.save(member);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("이미 가입되어 있는 유저입니다.", e);
+        }
+    }
+
+    // 권한이나 활성화 여부가 실제로 바뀌면 보안 버전을 올리고, 커밋 후 MemberSecurityChangedEvent 로 알림
+    // (SecurityVersionTable 이 받아 이전에 발급된 토큰을 모든 인스턴스에서 거절)
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.MEMBER_BY_NAME, key = "#membername")
+    public Optional<Member> updateMember(String membername, MemberUpdateDTO memberUpdateDTO) {
+        return memberRepository.findWithAuthoritiesByMembername(membername).map(member -> {
+            boolean changed = false;
+            if (memberUpdateDTO.getAuthorities() != null) {
+                Set<Authority> authorities = memberUpdateDTO.getAuthorities().stream()
+                        .map(authorityCache::get)
+                        .collect(Collectors.toSet());
+                if (!authorities.equals(member.getAuthorities())) {
+                    member.setAuthorities(authorities);
+                    changed = true;
+                }
+            }
+            if (memberUpdateDTO.getActivated() != null && memberUpdateDTO.getActivated() != member.isActivated()) {
+                member.setActivated(memberUpdateDTO.getActivated());
+                changed = true;
+            }
+            if (changed) {
+                member.setSecurityVersion(member.getSecurityVersion() + 1);
+                eventPublisher.publishEvent(
+                        new MemberSecurityChangedEvent(member.getMembername(), member.getSecurityVersion()));
+                logger.info("'{}' 회원의 권한/활성화 여부를 변경했습니다.", membername);
+            }
+            return member;
+        });
     }
 
     @Transactional(readOnly = true)
     public Optional<Member> getMemberWithAuthorities(String membername) {
         // 회원 이름을 기준으로 데이터베이스에서 회원 정보와 권한 정보를 함께 조회
-        return memberRepository.findOneWithAuthoritiesByMembername(membername);
+        // 복제본에서 읽은 값이 로그인용 회원 캐시(MEMBER_BY_NAME)에 들어가지 않도록 캐시를 거치지 않는 메소드 사용
+        return memberRepository.findWithAuthoritiesByMembername(membername);
     }
 
-    @Transactional(readOnly = true)
-    public Optional<Member> getMyMemberWithAuthorities() {
-        // 현재 사용자의 이름을 기준으로 데이터베이스에서 회원 정보와 권한 정보를 함께 조회
-        return SecurityUtil.getCurrentUsername().flatMap(memberRepository::findOneWithAuthoritiesByMembername);
+    public Optional<MemberInfoDTO> getMyMemberWithAuthorities() {
+        return SecurityUtil.getCurrentPrincipal().flatMap(this::getMemberInfo);
+    }
+
+    public Optional<MemberInfoDTO> getMemberInfo(JwtPrincipal principal) {
+        // 토큰에 담긴 회원 이름, 닉네임, 권한으로 응답하고 DB 는 조회하지 않음
+        // (mid / nick 클레임이 없는 이전 토큰이면 프로젝션 조회로 닉네임만 가져옴)
+        return principal.hasProfile()
+                ? Optional.of(toMemberInfo(principal.getMembername(), principal.getNickname(), principal))
+                : memberRepository.findSummaryByMembername(principal.getMembername())
+                        .filter(MemberSummary::isActivated)
+                        .map(summary -> toMemberInfo(summary.getMembername(), summary.getNickname(), principal));
+    }
+
+    private static MemberInfoDTO toMemberInfo(String membername, String nickname, JwtPrincipal principal) {
+        List<AuthorityDTO> authorities = principal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .map(authorityName -> AuthorityDTO.builder().authorityName(authorityName).build())
+                .collect(Collectors.toList());
+        return MemberInfoDTO.builder()
+                .membername(membername)
+                .nickname(nickname)
+                .activated(true)
+                .authorities(authorities)
+                .build();
     }
 }
 
@@ -0,0 +1,126 @@
+package com.example.jwttutorial.service;
+
+import com.example.jwttutorial.entity.RefreshToken;
+import com.example.jwttutorial.repository.RefreshTokenRepository;
+import com.example.jwttutorial.util.TokenDigest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급, 교체(rotation), 폐기를 담당
+ * 리프레시 토큰은 서버에만 의미가 있는 무작위 문자열(opaque)이며, DB 에는 SHA-256 다이제스트만 저장
+ *
+ * rotate: 리프레시 토큰을 사용하면 새 토큰으로 교체하고 기존 토큰은 사용 처리
+ * 이미 사용되었거나 폐기된 토큰이 다시 들어오면 같은 계열(family)의 토큰을 모두 폐기
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final int TOKEN_BYTES = 32;
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshTokenValidityInSeconds;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${jwt.refresh-token.validity-in-seconds}") long refreshTokenValidityInSeconds) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenValidityInSeconds = refreshTokenValidityInSeconds;
+    }
+
+    // 로그인에 성공한 회원에게 새 계열의 리프레시 토큰 발급
+    @Transactional
+    public String issue(String membername) {
+        return save(membername, UUID.randomUUID().toString());
+    }
+
+    // 리프레시 토큰을 새 토큰으로 교체, 사용할 수 없는 토큰이면 빈 Optional 반환
+    @Transactional
+    public Optional<Rotation> rotate(String refreshToken) {
+        RefreshToken current = refreshTokenRepository
+                .findByTokenHash(TokenDigest.sha256Base64Url(refreshToken))
+                .orElse(null);
+
+        if (current == null) {
+            return Optional.empty();
+        }
+        if (current.getExpiresAt().isBefore(Instant.now())) {
+            logger.info("만료된 리프레시 토큰입니다.");
+            return Optional.empty();
+        }
+        // 이미 사용되었거나 폐기된 토큰 (동시에 같은 토큰으로 요청한 경우 포함)
+        if (current.isUsed() || current.isRevoked() || refreshTokenRepository.markUsed(current.getRefreshTokenId()) == 0) {
+            logger.warn("재사용된 리프레시 토큰이 감지되어 토큰 계열을 폐기합니다, member: {}", current.getMembername());
+            refreshTokenRepository.revokeFamily(current.getFamilyId());
+            return Optional.empty();
+        }
+
+        String next = save(current.getMembername(), current.getFamilyId());
+        return Optional.of(new Rotation(current.getMembername(), next));
+    }
+
+    // 리프레시 토큰이 속한 계열의 토큰을 모두 폐기 (로그아웃)
+    @Transactional
+    public void revokeFamily(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(TokenDigest.sha256Base64Url(refreshToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    // 만료된 리프레시 토큰을 주기적으로 삭제
+    @Scheduled(cron = "${jwt.refresh-token.purge-cron}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        logger.info("만료된 리프레시 토큰 {}건을 삭제했습니다.", deleted);
+    }
+
+    private String save(String membername, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = BASE64_URL.encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(TokenDigest.sha256Base64Url(refreshToken))
+                .familyId(familyId)
+                .membername(membername)
+                .expiresAt(Instant.now().plusSeconds(refreshTokenValidityInSeconds))
+                .build());
+        return refreshToken;
+    }
+
+    /**
+     * 교체 결과
+     * 새 액세스 토큰을 발급할 회원 이름과 새 리프레시 토큰
+     */
+    public static final class Rotation {
+
+        private final String membername;
+        private final String refreshToken;
+
+        public Rotation(String membername, String refreshToken) {
+            this.membername = membername;
+            this.refreshToken = refreshToken;
+        }
+
+        public String getMembername() {
+            return membername;
+        }
+
+        public String getRefreshToken() {
+            return refreshToken;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.jwttutorial.sharedstate;
+
+import com.example.jwttutorial.entity.SharedStateEntry;
+import com.example.jwttutorial.repository.SharedStateEntryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기존 데이터소스의 shared_state_entry 테이블로 인스턴스 간 상태를 주고받는 SharedStateStore
+ *
+ * 조회(get)는 항상 로컬 메모리 사본(InMemorySharedStateStore)에서 처리하므로 요청 경로에서 DB 를 거치지 않음
+ * put: 폐기된 토큰처럼 드물고 바로 반영되어야 하는 값, 로컬 사본과 테이블에 바로 기록
+ * increment: 로그인 실패 횟수처럼 자주 바뀌는 값, 로컬 사본에만 더하고 증가분을 모아 두었다가 sync 때 한 번에 테이블에 더함
+ *
+ * sync (sync-interval-ms 주기)
+ * 1. 모아 둔 증가분을 테이블 값에 더함 (여러 인스턴스의 증가분은 DB 에서 합쳐짐)
+ * 2. 이전 동기화 이후(sync-overlap-ms 만큼 여유를 둠) 바뀐 행을 가져와 로컬 사본을 갱신하고 리스너에 알림
+ * 따라서 다른 인스턴스의 변경은 최대 sync-interval-ms 정도 뒤에 반영됨
+ */
+public class DatabaseSharedStateStore implements SharedStateStore, InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseSharedStateStore.class);
+
+    private final SharedStateEntryRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final long syncOverlapMillis;
+    private final InMemorySharedStateStore local = new InMemorySharedStateStore();
+    private final Map<EntryKey, PendingDelta> pendingDeltas = new ConcurrentHashMap<>();
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public DatabaseSharedStateStore(SharedStateEntryRepository repository,
+                                    PlatformTransactionManager transactionManager,
+                                    SharedStateProperties properties) {
+        this.repository = repository;
+        // 호출한 쪽의 트랜잭션(예: 로그인 실패 기록)과 분리하여, 제약 위반으로 재시도해도 바깥 트랜잭션이 롤백되지 않도록 함
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.syncOverlapMillis = properties.getSyncOverlapMs();
+    }
+
+    // 시작 시 만료되지 않은 항목을 모두 불러옴
+    @Override
+    public void afterPropertiesSet() {
+        int loaded = pull();
+        logger.info("공유 상태 {}건을 불러왔습니다.", loaded);
+    }
+
+    @Override
+    public long get(String namespace, String key, long defaultValue) {
+        return local.get(namespace, key, defaultValue);
+    }
+
+    @Override
+    public void put(String namespace, String key, long value, long expiresAtMillis) {
+        local.put(namespace, key, value, expiresAtMillis);
+        Instant expiresAt = Instant.ofEpochMilli(expiresAtMillis);
+        writeWithRetry(() -> {
+            Instant now = Instant.now();
+            if (repository.updateValue(namespace, key, value, expiresAt, now) == 0) {
+                insert(namespace, key, value, expiresAt, now);
+            }
+        });
+    }
+
+    @Override
+    public long increment(String namespace, String key, long delta, long expiresAtMillis) {
+        long value = local.increment(namespace, key, delta, expiresAtMillis);
+        pendingDeltas.merge(new EntryKey(namespace, key), new PendingDelta(delta, expiresAtMillis), PendingDelta::plus);
+        return value;
+    }
+
+    @Override
+    public void forEach(String namespace, SharedStateListener action) {
+        local.forEach(namespace, action);
+    }
+
+    @Override
+    public void addListener(String namespace, SharedStateListener listener) {
+        local.addListener(namespace, listener);
+    }
+
+    // 모아 둔 증가분을 보내고 다른 인스턴스의 변경분을 가져옴
+    @Scheduled(fixedDelayString = "${shared-state.sync-interval-ms:1000}")
+    public synchronized void sync() {
+        try {
+            flush();
+            int updated = pull();
+            if (updated > 0) {
+                logger.debug("공유 상태 {}건을 동기화했습니다.", updated);
+            }
+        } catch (DataAccessException e) {
+            // DB 에 접근할 수 없는 동안에도 로컬 사본으로 계속 응답하고, 보내지 못한 증가분은 다음 주기에 다시 보냄
+            logger.warn("공유 상태를 동기화하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    // 만료된 항목을 로컬 사본과 테이블에서 제거
+    @Scheduled(fixedDelayString = "${shared-state.cleanup-interval-ms:60000}")
+    public void removeExpired() {
+        local.removeExpired();
+        try {
+            repository.deleteExpired(Instant.now());
+        } catch (DataAccessException e) {
+            logger.warn("만료된 공유 상태를 삭제하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    private void flush() {
+        for (EntryKey entryKey : pendingDeltas.keySet()) {
+            PendingDelta pending = pendingDeltas.remove(entryKey);
+            if (pending == null) {
+                continue;
+            }
+            try {
+                writeWithRetry(() -> addDelta(entryKey, pending));
+            } catch (RuntimeException e) {
+                pendingDeltas.merge(entryKey, pending, PendingDelta::plus);
+                throw e;
+            }
+        }
+    }
+
+    private void addDelta(EntryKey entryKey, PendingDelta pending) {
+        Instant now = Instant.now();
+        Instant expiresAt = Instant.ofEpochMilli(pending.expiresAtMillis);
+        if (repository.restartExpired(entryKey.namespace, entryKey.key, pending.delta, expiresAt, now) == 0
+                && repository.addDelta(entryKey.namespace, entryKey.key, pending.delta, now) == 0) {
+            insert(entryKey.namespace, entryKey.key, pending.delta, expiresAt, now);
+        }
+    }
+
+    // 다른 인스턴스와 동시에 같은 항목을 처음 만들면 unique 제약에 걸리므로, 한 번 더 시도하면 update 로 처리됨
+    private void writeWithRetry(Runnable write) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> write.run());
+        } catch (DataIntegrityViolationException e) {
+            transactionTemplate.executeWithoutResult(status -> write.run());
+        }
+    }
+
+    private void insert(String namespace, String key, long value, Instant expiresAt, Instant now) {
+        repository.saveAndFlush(SharedStateEntry.builder()
+                .stateNamespace(namespace)
+                .entryKey(key)
+                .entryValue(value)
+                .expiresAt(expiresAt)
+                .updatedAt(now)
+                .build());
+    }
+
+    // 테이블 값에 아직 보내지 않은 이 인스턴스의 증가분을 더해 로컬 사본에 반영, 값이 바뀐 항목 수를 반환
+    private int pull() {
+        Instant now = Instant.now();
+        Instant since = lastSync.minusMillis(syncOverlapMillis);
+        int updated = 0;
+        for (SharedStateEntry entry : repository.findAllByUpdatedAtAfterAndExpiresAtAfter(since, now)) {
+            PendingDelta pending = pendingDeltas.get(new EntryKey(entry.getStateNamespace(), entry.getEntryKey()));
+            long value = entry.getEntryValue() + (pending != null ? pending.delta : 0);
+            if (local.get(entry.getStateNamespace(), entry.getEntryKey(), Long.MIN_VALUE) != value) {
+                local.put(entry.getStateNamespace(), entry.getEntryKey(), value, entry.getExpiresAt().toEpochMilli());
+                updated++;
+            }
+        }
+        lastSync = now;
+        return updated;
+    }
+
+    private static final class EntryKey {
+
+        private final String namespace;
+        private final String key;
+
+        private EntryKey(String namespace, String key) {
+            this.namespace = namespace;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EntryKey)) {
+                return false;
+            }
+            EntryKey other = (EntryKey) o;
+            return namespace.equals(other.namespace) && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(namespace, key);
+        }
+    }
+
+    private static final class PendingDelta {
+
+        private final long delta;
+        private final long expiresAtMillis;
+
+        private PendingDelta(long delta, long expiresAtMillis) {
+            this.delta = delta;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private PendingDelta plus(PendingDelta other) {
+            return new PendingDelta(delta + other.delta, Math.max(expiresAtMillis, other.expiresAtMillis));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.jwttutorial.sharedstate;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 프로세스 내부 메모리에만 보관하는 SharedStateStore
+ * 단일 인스턴스 운영이나 테스트/벤치마크에서 사용하고, DatabaseSharedStateStore 의 로컬 사본으로도 사용
+ */
+public class InMemorySharedStateStore implements SharedStateStore {
+
+    private final Map<String, Namespace> namespaces = new ConcurrentHashMap<>();
+
+    @Override
+    public long get(String namespace, String key, long defaultValue) {
+        Namespace entries = namespaces.get(namespace);
+        if (entries == null) {
+            return defaultValue;
+        }
+        Entry entry = entries.entries.get(key);
+        if (entry == null || entry.expiresAtMillis <= System.currentTimeMillis()) {
+            return defaultValue;
+        }
+        return entry.value;
+    }
+
+    @Override
+    public void put(String namespace, String key, long value, long expiresAtMillis) {
+        Namespace entries = namespace(namespace);
+        entries.entries.put(key, new Entry(value, expiresAtMillis));
+        entries.notify(key, value, expiresAtMillis);
+    }
+
+    @Override
+    public long increment(String namespace, String key, long delta, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        Namespace entries = namespace(namespace);
+        Entry updated = entries.entries.compute(key, (k, current) ->
+                current == null || current.expiresAtMillis <= now
+                        ? new Entry(delta, expiresAtMillis)
+                        : new Entry(current.value + delta, current.expiresAtMillis));
+        entries.notify(key, updated.value, updated.expiresAtMillis);
+        return updated.value;
+    }
+
+    @Override
+    public void forEach(String namespace, SharedStateListener action) {
+        Namespace entries = namespaces.get(namespace);
+        if (entries == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        entries.entries.forEach((key, entry) -> {
+            if (entry.expiresAtMillis > now) {
+                action.onUpdate(key, entry.value, entry.expiresAtMillis);
+            }
+        });
+    }
+
+    @Override
+    public void addListener(String namespace, SharedStateListener listener) {
+        namespace(namespace).listeners.add(listener);
+    }
+
+    // 만료된 항목 제거 (database 백엔드에서는 DatabaseSharedStateStore 가 호출)
+    @Scheduled(fixedDelayString = "${shared-state.cleanup-interval-ms:60000}")
+    public void removeExpired() {
+        long now = System.currentTimeMillis();
+        for (Namespace entries : namespaces.values()) {
+            entries.entries.values().removeIf(entry -> entry.expiresAtMillis <= now);
+        }
+    }
+
+    private Namespace namespace(String namespace) {
+        return namespaces.computeIfAbsent(namespace, name -> new Namespace());
+    }
+
+    private static final class Namespace {
+
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+        private final List<SharedStateListener> listeners = new CopyOnWriteArrayList<>();
+
+        private void notify(String key, long value, long expiresAtMillis) {
+            for (SharedStateListener listener : listeners) {
+                listener.onUpdate(key, value, expiresAtMillis);
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final long value;
+        private final long expiresAtMillis;
+
+        private Entry(long value, long expiresAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.jwttutorial.sharedstate;
+
+import com.example.jwttutorial.repository.SharedStateEntryRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * shared-state.backend 에 따라 SharedStateStore 구현 선택
+ * 여러 인스턴스로 운영할 때는 database (기본값), 단일 인스턴스에서 DB 쓰기를 줄이려면 memory
+ */
+@Configuration
+public class SharedStateConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "shared-state.backend", havingValue = "memory")
+    public SharedStateStore inMemorySharedStateStore() {
+        return new InMemorySharedStateStore();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "shared-state.backend", havingValue = "database", matchIfMissing = true)
+    public SharedStateStore databaseSharedStateStore(SharedStateEntryRepository repository,
+                                                     PlatformTransactionManager transactionManager,
+                                                     SharedStateProperties properties) {
+        return new DatabaseSharedStateStore(repository, transactionManager, properties);
+    }
+}
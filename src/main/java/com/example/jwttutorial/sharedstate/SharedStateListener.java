@@ -0,0 +1,10 @@
+package com.example.jwttutorial.sharedstate;
+
+/**
+ * SharedStateStore 항목 변경 알림
+ */
+@FunctionalInterface
+public interface SharedStateListener {
+
+    void onUpdate(String key, long value, long expiresAtMillis);
+}
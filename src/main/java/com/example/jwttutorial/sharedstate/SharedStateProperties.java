@@ -0,0 +1,29 @@
+package com.example.jwttutorial.sharedstate;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 인스턴스 간 공유 상태 설정 (shared-state.*)
+ *
+ * backend: memory (프로세스 내부, 단일 인스턴스) 또는 database (기존 데이터소스의 shared_state_entry 테이블로 동기화)
+ * sync-interval-ms: database 에서 쌓아 둔 증가분을 보내고 다른 인스턴스의 변경분을 가져오는 주기 (상태가 수렴하는 최대 지연)
+ * sync-overlap-ms: 인스턴스 간 시계 차이와 늦게 커밋된 변경을 놓치지 않도록 이전 동기화 시점보다 이만큼 앞부터 다시 조회
+ * cleanup-interval-ms: 만료된 항목 삭제 주기
+ */
+@Data
+@ConfigurationProperties(prefix = "shared-state")
+public class SharedStateProperties {
+
+    private Backend backend = Backend.DATABASE;
+
+    private long syncIntervalMs = 1000;
+
+    private long syncOverlapMs = 5000;
+
+    private long cleanupIntervalMs = 60000;
+
+    public enum Backend {
+        MEMORY, DATABASE
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.jwttutorial.sharedstate;
+
+/**
+ * 여러 인스턴스가 함께 보는 상태(폐기된 토큰, 로그인 실패 횟수 등) 저장소
+ *
+ * 값은 namespace + key 로 구분되는 long 이며, 항목마다 만료 시각(epoch ms)이 있어 지나면 없는 것으로 취급
+ * 조회는 항상 각 인스턴스의 메모리에서 처리하고, 다른 인스턴스의 변경은 구현에 따라 일정 주기 안에 반영됨
+ *
+ * 구현
+ * InMemorySharedStateStore: 프로세스 내부 메모리 (shared-state.backend=memory, 단일 인스턴스)
+ * DatabaseSharedStateStore: shared_state_entry 테이블로 주기적으로 변경분을 주고받음 (shared-state.backend=database)
+ */
+public interface SharedStateStore {
+
+    /**
+     * 현재 값을 조회, 없거나 만료되었으면 defaultValue
+     * 요청마다 호출되는 경로에서 사용하므로 객체를 생성하지 않음
+     */
+    long get(String namespace, String key, long defaultValue);
+
+    /**
+     * 값을 설정, 다른 인스턴스에도 전달됨
+     */
+    void put(String namespace, String key, long value, long expiresAtMillis);
+
+    /**
+     * 값에 delta 를 더하고 이 인스턴스에서 보이는 새 값을 반환
+     * 항목이 없거나 만료되었으면 delta 에서 다시 시작하며, 이때 만료 시각을 expiresAtMillis 로 설정
+     */
+    long increment(String namespace, String key, long delta, long expiresAtMillis);
+
+    /**
+     * 만료되지 않은 모든 항목을 전달 (시작 시 로컬 자료구조 복원용)
+     */
+    void forEach(String namespace, SharedStateListener action);
+
+    /**
+     * namespace 의 값이 바뀔 때마다 호출될 리스너 등록 (이 인스턴스의 변경과 다른 인스턴스에서 전달된 변경 모두)
+     */
+    void addListener(String namespace, SharedStateListener listener);
+}
@@ -0,0 +1,29 @@
+package com.example.jwttutorial.util;
+
+import com.example.jwttutorial.jwt.JwtPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import reactor.core.publisher.Mono;
+
+/**
+ * reactive 프로필의 SecurityUtil
+ * 인증 정보는 요청마다 스레드가 바뀔 수 있어 ThreadLocal 이 아닌 Reactor Context(ReactiveSecurityContextHolder)에서 읽음
+ */
+public final class ReactiveSecurityUtil {
+
+    private ReactiveSecurityUtil() {
+    }
+
+    /**
+     * JWT 토큰으로 인증된 경우 토큰의 클레임으로 만든 JwtPrincipal
+     * @return 인증 정보가 없거나 토큰으로 인증된 요청이 아니면 빈 Mono
+     */
+    public static Mono<JwtPrincipal> getCurrentPrincipal() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .map(Authentication::getPrincipal)
+                .filter(JwtPrincipal.class::isInstance)
+                .cast(JwtPrincipal.class);
+    }
+}
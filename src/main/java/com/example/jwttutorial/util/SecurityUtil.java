@@ -1,5 +1,6 @@
 package com.example.jwttutorial.util;
 
+import com.example.jwttutorial.jwt.JwtPrincipal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
@@ -31,7 +32,10 @@ public class SecurityUtil {
 
         // 인증된 사용자의 이름을 추출
         String username = null;
-        if (authentication.getPrincipal() instanceof UserDetails) {
+        if (authentication.getPrincipal() instanceof JwtPrincipal) {
+            // JWT 토큰으로 인증된 요청은 토큰의 sub 클레임을 그대로 사용
+            username = ((JwtPrincipal) authentication.getPrincipal()).getMembername();
+        } else if (authentication.getPrincipal() instanceof UserDetails) {
             // Spring Security의 UserDetails 타입으로 캐스팅하여 사용자 이름을 가져옴
             UserDetails springSecurityUser = (UserDetails) authentication.getPrincipal();
             username = springSecurityUser.getUsername();
@@ -43,5 +47,16 @@ public class SecurityUtil {
         // 사용자 이름을 Optional 객체로 반환
         return Optional.ofNullable(username);
     }
-}
 
+    /**
+     * JWT 토큰으로 인증된 경우 토큰의 클레임으로 만든 JwtPrincipal 을 가져오는 정적 메소드
+     * @return 인증 정보가 없거나 토큰으로 인증된 요청이 아니면 빈 Optional을 반환
+     */
+    public static Optional<JwtPrincipal> getCurrentPrincipal() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal) {
+            return Optional.of((JwtPrincipal) authentication.getPrincipal());
+        }
+        return Optional.empty();
+    }
+}
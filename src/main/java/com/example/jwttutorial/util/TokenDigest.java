@@ -0,0 +1,45 @@
+package com.example.jwttutorial.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 토큰 문자열의 SHA-256 다이제스트를 계산하는 유틸리티
+ * 토큰 원문 대신 다이제스트를 캐시 키나 저장용 값으로 사용할 때 사용
+ *
+ * MessageDigest 는 스레드 안전하지 않으므로 스레드마다 하나씩 만들어 재사용
+ */
+public final class TokenDigest {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private TokenDigest() {
+    }
+
+    // 토큰의 SHA-256 다이제스트 (32byte) 반환
+    public static byte[] sha256(String token) {
+        // digest 호출 시 MessageDigest 상태가 초기화되므로 별도의 reset 이 필요 없음
+        return SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 토큰의 SHA-256 다이제스트를 Base64URL 문자열(43자)로 반환, DB 에 저장하거나 인덱스로 조회할 때 사용
+    public static String sha256Base64Url(String token) {
+        return BASE64_URL.encodeToString(sha256(token));
+    }
+
+    // 로그에 남길 토큰 지문, SHA-256 다이제스트 앞 9byte 를 Base64URL 12자로 표현 (같은 토큰끼리 로그를 연결하는 용도)
+    public static String fingerprint(String token) {
+        return BASE64_URL.encodeToString(Arrays.copyOf(sha256(token), 9));
+    }
+}
@@ -16,8 +16,11 @@ CREATE TABLE IF NOT EXISTS `authority` (
 );
 
 -- 이후 나머지 데이터를 삽입합니다.
-insert into `member` (`member_name`, `password`, `nick_name`, `role`, `activated`) values ('admin', '$2a$08$lDnHPz7eUkSi6ao14Twuau08mzhWrL4kyZGGU5xfiGALO/Vxd5DOi', 'admin', 'ROLE_MEMBER', 1);
-insert into `member` (`member_name`, `password`, `nick_name`, `role`, `activated`) values ('member', '$2a$08$UkVvwpULis18S19S5pZFn.YHPZt3oaqHZnDwqbCW9pft6uFtkXKDC', 'member', 'ROLE_ADMIN', 1);
+insert into `member` (`member_id`, `member_name`, `password`, `nick_name`, `role`, `activated`, `failed_login_count`, `security_version`) values (1, 'admin', '$2a$08$lDnHPz7eUkSi6ao14Twuau08mzhWrL4kyZGGU5xfiGALO/Vxd5DOi', 'admin', 'ROLE_MEMBER', 1, 0, 0);
+insert into `member` (`member_id`, `member_name`, `password`, `nick_name`, `role`, `activated`, `failed_login_count`, `security_version`) values (2, 'member', '$2a$08$UkVvwpULis18S19S5pZFn.YHPZt3oaqHZnDwqbCW9pft6uFtkXKDC', 'member', 'ROLE_ADMIN', 1, 0, 0);
+
+-- member_id 는 member_seq 시퀀스(50개 단위 할당)로 생성되므로, 직접 넣은 ID 와 겹치지 않도록 시퀀스 시작 값을 옮김
+ALTER SEQUENCE member_seq RESTART WITH 100;
 
 insert into `authority` (`authority_name`) values ('ROLE_MEMBER');
 insert into `authority` (`authority_name`) values ('ROLE_ADMIN');
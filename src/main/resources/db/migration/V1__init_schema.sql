@@ -0,0 +1,60 @@
+-- 엔티티와 같은 스키마 (prod 프로필은 ddl-auto: validate 로 이 스키마와 엔티티가 맞는지 확인)
+-- PostgreSQL 과 H2 에서 모두 실행되는 문법만 사용
+
+CREATE TABLE authority (
+    authority_name VARCHAR(50) NOT NULL,
+    CONSTRAINT pk_authority PRIMARY KEY (authority_name)
+);
+
+-- member_id 는 pooled 시퀀스로 50개씩 미리 할당 (Member 의 allocationSize 와 같아야 함)
+CREATE SEQUENCE member_seq START WITH 100 INCREMENT BY 50;
+
+CREATE TABLE member (
+    member_id          BIGINT       NOT NULL,
+    member_name        VARCHAR(50),
+    password           VARCHAR(255),
+    nick_name          VARCHAR(50),
+    role               VARCHAR(255),
+    activated          BOOLEAN      NOT NULL,
+    failed_login_count INTEGER      DEFAULT 0 NOT NULL,
+    locked_until       TIMESTAMP,
+    CONSTRAINT pk_member PRIMARY KEY (member_id),
+    CONSTRAINT uk_member_member_name UNIQUE (member_name)
+);
+
+CREATE TABLE member_authority (
+    member_id      BIGINT      NOT NULL,
+    authority_name VARCHAR(50) NOT NULL,
+    CONSTRAINT pk_member_authority PRIMARY KEY (member_id, authority_name),
+    CONSTRAINT fk_member_authority_member FOREIGN KEY (member_id) REFERENCES member (member_id),
+    CONSTRAINT fk_member_authority_authority FOREIGN KEY (authority_name) REFERENCES authority (authority_name)
+);
+
+CREATE TABLE refresh_token (
+    refresh_token_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    token_hash       VARCHAR(64) NOT NULL,
+    family_id        VARCHAR(36) NOT NULL,
+    member_name      VARCHAR(50) NOT NULL,
+    expires_at       TIMESTAMP   NOT NULL,
+    used             BOOLEAN     NOT NULL,
+    revoked          BOOLEAN     NOT NULL,
+    CONSTRAINT pk_refresh_token PRIMARY KEY (refresh_token_id)
+);
+
+CREATE UNIQUE INDEX ux_refresh_token_hash ON refresh_token (token_hash);
+CREATE INDEX ix_refresh_token_family ON refresh_token (family_id);
+CREATE INDEX ix_refresh_token_expires_at ON refresh_token (expires_at);
+
+CREATE TABLE shared_state_entry (
+    shared_state_entry_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    state_namespace       VARCHAR(50)  NOT NULL,
+    entry_key             VARCHAR(100) NOT NULL,
+    entry_value           BIGINT       NOT NULL,
+    expires_at            TIMESTAMP    NOT NULL,
+    updated_at            TIMESTAMP    NOT NULL,
+    CONSTRAINT pk_shared_state_entry PRIMARY KEY (shared_state_entry_id)
+);
+
+CREATE UNIQUE INDEX ux_shared_state_entry_key ON shared_state_entry (state_namespace, entry_key);
+CREATE INDEX ix_shared_state_entry_updated_at ON shared_state_entry (updated_at);
+CREATE INDEX ix_shared_state_entry_expires_at ON shared_state_entry (expires_at);
@@ -0,0 +1,4 @@
+-- 권한 코드 (Role), 회원 가입 시 AuthorityCache 가 이 행을 사용
+-- data.sql 의 데모 계정(admin / member)은 운영 DB 에 넣지 않음
+INSERT INTO authority (authority_name) VALUES ('ROLE_MEMBER');
+INSERT INTO authority (authority_name) VALUES ('ROLE_ADMIN');
@@ -0,0 +1,15 @@
+-- 참조 토큰 (jwt.reference-token.enabled=true), 토큰 원문 대신 SHA-256 다이제스트만 저장
+CREATE TABLE reference_token (
+    reference_token_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    token_hash         VARCHAR(64)  NOT NULL,
+    token_id           VARCHAR(36)  NOT NULL,
+    member_name        VARCHAR(50)  NOT NULL,
+    member_id          BIGINT,
+    nick_name          VARCHAR(50),
+    authorities        VARCHAR(255) NOT NULL,
+    expires_at         TIMESTAMP    NOT NULL,
+    CONSTRAINT pk_reference_token PRIMARY KEY (reference_token_id)
+);
+
+CREATE UNIQUE INDEX ux_reference_token_hash ON reference_token (token_hash);
+CREATE INDEX ix_reference_token_expires_at ON reference_token (expires_at);
@@ -0,0 +1,5 @@
+-- 회원의 보안 버전 (권한 변경/비활성화마다 증가), 액세스 토큰의 sv 클레임과 비교
+ALTER TABLE member ADD COLUMN security_version INTEGER DEFAULT 0 NOT NULL;
+
+-- 참조 토큰도 발급 당시의 보안 버전을 보관
+ALTER TABLE reference_token ADD COLUMN security_version INTEGER DEFAULT 0 NOT NULL;
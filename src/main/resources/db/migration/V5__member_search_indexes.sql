@@ -0,0 +1,6 @@
+-- 관리자 회원 검색 (member_id 기준 keyset 페이지)
+-- 활성화 여부로 거른 뒤 member_id 순서대로 이어서 읽음
+CREATE INDEX ix_member_activated_id ON member (activated, member_id);
+
+-- 권한으로 거를 때 권한별 회원 ID 를 인덱스만으로 확인 (기본 키는 member_id 가 앞이라 사용할 수 없음)
+CREATE INDEX ix_member_authority_authority ON member_authority (authority_name, member_id);
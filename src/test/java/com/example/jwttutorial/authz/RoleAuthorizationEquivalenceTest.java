@@ -0,0 +1,121 @@
+package com.example.jwttutorial.authz;
+
+import com.example.jwttutorial.controller.AdminTokenController;
+import com.example.jwttutorial.controller.MemberController;
+import com.example.jwttutorial.controller.MemberImportController;
+import com.example.jwttutorial.dto.MemberDTO;
+import com.example.jwttutorial.dto.RevokeTokenDTO;
+import com.example.jwttutorial.jwt.JwtPrincipal;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.expression.ExpressionUtils;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.util.SimpleMethodInvocation;
+import org.springframework.web.method.HandlerMethod;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @RequireRoles 의 허용/거부 판단이 이전에 붙어 있던 @PreAuthorize SpEL 식과 같은지 확인
+ * 권한 조합(Role 에 없는 권한 포함) x 인증 주체 형태(JwtPrincipal, 문자열, 익명)마다 두 방식의 결과를 비교
+ */
+class RoleAuthorizationEquivalenceTest {
+
+    private static final String[] AUTHORITY_NAMES = {"ROLE_MEMBER", "ROLE_ADMIN", "ROLE_AUDITOR", "ADMIN"};
+
+    private final DefaultMethodSecurityExpressionHandler expressionHandler = new DefaultMethodSecurityExpressionHandler();
+
+    @Test
+    void requireRolesMatchesPreviousPreAuthorizeExpressions() throws Exception {
+        MemberController memberController = new MemberController(null);
+        AdminTokenController adminTokenController = new AdminTokenController(null);
+        MemberImportController memberImportController = new MemberImportController(null, null);
+
+        // 핸들러 메소드 -> 바꾸기 전의 @PreAuthorize 식
+        Map<HandlerMethod, String> previousRules = new LinkedHashMap<>();
+        previousRules.put(new HandlerMethod(memberController, "getMyMemberInfo"),
+                "hasAnyRole('MEMBER', 'ADMIN')");
+        previousRules.put(new HandlerMethod(memberController, "getMemberInfo", String.class),
+                "hasAnyRole('ADMIN')");
+        previousRules.put(new HandlerMethod(adminTokenController, "revoke", RevokeTokenDTO.class),
+                "hasAnyRole('ADMIN')");
+        previousRules.put(new HandlerMethod(memberImportController, "importMembers",
+                        HttpServletRequest.class, HttpServletResponse.class),
+                "hasAnyRole('ADMIN')");
+
+        List<HandlerMethod> handlerMethods = new ArrayList<>(previousRules.keySet());
+        RoleAuthorizationInterceptor interceptor = new RoleAuthorizationInterceptor();
+        assertThat(interceptor.compile(handlerMethods)).isEqualTo(previousRules.size());
+
+        int compared = 0;
+        for (HandlerMethod handlerMethod : handlerMethods) {
+            Expression expression = expressionHandler.getExpressionParser()
+                    .parseExpression(previousRules.get(handlerMethod));
+            for (Authentication authentication : authentications()) {
+                boolean expected = evaluate(expression, authentication, handlerMethod.getMethod());
+                assertThat(allows(interceptor.requiredMask(handlerMethod), authentication))
+                        .as("%s, %s", handlerMethod.getMethod().getName(), authentication)
+                        .isEqualTo(expected);
+                compared++;
+            }
+        }
+        assertThat(compared).isEqualTo(previousRules.size() * (1 << AUTHORITY_NAMES.length) * 2 + previousRules.size());
+    }
+
+    @Test
+    void handlersWithoutAnnotationArePermitted() throws Exception {
+        Method signup = MemberController.class.getMethod("signup", MemberDTO.class);
+        assertThat(RoleRules.requiredMask(signup, MemberController.class)).isEqualTo(RoleRules.PERMIT_ALL);
+    }
+
+    private boolean evaluate(Expression expression, Authentication authentication, Method method) {
+        EvaluationContext context = expressionHandler.createEvaluationContext(authentication,
+                new SimpleMethodInvocation(null, method));
+        return ExpressionUtils.evaluateAsBoolean(expression, context);
+    }
+
+    private static boolean allows(int requiredMask, Authentication authentication) {
+        try {
+            RoleRules.check(requiredMask, authentication);
+            return true;
+        } catch (AccessDeniedException e) {
+            return false;
+        }
+    }
+
+    // 권한 이름의 모든 부분집합마다 JwtPrincipal / 문자열 주체 인증 정보를 만들고, 익명 인증 정보를 하나 추가
+    private static List<Authentication> authentications() {
+        List<Authentication> authentications = new ArrayList<>();
+        for (int subset = 0; subset < (1 << AUTHORITY_NAMES.length); subset++) {
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < AUTHORITY_NAMES.length; i++) {
+                if ((subset & (1 << i)) != 0) {
+                    names.add(AUTHORITY_NAMES[i]);
+                }
+            }
+            List<GrantedAuthority> authorities = AuthorityUtils.createAuthorityList(names.toArray(new String[0]));
+            JwtPrincipal principal = new JwtPrincipal("member", 1L, "member", authorities);
+            authentications.add(new UsernamePasswordAuthenticationToken(principal, null, authorities));
+            authentications.add(new UsernamePasswordAuthenticationToken("member", null, authorities));
+        }
+        authentications.add(new AnonymousAuthenticationToken("anonymous", "anonymousUser",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        return authentications;
+    }
+}
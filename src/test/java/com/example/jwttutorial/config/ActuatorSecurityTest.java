@@ -0,0 +1,42 @@
+package com.example.jwttutorial.config;
+
+import com.example.jwttutorial.support.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * actuator 접근 제어
+ * /actuator/health 만 공개하고, Prometheus 수집을 포함한 나머지 엔드포인트는 ROLE_ADMIN 토큰 필요
+ * (테스트에서는 메트릭 내보내기가 꺼져 있으므로 @AutoConfigureMetrics 로 /actuator/prometheus 를 켬)
+ */
+@AutoConfigureMetrics
+class ActuatorSecurityTest extends ApiTestSupport {
+
+    @Test
+    void healthIsPublic() throws Exception {
+        assertThat(status("/actuator/health", null)).isEqualTo(200);
+    }
+
+    @Test
+    void prometheusAndMetricsRequireAdmin() throws Exception {
+        signup("actuator-member", "actuator-password");
+        String memberToken = accessToken("actuator-member", "actuator-password");
+        String adminToken = adminToken();
+
+        for (String path : new String[]{"/actuator/prometheus", "/actuator/metrics", "/actuator/caches"}) {
+            assertThat(status(path, null)).as(path).isEqualTo(401);
+            assertThat(status(path, memberToken)).as(path).isEqualTo(403);
+            assertThat(status(path, adminToken)).as(path).isEqualTo(200);
+        }
+    }
+
+    private int status(String path, String token) throws Exception {
+        if (token == null) {
+            return mockMvc.perform(get(path)).andReturn().getResponse().getStatus();
+        }
+        return mockMvc.perform(withToken(get(path), token)).andReturn().getResponse().getStatus();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.jwttutorial.config;
+
+import com.example.jwttutorial.dto.LoginDTO;
+import com.example.jwttutorial.support.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * auth.execution.mode=async 는 Callable 을 비동기 요청으로 처리하고, 재디스패치로 platform 과 같은 응답을 만드는지 확인
+ */
+@TestPropertySource(properties = "auth.execution.mode=async")
+class AsyncAuthExecutionModeTest extends ApiTestSupport {
+
+    private static final String PASSWORD = "mode-password";
+
+    @Test
+    void asyncModeDispatchesCallableResult() throws Exception {
+        signup("mode-async", PASSWORD);
+
+        MvcResult started = mockMvc.perform(post("/api/authenticate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginDTO("mode-async", PASSWORD))))
+                .andReturn();
+        assertThat(started.getRequest().isAsyncStarted()).isTrue();
+
+        assertThat(authenticate("mode-async", PASSWORD).getResponse().getStatus()).isEqualTo(200);
+        assertThat(authenticate("mode-async", "wrong-password").getResponse().getStatus()).isEqualTo(401);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.jwttutorial.config;
+
+import com.example.jwttutorial.dto.LoginDTO;
+import com.example.jwttutorial.dto.TokenDTO;
+import com.example.jwttutorial.support.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * auth.execution.mode=platform(기본값)은 컨트롤러가 반환한 Callable 을 요청 스레드에서 바로 실행하여
+ * 비동기 요청(startAsync)과 ASYNC 재디스패치 없이 응답하는지 확인 (async 는 AsyncAuthExecutionModeTest)
+ */
+class AuthExecutionModeTest extends ApiTestSupport {
+
+    private static final String PASSWORD = "mode-password";
+
+    @Test
+    void platformModeRespondsWithoutAsyncDispatch() throws Exception {
+        signup("mode-platform", PASSWORD);
+
+        MvcResult success = mockMvc.perform(login("mode-platform", PASSWORD)).andReturn();
+        assertThat(success.getRequest().isAsyncStarted()).isFalse();
+        assertThat(success.getResponse().getStatus()).isEqualTo(200);
+        assertThat(objectMapper.readValue(success.getResponse().getContentAsString(), TokenDTO.class).getToken())
+                .isNotBlank();
+
+        // Callable 안에서 발생한 인증 예외도 동기 처리와 같이 401 로 응답
+        MvcResult failure = mockMvc.perform(login("mode-platform", "wrong-password")).andReturn();
+        assertThat(failure.getRequest().isAsyncStarted()).isFalse();
+        assertThat(failure.getResponse().getStatus()).isEqualTo(401);
+    }
+
+    private MockHttpServletRequestBuilder login(String membername, String password) throws Exception {
+        return post("/api/authenticate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginDTO(membername, password)));
+    }
+}
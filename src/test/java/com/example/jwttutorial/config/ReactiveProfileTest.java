@@ -0,0 +1,132 @@
+package com.example.jwttutorial.config;
+
+import com.example.jwttutorial.dto.LoginDTO;
+import com.example.jwttutorial.dto.MemberDTO;
+import com.example.jwttutorial.dto.TokenDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * reactive 프로필이 Tomcat(spring-boot-starter-web)이 함께 있는 클래스패스에서도 Netty + WebFlux 로 뜨고,
+ * 로그인, 내 정보 조회, 잘못된 토큰(401), 관리자 전용 경로(403)가 서블릿 방식과 같은 상태 코드와 본문으로 응답하는지 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:${random.uuid}",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+@ActiveProfiles("reactive")
+class ReactiveProfileTest {
+
+    private static final String MEMBERNAME = "reactive-member";
+    private static final String PASSWORD = "reactive-password";
+
+    // 서블릿 방식의 JwtAuthenticationEntryPoint / JwtAccessDeniedHandler 와 같은 본문 (PrecomputedErrorResponse)
+    private static final String UNAUTHORIZED_BODY = "{\"status\":401,\"error\":\"Unauthorized\"}";
+    private static final String FORBIDDEN_BODY = "{\"status\":403,\"error\":\"Forbidden\"}";
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        // 비밀번호 해시가 들어가는 가입/로그인은 기본 응답 대기 시간(5초)보다 오래 걸릴 수 있음
+        webTestClient = webTestClient.mutate()
+                .responseTimeout(Duration.ofSeconds(30))
+                .build();
+    }
+
+    @Test
+    void bootsOnNettyWithTomcatOnClasspath() {
+        assertThat(applicationContext).isInstanceOf(ReactiveWebServerApplicationContext.class);
+        assertThat(((ReactiveWebServerApplicationContext) applicationContext).getWebServer())
+                .isInstanceOf(NettyWebServer.class);
+    }
+
+    @Test
+    void loginAndMemberInfo() {
+        webTestClient.post().uri("/api/signup")
+                .bodyValue(MemberDTO.builder().membername(MEMBERNAME).password(PASSWORD).nickname(MEMBERNAME).build())
+                .exchange()
+                .expectStatus().isOk();
+
+        String token = login(MEMBERNAME, PASSWORD);
+
+        webTestClient.get().uri("/api/member")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.membername").isEqualTo(MEMBERNAME)
+                .jsonPath("$.authorities[0].authorityName").isEqualTo("ROLE_MEMBER");
+    }
+
+    @Test
+    void badTokenIsUnauthorized() {
+        for (String token : new String[]{"not-a-token", "a.b.c"}) {
+            webTestClient.get().uri("/api/member")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                    .exchange()
+                    .expectStatus().isUnauthorized()
+                    .expectBody().json(UNAUTHORIZED_BODY, true);
+        }
+
+        webTestClient.get().uri("/api/member")
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectHeader().valueEquals(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                .expectBody().json(UNAUTHORIZED_BODY, true);
+    }
+
+    @Test
+    void adminRouteIsForbiddenForMember() {
+        String membername = "reactive-member-2";
+        webTestClient.post().uri("/api/signup")
+                .bodyValue(MemberDTO.builder().membername(membername).password(PASSWORD).nickname(membername).build())
+                .exchange()
+                .expectStatus().isOk();
+        String memberToken = login(membername, PASSWORD);
+        String adminToken = login("admin", "admin");
+
+        for (String path : new String[]{"/api/member/" + membername, "/actuator/metrics"}) {
+            webTestClient.get().uri(path)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + memberToken)
+                    .exchange()
+                    .expectStatus().isForbidden()
+                    .expectBody().json(FORBIDDEN_BODY, true);
+        }
+
+        webTestClient.get().uri("/api/member/" + membername)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.membername").isEqualTo(membername);
+    }
+
+    private String login(String membername, String password) {
+        TokenDTO tokenDTO = webTestClient.post().uri("/api/authenticate")
+                .bodyValue(new LoginDTO(membername, password))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TokenDTO.class)
+                .returnResult()
+                .getResponseBody();
+        assertThat(tokenDTO).isNotNull();
+        return tokenDTO.getToken();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.jwttutorial.config;
+
+import com.example.jwttutorial.dto.MemberDTO;
+import com.example.jwttutorial.ratelimit.LoginAttemptService;
+import com.example.jwttutorial.ratelimit.LoginRateLimitedException;
+import com.example.jwttutorial.repository.MemberRepository;
+import com.example.jwttutorial.service.MemberService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주 DB 와 복제본을 서로 다른 H2 인스턴스로 띄워, 읽기 전용 트랜잭션만 복제본으로 가는지 확인
+ * 두 DB 에 서로 다른 회원을 넣어 두고 어느 쪽 데이터가 보이는지로 라우팅 결과를 판단
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaRoutingTest.PRIMARY_URL,
+        "datasource.replica.url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "datasource.replica.username=sa",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.sql.init.mode=never",
+        "shared-state.backend=memory"
+})
+class ReadReplicaRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private static final String INSERT_MEMBER =
+            "insert into member (member_id, member_name, password, nick_name, activated, failed_login_count) " +
+            "values (?, ?, 'password', ?, true, 0)";
+    private static final String COUNT_MEMBER = "select count(*) from member where member_name = ?";
+
+    private static JdbcTemplate primary;
+    private static JdbcTemplate replica;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private LoginAttemptService loginAttemptService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 애플리케이션 컨텍스트가 뜨기 전에 복제본 스키마를 만들고 (주 DB 는 시작 시 Flyway 가 마이그레이션) 구분용 회원을 넣어 둠
+    @BeforeAll
+    static void setUpReplica() {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+        replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replica.update(INSERT_MEMBER, 1, "replica-only", "replica");
+        primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Long replicaCount = readOnly.execute(status ->
+                jdbcTemplate.queryForObject(COUNT_MEMBER, Long.class, "replica-only"));
+        Long primaryCount = new TransactionTemplate(transactionManager).execute(status ->
+                jdbcTemplate.queryForObject(COUNT_MEMBER, Long.class, "replica-only"));
+
+        assertThat(replicaCount).isEqualTo(1);
+        assertThat(primaryCount).isZero();
+    }
+
+    @Test
+    void memberServiceReadsFromReplica() {
+        primary.update(INSERT_MEMBER, 2, "primary-only", "primary");
+
+        assertThat(memberService.getMemberWithAuthorities("replica-only")).isPresent();
+        assertThat(memberService.getMemberWithAuthorities("primary-only")).isEmpty();
+    }
+
+    @Test
+    void memberServiceWritesToPrimary() {
+        memberService.signup(MemberDTO.builder()
+                .membername("routed-signup")
+                .password("password")
+                .nickname("routed")
+                .build());
+
+        assertThat(primary.queryForObject(COUNT_MEMBER, Long.class, "routed-signup")).isEqualTo(1);
+        assertThat(replica.queryForObject(COUNT_MEMBER, Long.class, "routed-signup")).isZero();
+    }
+
+    @Test
+    void loginStateIsReadFromPrimary() {
+        // 두 DB 에 같은 회원을 넣고, 잠금과 비활성화는 주 DB 에만 반영된 상태 (복제 지연)
+        for (JdbcTemplate db : List.of(primary, replica)) {
+            db.update(INSERT_MEMBER, 100, "locked-on-primary", "locked");
+            db.update(INSERT_MEMBER, 101, "deactivated-on-primary", "deactivated");
+        }
+        primary.update("update member set failed_login_count = 5, locked_until = ? where member_name = ?",
+                Timestamp.from(Instant.now().plusSeconds(600)), "locked-on-primary");
+        primary.update("update member set activated = false where member_name = ?", "deactivated-on-primary");
+
+        assertThatThrownBy(() -> loginAttemptService.checkNotLocked("locked-on-primary"))
+                .isInstanceOf(LoginRateLimitedException.class);
+        UserDetails locked = userDetailsService.loadUserByUsername("locked-on-primary");
+        assertThat(locked.isAccountNonLocked()).isFalse();
+        UserDetails deactivated = userDetailsService.loadUserByUsername("deactivated-on-primary");
+        assertThat(deactivated.isEnabled()).isFalse();
+    }
+
+    @Test
+    void importDuplicateCheckReadsFromPrimary() {
+        // 일괄 가입의 앞 청크에서 방금 가입되어 아직 복제본에 없는 이름
+        primary.update(INSERT_MEMBER, 102, "imported-on-primary", "imported");
+
+        assertThat(memberRepository.findExistingMembernames(List.of("imported-on-primary", "replica-only")))
+                .containsExactly("imported-on-primary");
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.jwttutorial.controller;
+
+import com.example.jwttutorial.dto.MemberSearchDTO;
+import com.example.jwttutorial.dto.MemberSearchPageDTO;
+import com.example.jwttutorial.dto.MemberUpdateDTO;
+import com.example.jwttutorial.entity.Role;
+import com.example.jwttutorial.service.MemberSearchService;
+import com.example.jwttutorial.support.ApiTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * GET /api/admin/members, GET /api/admin/members/export
+ * 접두사, 활성화 여부, 권한 조건을 조합해 after / nextAfter 로 끝까지 넘겨도 회원이 빠지거나 중복되지 않고,
+ * 내보내기는 권한이 여러 개인 회원도 한 줄로 묶어 쓰는지 확인
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AdminMemberSearchTest extends ApiTestSupport {
+
+    // '_' 는 LIKE 의 한 글자 와일드카드이므로, 이스케이프하지 않으면 "pageX" 회원까지 검색됨
+    private static final String PREFIX = "page_";
+    private static final int MEMBER_COUNT = 23;
+    private static final String PASSWORD = "search-password";
+
+    @Autowired
+    private MemberSearchService memberSearchService;
+
+    // 가입 순서(member_id 순서)대로 회원 이름 -> 기대하는 상태
+    private final Map<String, Expected> expected = new LinkedHashMap<>();
+
+    @BeforeAll
+    void signupMembers() {
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            String membername = String.format("%s%02d", PREFIX, i);
+            signup(membername, PASSWORD);
+            // 세 명 중 한 명은 비활성, 네 명 중 한 명은 ROLE_ADMIN 추가
+            boolean activated = i % 3 != 0;
+            boolean admin = i % 4 == 0;
+            memberService.updateMember(membername, MemberUpdateDTO.builder()
+                    .activated(activated)
+                    .authorities(admin ? Set.of(Role.ROLE_MEMBER, Role.ROLE_ADMIN) : null)
+                    .build());
+            expected.put(membername, new Expected(activated, admin));
+
+            // 접두사가 다른 회원을 사이사이에 끼워 넣어 ID 가 연속되지 않도록 함
+            if (i % 5 == 0) {
+                signup("pageX" + i, PASSWORD);
+            }
+        }
+    }
+
+    @Test
+    void keysetPagesCoverEveryMatchOnceForAllFilters() {
+        for (Boolean activated : Arrays.asList(null, true, false)) {
+            for (Role authority : Arrays.asList(null, Role.ROLE_MEMBER, Role.ROLE_ADMIN)) {
+                List<String> wanted = expected.entrySet().stream()
+                        .filter(e -> activated == null || e.getValue().activated == activated)
+                        .filter(e -> authority != Role.ROLE_ADMIN || e.getValue().admin)
+                        .map(Map.Entry::getKey)
+                        .collect(Collectors.toList());
+
+                for (int size : new int[]{1, 4, wanted.size(), MEMBER_COUNT + 1}) {
+                    List<MemberSearchDTO> found = searchAll(activated, authority, Math.max(size, 1));
+                    String description = String.format("activated=%s, authority=%s, size=%d", activated, authority, size);
+
+                    // 가입 순서와 같은 순서로 빠짐없이, 중복 없이
+                    assertThat(found).extracting(MemberSearchDTO::getMembername).as(description)
+                            .containsExactlyElementsOf(wanted);
+                    assertThat(found).extracting(MemberSearchDTO::getMemberId).as(description)
+                            .doesNotHaveDuplicates()
+                            .isSorted();
+                    found.forEach(member -> assertAuthorities(member, description));
+                }
+            }
+        }
+    }
+
+    @Test
+    void searchEndpointReturnsNextAfterUntilLastPage() throws Exception {
+        String adminToken = adminToken();
+        List<String> membernames = new ArrayList<>();
+        Long after = 0L;
+        int pages = 0;
+        while (after != null) {
+            MvcResult result = perform(withToken(get("/api/admin/members"), adminToken)
+                    .param("prefix", PREFIX)
+                    .param("activated", "true")
+                    .param("after", after.toString())
+                    .param("size", "5"));
+            assertThat(result.getResponse().getStatus()).isEqualTo(200);
+            MemberSearchPageDTO page = objectMapper.readValue(result.getResponse().getContentAsString(),
+                    MemberSearchPageDTO.class);
+            page.getMembers().forEach(member -> membernames.add(member.getMembername()));
+            after = page.getNextAfter();
+            pages++;
+        }
+
+        List<String> wanted = expected.entrySet().stream()
+                .filter(e -> e.getValue().activated)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        assertThat(membernames).containsExactlyElementsOf(wanted);
+        assertThat(pages).isEqualTo((wanted.size() + 4) / 5);
+    }
+
+    @Test
+    void exportWritesOneLinePerMemberWithAllAuthorities() throws Exception {
+        String adminToken = adminToken();
+
+        // 권한 조건은 회원을 고르는 데만 쓰이고, 줄에는 회원의 모든 권한이 들어감
+        for (Role authority : Arrays.asList(null, Role.ROLE_ADMIN)) {
+            MockHttpServletRequestBuilder builder = withToken(get("/api/admin/members/export"), adminToken)
+                    .param("prefix", PREFIX);
+            if (authority != null) {
+                builder.param("authority", authority.name());
+            }
+            MvcResult result = perform(builder);
+            assertThat(result.getResponse().getStatus()).isEqualTo(200);
+            assertThat(result.getResponse().getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+
+            String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+            List<MemberSearchDTO> exported = new ArrayList<>();
+            for (String line : lines) {
+                exported.add(objectMapper.readValue(line, MemberSearchDTO.class));
+            }
+
+            List<String> wanted = expected.entrySet().stream()
+                    .filter(e -> authority == null || e.getValue().admin)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            assertThat(exported).extracting(MemberSearchDTO::getMembername).containsExactlyElementsOf(wanted);
+            exported.forEach(member -> assertAuthorities(member, "export authority=" + authority));
+        }
+    }
+
+    private List<MemberSearchDTO> searchAll(Boolean activated, Role authority, int size) {
+        List<MemberSearchDTO> found = new ArrayList<>();
+        long after = 0;
+        while (true) {
+            MemberSearchPageDTO page = memberSearchService.search(PREFIX, activated, authority, after, size);
+            assertThat(page.getMembers()).hasSizeLessThanOrEqualTo(size);
+            found.addAll(page.getMembers());
+            if (page.getNextAfter() == null) {
+                return found;
+            }
+            assertThat(page.getMembers()).hasSize(size);
+            after = page.getNextAfter();
+        }
+    }
+
+    private void assertAuthorities(MemberSearchDTO member, String description) {
+        Expected state = expected.get(member.getMembername());
+        assertThat(member.isActivated()).as(description).isEqualTo(state.activated);
+        if (state.admin) {
+            assertThat(member.getAuthorities()).as(description)
+                    .containsExactlyInAnyOrder(Role.ROLE_MEMBER.name(), Role.ROLE_ADMIN.name());
+        } else {
+            assertThat(member.getAuthorities()).as(description).containsExactly(Role.ROLE_MEMBER.name());
+        }
+    }
+
+    private static final class Expected {
+        private final boolean activated;
+        private final boolean admin;
+
+        private Expected(boolean activated, boolean admin) {
+            this.activated = activated;
+            this.admin = admin;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.jwttutorial.controller;
+
+import com.example.jwttutorial.jwt.TokenProvider;
+import com.example.jwttutorial.jwt.TokenVerification;
+import com.example.jwttutorial.support.ApiTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * POST /api/token/introspect 가 RFC 7662 형식(active, sub, exp, jti, scope)으로 응답하고,
+ * 유효하지 않은 토큰은 사유와 관계없이 {"active":false} 만 반환하며, 관리자만 호출할 수 있는지 확인
+ */
+class TokenIntrospectionTest extends ApiTestSupport {
+
+    private static final String MEMBERNAME = "introspect-member";
+    private static final String PASSWORD = "introspect-password";
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @BeforeEach
+    void signupOnce() {
+        if (!memberService.getMemberWithAuthorities(MEMBERNAME).isPresent()) {
+            signup(MEMBERNAME, PASSWORD);
+        }
+    }
+
+    @Test
+    void activeTokenReturnsClaims() throws Exception {
+        String token = accessToken(MEMBERNAME, PASSWORD);
+        TokenVerification verification = tokenProvider.verify(token);
+
+        introspect(token, adminToken())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.active").value(true))
+                .andExpect(jsonPath("$.sub").value(MEMBERNAME))
+                .andExpect(jsonPath("$.jti").value(verification.getTokenId()))
+                .andExpect(jsonPath("$.scope").value("ROLE_MEMBER"))
+                .andExpect(jsonPath("$.exp").value(verification.getExpiresAtMillis() / 1000));
+    }
+
+    @Test
+    void invalidTokensReturnOnlyInactive() throws Exception {
+        String adminToken = adminToken();
+        String revoked = accessToken(MEMBERNAME, PASSWORD);
+        mockMvc.perform(withToken(post("/api/logout"), revoked))
+                .andExpect(status().isNoContent());
+        String valid = accessToken(MEMBERNAME, PASSWORD);
+        String badSignature = valid.substring(0, valid.lastIndexOf('.') + 1) + "AAAA";
+
+        for (String token : new String[]{"not-a-token", "a.b.c", badSignature, revoked}) {
+            introspect(token, adminToken)
+                    .andExpect(status().isOk())
+                    .andExpect(content().json("{\"active\":false}", true));
+        }
+    }
+
+    @Test
+    void memberCannotIntrospect() throws Exception {
+        String token = accessToken(MEMBERNAME, PASSWORD);
+
+        introspect(token, token)
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void anonymousCannotIntrospect() throws Exception {
+        String token = accessToken(MEMBERNAME, PASSWORD);
+
+        mockMvc.perform(introspectRequest(token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions introspect(String token, String callerToken) throws Exception {
+        return mockMvc.perform(withToken(introspectRequest(token), callerToken));
+    }
+
+    private static MockHttpServletRequestBuilder introspectRequest(String token) {
+        return post("/api/token/introspect")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .param("token", token);
+    }
+}
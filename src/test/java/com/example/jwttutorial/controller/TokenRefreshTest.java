@@ -0,0 +1,98 @@
+package com.example.jwttutorial.controller;
+
+import com.example.jwttutorial.dto.MemberUpdateDTO;
+import com.example.jwttutorial.dto.RefreshTokenDTO;
+import com.example.jwttutorial.dto.TokenDTO;
+import com.example.jwttutorial.entity.RefreshToken;
+import com.example.jwttutorial.ratelimit.LoginAttemptService;
+import com.example.jwttutorial.repository.RefreshTokenRepository;
+import com.example.jwttutorial.support.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * POST /api/token/refresh
+ * 정상 교체, 재사용된 토큰의 계열 폐기, 비활성/잠긴 회원의 재발급 거절(401, 계열 폐기) 확인
+ */
+class TokenRefreshTest extends ApiTestSupport {
+
+    private static final String PASSWORD = "refresh-password";
+
+    @Autowired
+    private LoginAttemptService loginAttemptService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Test
+    void rotatesRefreshTokenAndIssuesNewAccessToken() throws Exception {
+        TokenDTO issued = signupAndLogin("refresh-rotate");
+
+        MvcResult result = refresh(issued.getRefreshToken());
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        TokenDTO rotated = objectMapper.readValue(result.getResponse().getContentAsString(), TokenDTO.class);
+        assertThat(rotated.getToken()).isNotBlank();
+        assertThat(rotated.getRefreshToken()).isNotBlank().isNotEqualTo(issued.getRefreshToken());
+
+        // 교체된 토큰으로 다시 교체할 수 있음
+        assertThat(refresh(rotated.getRefreshToken()).getResponse().getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void reusedRefreshTokenRevokesFamily() throws Exception {
+        TokenDTO issued = signupAndLogin("refresh-reuse");
+        TokenDTO rotated = objectMapper.readValue(
+                refresh(issued.getRefreshToken()).getResponse().getContentAsString(), TokenDTO.class);
+
+        // 이미 사용된 토큰이 다시 들어오면 거절하고, 그 사이에 교체된 토큰까지 폐기
+        assertThat(refresh(issued.getRefreshToken()).getResponse().getStatus()).isEqualTo(401);
+        assertThat(refresh(rotated.getRefreshToken()).getResponse().getStatus()).isEqualTo(401);
+        assertThat(familyOf("refresh-reuse")).allMatch(RefreshToken::isRevoked);
+    }
+
+    @Test
+    void deactivatedMemberCannotRefresh() throws Exception {
+        TokenDTO issued = signupAndLogin("refresh-deactivated");
+        memberService.updateMember("refresh-deactivated", MemberUpdateDTO.builder().activated(false).build());
+
+        assertThat(refresh(issued.getRefreshToken()).getResponse().getStatus()).isEqualTo(401);
+        assertThat(familyOf("refresh-deactivated")).isNotEmpty().allMatch(RefreshToken::isRevoked);
+    }
+
+    @Test
+    void lockedMemberCannotRefresh() throws Exception {
+        TokenDTO issued = signupAndLogin("refresh-locked");
+        // 기본 설정(auth.rate-limit.lockout.threshold=5)만큼 실패하여 계정 잠금
+        for (int i = 0; i < 5; i++) {
+            loginAttemptService.recordFailure("refresh-locked");
+        }
+
+        assertThat(refresh(issued.getRefreshToken()).getResponse().getStatus()).isEqualTo(401);
+        assertThat(familyOf("refresh-locked")).isNotEmpty().allMatch(RefreshToken::isRevoked);
+    }
+
+    private TokenDTO signupAndLogin(String membername) throws Exception {
+        signup(membername, PASSWORD);
+        return login(membername, PASSWORD);
+    }
+
+    private MvcResult refresh(String refreshToken) throws Exception {
+        return perform(post("/api/token/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenDTO(refreshToken))));
+    }
+
+    private List<RefreshToken> familyOf(String membername) {
+        return refreshTokenRepository.findAll().stream()
+                .filter(token -> membername.equals(token.getMembername()))
+                .collect(Collectors.toList());
+    }
+}
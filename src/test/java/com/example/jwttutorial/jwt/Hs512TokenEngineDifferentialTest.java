@@ -0,0 +1,252 @@
+package com.example.jwttutorial.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Encoders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hs512TokenEngine 과 JJWT 의 결과 비교
+ *
+ * 무작위 클레임/헤더로 만든 토큰(일부는 다른 키로 서명하거나 한 글자를 바꿈)마다
+ * 엔진이 처리한 토큰은 JJWT 와 같은 상태와 클레임이어야 함
+ * 서명이 틀린 토큰은 엔진이 본문을 읽지 않으므로 JJWT 의 MALFORMED 를 BAD_SIGNATURE 로 반환하는 것만 허용
+ *
+ * 엔진으로 서명한 토큰은 같은 클레임으로 JJWT 가 만든 토큰과 문자열까지 같아야 함
+ */
+class Hs512TokenEngineDifferentialTest {
+
+    private static final String SECRET =
+            "c2lsdmVybmluZS10ZWNoLXNwcmluZy1ib290LWp3dC10dXRvcmlhbC1zZWNyZXQtc2lsdmVybmluZS10ZWNoLXNwcmluZy1ib290LWp3dC10dXRvcmlhbC1zZWNyZXQK";
+    private static final String[] STRING_PARTS = {
+            "member", "admin", "한글", "\"quoted\"", "back\\slash", "\u0001", "😀", " ", "/", "ROLE_MEMBER"
+    };
+    private static final int TOKENS = 3000;
+
+    private final Random random = new Random(20260417L);
+    private JwtKeyRegistry keyRegistry;
+    private JwtParser jwtParser;
+    private Hs512TokenEngine engine;
+    private SigningKey otherKey;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        byte[] secondSecret = new byte[64];
+        random.nextBytes(secondSecret);
+        JwtKeyProperties properties = new JwtKeyProperties();
+        JwtKeyProperties.KeyDefinition second = new JwtKeyProperties.KeyDefinition();
+        second.setId("second");
+        second.setAlgorithm(SignatureAlgorithm.HS512);
+        second.setSecret(Encoders.BASE64.encode(secondSecret));
+        properties.getKeys().add(second);
+
+        keyRegistry = new JwtKeyRegistry(properties, SECRET);
+        keyRegistry.afterPropertiesSet();
+        jwtParser = Jwts.parserBuilder().setSigningKeyResolver(keyRegistry).build();
+        engine = new Hs512TokenEngine(keyRegistry);
+        otherKey = keyRegistry.getKey("second");
+    }
+
+    @Test
+    void verifyMatchesJjwtOnRandomTokens() {
+        int handled = 0;
+        int handledValid = 0;
+        for (int i = 0; i < TOKENS; i++) {
+            String token = randomToken();
+            if (random.nextInt(4) == 0) {
+                token = mutate(token);
+            }
+
+            long now = System.currentTimeMillis();
+            Hs512Claims actual = engine.verify(token, now);
+            if (actual == null) {
+                continue;
+            }
+            handled++;
+
+            Object expected = parseWithJjwt(token);
+            if (actual.isValid()) {
+                handledValid++;
+                assertThat(expected).as(token).isInstanceOf(Claims.class);
+                assertSameClaims(actual, (Claims) expected, token);
+            } else if (actual.getStatus() == TokenVerification.Status.BAD_SIGNATURE) {
+                assertThat(expected).as(token).isIn(TokenVerification.Status.BAD_SIGNATURE,
+                        TokenVerification.Status.MALFORMED);
+            } else {
+                assertThat(expected).as(token).isEqualTo(actual.getStatus());
+            }
+        }
+        // 비교가 의미 있도록 상당수의 토큰이 엔진에서 처리되었는지 확인
+        assertThat(handled).isGreaterThan(TOKENS / 2);
+        assertThat(handledValid).isGreaterThan(TOKENS / 4);
+    }
+
+    @Test
+    void signedTokensAreIdenticalToJjwt() {
+        for (int i = 0; i < TOKENS; i++) {
+            SigningKey signingKey = random.nextBoolean() ? keyRegistry.getActiveKey() : otherKey;
+            String tokenId = UUID.randomUUID().toString();
+            String subject = randomString();
+            Integer roleMask = random.nextBoolean() ? random.nextInt(8) : null;
+            String authorities = roleMask == null || random.nextBoolean() ? randomString() : null;
+            Long memberId = random.nextBoolean() ? random.nextLong() : null;
+            String nickname = random.nextBoolean() ? randomString() : null;
+            int securityVersion = random.nextBoolean() ? random.nextInt(100) : 0;
+            long expirationSeconds = System.currentTimeMillis() / 1000 + random.nextInt(86400);
+
+            String expected = jjwtBuilder(signingKey.getId(), tokenId, subject, roleMask, authorities,
+                    memberId, nickname, securityVersion)
+                    .signWith(signingKey.getSigningKey(), SignatureAlgorithm.HS512)
+                    .setExpiration(new Date(expirationSeconds * 1000))
+                    .compact();
+            String actual = engine.sign(signingKey, new Hs512Claims(tokenId, subject, roleMask, authorities,
+                    memberId, nickname, securityVersion, expirationSeconds));
+
+            assertThat(actual).isEqualTo(expected);
+            assertThat(engine.verify(actual, System.currentTimeMillis()).isValid()).isTrue();
+        }
+    }
+
+    private void assertSameClaims(Hs512Claims actual, Claims expected, String token) {
+        assertThat(actual.getTokenId()).as(token).isEqualTo(expected.getId());
+        assertThat(actual.getSubject()).as(token).isEqualTo(expected.getSubject());
+        Object roleMask = expected.get(AuthorityCodec.ROLE_MASK_KEY);
+        assertThat(actual.getRoleMask()).as(token)
+                .isEqualTo(roleMask == null ? null : ((Number) roleMask).intValue());
+        assertThat(actual.getAuthorities()).as(token).isEqualTo(expected.get(AuthorityCodec.AUTHORITIES_KEY));
+        Object memberId = expected.get(TokenProvider.MEMBER_ID_KEY);
+        assertThat(actual.getMemberId()).as(token)
+                .isEqualTo(memberId == null ? null : ((Number) memberId).longValue());
+        assertThat(actual.getNickname()).as(token).isEqualTo(expected.get(TokenProvider.NICKNAME_KEY));
+        Object securityVersion = expected.get(TokenProvider.SECURITY_VERSION_KEY);
+        assertThat(actual.getSecurityVersion()).as(token)
+                .isEqualTo(securityVersion == null ? 0 : ((Number) securityVersion).intValue());
+        assertThat(actual.getExpirationSeconds() * 1000).as(token).isEqualTo(expected.getExpiration().getTime());
+    }
+
+    // TokenProvider.parseAndVerify 와 같은 분류, 성공이면 Claims
+    private Object parseWithJjwt(String token) {
+        try {
+            return jwtParser.parseClaimsJws(token).getBody();
+        } catch (ExpiredJwtException e) {
+            return TokenVerification.Status.EXPIRED;
+        } catch (UnsupportedJwtException e) {
+            return TokenVerification.Status.UNSUPPORTED;
+        } catch (io.jsonwebtoken.security.SecurityException e) {
+            return TokenVerification.Status.BAD_SIGNATURE;
+        } catch (MalformedJwtException | IllegalArgumentException e) {
+            return TokenVerification.Status.MALFORMED;
+        } catch (JwtException e) {
+            return TokenVerification.Status.MALFORMED;
+        }
+    }
+
+    // 발급 형태의 토큰에 헤더 생략/추가, 추가 클레임, 잘못된 타입, 다른 키 서명, 만료를 무작위로 섞음
+    private String randomToken() {
+        SigningKey signingKey = random.nextBoolean() ? keyRegistry.getActiveKey() : otherKey;
+        String keyId = signingKey.getId();
+        int headerVariant = random.nextInt(10);
+        if (headerVariant == 0 && JwtKeyRegistry.DEFAULT_KEY_ID.equals(keyId)) {
+            keyId = null;
+        }
+
+        Integer roleMask = random.nextBoolean() ? random.nextInt(8) : null;
+        String authorities = roleMask == null || random.nextBoolean() ? randomString() : null;
+        JwtBuilder builder = jjwtBuilder(keyId, UUID.randomUUID().toString(), randomString(), roleMask,
+                authorities, random.nextBoolean() ? (long) random.nextInt(100_000) : null,
+                random.nextBoolean() ? randomString() : null, random.nextBoolean() ? 1 + random.nextInt(100) : 0);
+        if (headerVariant == 1) {
+            builder.setHeaderParam(JwsHeader.TYPE, JwsHeader.JWT_TYPE);
+        }
+        switch (random.nextInt(12)) {
+            case 0:
+                builder.claim("iat", System.currentTimeMillis() / 1000);
+                break;
+            case 1:
+                builder.claim(TokenProvider.MEMBER_ID_KEY, "123");
+                break;
+            case 2:
+                builder.claim(AuthorityCodec.ROLE_MASK_KEY, 1L << 40);
+                break;
+            case 3:
+                builder.claim("scope", randomString());
+                break;
+            default:
+                break;
+        }
+
+        long offsetMillis = random.nextInt(5) == 0 ? -3_600_000L : 3_600_000L;
+        SigningKey key = random.nextInt(10) == 0 ? (signingKey == otherKey ? keyRegistry.getActiveKey() : otherKey)
+                : signingKey;
+        return builder
+                .signWith(key.getSigningKey(), SignatureAlgorithm.HS512)
+                .setExpiration(new Date(System.currentTimeMillis() + offsetMillis))
+                .compact();
+    }
+
+    private static JwtBuilder jjwtBuilder(String keyId, String tokenId, String subject, Integer roleMask,
+                                          String authorities, Long memberId, String nickname,
+                                          int securityVersion) {
+        JwtBuilder builder = Jwts.builder();
+        if (keyId != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, keyId);
+        }
+        builder.setId(tokenId).setSubject(subject);
+        if (roleMask != null) {
+            builder.claim(AuthorityCodec.ROLE_MASK_KEY, roleMask);
+        }
+        if (authorities != null) {
+            builder.claim(AuthorityCodec.AUTHORITIES_KEY, authorities);
+        }
+        if (memberId != null) {
+            builder.claim(TokenProvider.MEMBER_ID_KEY, memberId);
+        }
+        if (nickname != null) {
+            builder.claim(TokenProvider.NICKNAME_KEY, nickname);
+        }
+        if (securityVersion != 0) {
+            builder.claim(TokenProvider.SECURITY_VERSION_KEY, securityVersion);
+        }
+        return builder;
+    }
+
+    // 서명 마지막 글자(남는 비트가 무시될 수 있음)와 '.' 을 제외한 한 글자를 다른 Base64URL 문자로 바꿈
+    private String mutate(String token) {
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        char[] chars = token.toCharArray();
+        int position;
+        do {
+            position = random.nextInt(chars.length - 1);
+        } while (chars[position] == '.');
+        char replacement;
+        do {
+            replacement = alphabet.charAt(random.nextInt(alphabet.length()));
+        } while (replacement == chars[position]);
+        chars[position] = replacement;
+        return new String(chars);
+    }
+
+    private String randomString() {
+        StringBuilder value = new StringBuilder();
+        int parts = 1 + random.nextInt(3);
+        for (int i = 0; i < parts; i++) {
+            value.append(STRING_PARTS[random.nextInt(STRING_PARTS.length)]);
+        }
+        return value.toString();
+    }
+}
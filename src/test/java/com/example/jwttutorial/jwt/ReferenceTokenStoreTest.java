@@ -0,0 +1,166 @@
+package com.example.jwttutorial.jwt;
+
+import com.example.jwttutorial.repository.ReferenceTokenRepository;
+import com.example.jwttutorial.support.ApiTestSupport;
+import com.example.jwttutorial.util.TokenDigest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * jwt.reference-token.enabled=true 일 때 발급된 참조 토큰의 검증, 메모리에 없는 토큰의 DB 조회, 폐기와 권한 변경(STALE),
+ * 발급 기록이 없거나 만료된 토큰의 거절을 확인
+ */
+@TestPropertySource(properties = "jwt.reference-token.enabled=true")
+class ReferenceTokenStoreTest extends ApiTestSupport {
+
+    private static final String MEMBERNAME = "reference-member";
+    private static final String PASSWORD = "reference-password";
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private ReferenceTokenStore referenceTokenStore;
+
+    @Autowired
+    private ReferenceTokenRepository referenceTokenRepository;
+
+    @Autowired
+    private AuthorityCodec authorityCodec;
+
+    @Autowired
+    private ReferenceTokenProperties referenceTokenProperties;
+
+    @BeforeEach
+    void signupOnce() {
+        if (!memberService.getMemberWithAuthorities(MEMBERNAME).isPresent()) {
+            signup(MEMBERNAME, PASSWORD);
+        }
+    }
+
+    @Test
+    void issuedTokenIsVerified() throws Exception {
+        String token = accessToken(MEMBERNAME, PASSWORD);
+        assertThat(ReferenceTokenStore.isReferenceToken(token)).isTrue();
+
+        TokenVerification verification = tokenProvider.verify(token);
+        assertThat(verification.getStatus()).isEqualTo(TokenVerification.Status.VALID);
+        assertThat(verification.getAuthentication().getName()).isEqualTo(MEMBERNAME);
+        assertThat(verification.getTokenId()).isNotNull();
+        assertThat(verification.getExpiresAtMillis()).isGreaterThan(System.currentTimeMillis());
+
+        mockMvc.perform(withToken(get("/api/member"), token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.membername").value(MEMBERNAME));
+    }
+
+    // 재시작이나 크기 초과로 메모리에서 빠진 토큰, 다른 인스턴스에서 발급된 토큰은 테이블에서 다시 불러옴
+    @Test
+    void tokenMissingFromMemoryIsLoadedFromDatabase() throws Exception {
+        String token = accessToken(MEMBERNAME, PASSWORD);
+        TokenVerification issued = tokenProvider.verify(token);
+        assertThat(referenceTokenRepository.findByTokenHash(TokenDigest.sha256Base64Url(token))).isPresent();
+
+        // 메모리 맵이 비어 있는 새 인스턴스
+        ReferenceTokenStore otherInstance =
+                new ReferenceTokenStore(referenceTokenRepository, authorityCodec, referenceTokenProperties);
+        TokenVerification loaded = otherInstance.verify(token);
+
+        assertThat(loaded.getStatus()).isEqualTo(TokenVerification.Status.VALID);
+        assertThat(loaded.getAuthentication().getName()).isEqualTo(MEMBERNAME);
+        assertThat(loaded.getAuthentication().getAuthorities())
+                .extracting("authority")
+                .containsExactly("ROLE_MEMBER");
+        assertThat(loaded.getTokenId()).isEqualTo(issued.getTokenId());
+        assertThat(loaded.getExpiresAtMillis()).isEqualTo(issued.getExpiresAtMillis());
+    }
+
+    @Test
+    void revokedTokenIsInactive() throws Exception {
+        String token = accessToken(MEMBERNAME, PASSWORD);
+        introspect(token)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.active").value(true))
+                .andExpect(jsonPath("$.sub").value(MEMBERNAME));
+
+        mockMvc.perform(withToken(post("/api/logout"), token))
+                .andExpect(status().isNoContent());
+
+        assertThat(tokenProvider.verify(token).getStatus()).isEqualTo(TokenVerification.Status.REVOKED);
+        mockMvc.perform(withToken(get("/api/member"), token))
+                .andExpect(status().isUnauthorized());
+        introspect(token)
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"active\":false}", true));
+
+        // 폐기는 토큰 ID 기준이므로 새로 로그인하여 받은 토큰은 영향을 받지 않음
+        String fresh = accessToken(MEMBERNAME, PASSWORD);
+        assertThat(tokenProvider.verify(fresh).getStatus()).isEqualTo(TokenVerification.Status.VALID);
+    }
+
+    @Test
+    void tokenIssuedBeforeRoleChangeIsStale() throws Exception {
+        String membername = "reference-sv-member";
+        signup(membername, PASSWORD);
+        String before = accessToken(membername, PASSWORD);
+        assertThat(tokenProvider.verify(before).getStatus()).isEqualTo(TokenVerification.Status.VALID);
+
+        MvcResult updated = perform(withToken(patch("/api/admin/members/" + membername), adminToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"authorities\":[\"ROLE_MEMBER\",\"ROLE_ADMIN\"]}"));
+        assertThat(updated.getResponse().getStatus()).isEqualTo(200);
+
+        assertThat(tokenProvider.verify(before).getStatus()).isEqualTo(TokenVerification.Status.STALE);
+        String after = accessToken(membername, PASSWORD);
+        assertThat(tokenProvider.verify(after).getStatus()).isEqualTo(TokenVerification.Status.VALID);
+    }
+
+    // 발급된 적 없는 토큰은 서명이 틀린 JWT 와 같이 거절되고, 반복해서 들어와도 같은 결과
+    @Test
+    void unknownTokenIsRejected() {
+        String unknown = ReferenceTokenStore.PREFIX + "A".repeat(43);
+        assertThat(ReferenceTokenStore.isReferenceToken(unknown)).isTrue();
+
+        assertThat(referenceTokenStore.verify(unknown).getStatus())
+                .isEqualTo(TokenVerification.Status.BAD_SIGNATURE);
+        assertThat(referenceTokenStore.verify(unknown).getStatus())
+                .isEqualTo(TokenVerification.Status.BAD_SIGNATURE);
+        assertThat(referenceTokenStore.verify(ReferenceTokenStore.PREFIX + "short").getStatus())
+                .isEqualTo(TokenVerification.Status.MALFORMED);
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        Authentication authentication = new UsernamePasswordAuthenticationToken("reference-expired", null,
+                AuthorityUtils.createAuthorityList("ROLE_MEMBER"));
+        String token = referenceTokenStore.issue(authentication, -1_000L);
+
+        assertThat(referenceTokenStore.verify(token).getStatus()).isEqualTo(TokenVerification.Status.EXPIRED);
+
+        ReferenceTokenStore otherInstance =
+                new ReferenceTokenStore(referenceTokenRepository, authorityCodec, referenceTokenProperties);
+        assertThat(otherInstance.verify(token).getStatus()).isEqualTo(TokenVerification.Status.EXPIRED);
+    }
+
+    private ResultActions introspect(String token) throws Exception {
+        return mockMvc.perform(withToken(post("/api/token/introspect"), adminToken())
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .param("token", token));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.jwttutorial.jwt;
+
+import com.example.jwttutorial.support.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * PATCH /api/admin/members/{membername} 로 권한을 바꾸면 그 이전에 발급된 토큰은 검증 캐시에 있어도 STALE 로 거절되고,
+ * 이후에 발급된 토큰(올라간 sv 클레임)은 통과하는지 확인
+ */
+class SecurityVersionTest extends ApiTestSupport {
+
+    private static final String MEMBERNAME = "sv-member";
+    private static final String PASSWORD = "sv-password";
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Test
+    void tokensIssuedBeforeRoleChangeAreRejectedAsStale() throws Exception {
+        signup(MEMBERNAME, PASSWORD);
+        String before = accessToken(MEMBERNAME, PASSWORD);
+
+        // 검증 결과가 캐시에 올라간 상태를 만듦
+        assertThat(tokenProvider.verify(before).getStatus()).isEqualTo(TokenVerification.Status.VALID);
+        long hits = verifiedTokenCache.getHitCount();
+        assertThat(tokenProvider.verify(before).getStatus()).isEqualTo(TokenVerification.Status.VALID);
+        assertThat(verifiedTokenCache.getHitCount()).isGreaterThan(hits);
+        mockMvc.perform(withToken(get("/api/member"), before))
+                .andExpect(status().isOk());
+
+        MvcResult updated = perform(withToken(patch("/api/admin/members/" + MEMBERNAME), adminToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"authorities\":[\"ROLE_MEMBER\",\"ROLE_ADMIN\"]}"));
+        assertThat(updated.getResponse().getStatus()).isEqualTo(200);
+
+        assertThat(tokenProvider.verify(before).getStatus()).isEqualTo(TokenVerification.Status.STALE);
+        mockMvc.perform(withToken(get("/api/member"), before))
+                .andExpect(status().isUnauthorized());
+
+        String after = accessToken(MEMBERNAME, PASSWORD);
+        assertThat(tokenProvider.verify(after).getStatus()).isEqualTo(TokenVerification.Status.VALID);
+        mockMvc.perform(withToken(get("/api/member"), after))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.jwttutorial.jwt;
+
+import com.example.jwttutorial.sharedstate.InMemorySharedStateStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 만료된 항목을 제거하면서 블룸 필터를 다시 만들어도 아직 만료되지 않은 폐기 토큰은 계속 거절되는지 확인
+ */
+class TokenDenylistTest {
+
+    @Test
+    void rebuildAfterCleanupKeepsLiveRevocations() throws Exception {
+        // 예상 항목 수를 작게 잡아 다시 만들 때 필터 크기가 남은 항목 수에 맞춰 커지는 경우까지 확인
+        TokenDenylist denylist = new TokenDenylist(new InMemorySharedStateStore(), 4, 0.01);
+        denylist.afterPropertiesSet();
+
+        long now = System.currentTimeMillis();
+        List<String> expiring = revoke(denylist, 20, now + 50);
+        List<String> live = revoke(denylist, 50, now + 3_600_000);
+        assertThat(expiring).allMatch(denylist::isRevoked);
+        assertThat(live).allMatch(denylist::isRevoked);
+
+        Thread.sleep(100);
+        denylist.removeExpired();
+
+        assertThat(denylist.size()).isEqualTo(live.size());
+        assertThat(live).allMatch(denylist::isRevoked);
+        assertThat(expiring).noneMatch(denylist::isRevoked);
+
+        // 다시 만든 필터에도 새로 폐기한 토큰이 추가됨
+        String revokedAfterRebuild = UUID.randomUUID().toString();
+        denylist.revoke(revokedAfterRebuild, now + 3_600_000);
+        assertThat(denylist.isRevoked(revokedAfterRebuild)).isTrue();
+        assertThat(denylist.isRevoked(UUID.randomUUID().toString())).isFalse();
+    }
+
+    @Test
+    void restoresLiveRevocationsFromSharedState() {
+        // 다른 인스턴스가 먼저 기록한 폐기 목록으로 시작
+        InMemorySharedStateStore sharedStateStore = new InMemorySharedStateStore();
+        TokenDenylist other = new TokenDenylist(sharedStateStore, 4, 0.01);
+        other.afterPropertiesSet();
+        List<String> live = revoke(other, 10, System.currentTimeMillis() + 3_600_000);
+
+        TokenDenylist denylist = new TokenDenylist(sharedStateStore, 4, 0.01);
+        denylist.afterPropertiesSet();
+        assertThat(live).allMatch(denylist::isRevoked);
+
+        // 시작 후 다른 인스턴스에서 폐기된 토큰은 변경 알림으로 받음
+        String revokedElsewhere = UUID.randomUUID().toString();
+        other.revoke(revokedElsewhere, System.currentTimeMillis() + 3_600_000);
+        assertThat(denylist.isRevoked(revokedElsewhere)).isTrue();
+        denylist.removeExpired();
+        assertThat(denylist.isRevoked(revokedElsewhere)).isTrue();
+    }
+
+    private static List<String> revoke(TokenDenylist denylist, int count, long expiresAtMillis) {
+        List<String> tokenIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String tokenId = UUID.randomUUID().toString();
+            denylist.revoke(tokenId, expiresAtMillis);
+            tokenIds.add(tokenId);
+        }
+        return tokenIds;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.jwttutorial.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TokenPrecheck 의 거절 사유와 헤더 캐시
+ * 길이 제한, 부분 개수, 알 수 없는 kid, alg 불일치, alg: none 은 JJWT 가 돌려주던 상태로 거절하고
+ * 거절한 헤더는 캐시하지 않으므로 임의의 헤더를 많이 보낸 뒤에도 발급한 헤더는 디코딩 없이 통과해야 함
+ */
+class TokenPrecheckTest {
+
+    private static final String SECRET =
+            "c2lsdmVybmluZS10ZWNoLXNwcmluZy1ib290LWp3dC10dXRvcmlhbC1zZWNyZXQtc2lsdmVybmluZS10ZWNoLXNwcmluZy1ib290LWp3dC10dXRvcmlhbC1zZWNyZXQK";
+    private static final String PAYLOAD = encode("{\"sub\":\"member\"}");
+    private static final String SIGNATURE = "c2lnbmF0dXJl";
+    private static final int MAX_LENGTH = 1024;
+
+    private JwtKeyRegistry keyRegistry;
+    private TokenPrecheck tokenPrecheck;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        keyRegistry = new JwtKeyRegistry(new JwtKeyProperties(), SECRET);
+        keyRegistry.afterPropertiesSet();
+        tokenPrecheck = new TokenPrecheck(keyRegistry, MAX_LENGTH);
+    }
+
+    @Test
+    void issuedTokensPass() {
+        SigningKey signingKey = keyRegistry.getActiveKey();
+        String withKeyId = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getId())
+                .setSubject("member")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(signingKey.getSigningKey(), SignatureAlgorithm.HS512)
+                .compact();
+        String withoutKeyId = Jwts.builder()
+                .setSubject("member")
+                .signWith(signingKey.getSigningKey(), SignatureAlgorithm.HS512)
+                .compact();
+
+        assertThat(tokenPrecheck.check(withKeyId)).isNull();
+        assertThat(tokenPrecheck.check(withoutKeyId)).isNull();
+    }
+
+    @Test
+    void rejectsTokensLongerThanMaxLength() {
+        StringBuilder payload = new StringBuilder();
+        while (payload.length() <= MAX_LENGTH) {
+            payload.append(PAYLOAD);
+        }
+        assertThat(tokenPrecheck.check(header("{\"alg\":\"HS512\"}") + "." + payload + "." + SIGNATURE))
+                .isEqualTo(TokenVerification.Status.MALFORMED);
+    }
+
+    @Test
+    void rejectsWrongSegmentCountAndCharacters() {
+        String header = header("{\"alg\":\"HS512\"}");
+        assertThat(tokenPrecheck.check(header + "." + PAYLOAD)).isEqualTo(TokenVerification.Status.MALFORMED);
+        assertThat(tokenPrecheck.check(header + "." + PAYLOAD + "." + SIGNATURE + "." + SIGNATURE))
+                .isEqualTo(TokenVerification.Status.MALFORMED);
+        assertThat(tokenPrecheck.check("." + PAYLOAD + "." + SIGNATURE)).isEqualTo(TokenVerification.Status.MALFORMED);
+        assertThat(tokenPrecheck.check(header + ".." + SIGNATURE)).isEqualTo(TokenVerification.Status.MALFORMED);
+        assertThat(tokenPrecheck.check(header + "." + PAYLOAD + "+/." + SIGNATURE))
+                .isEqualTo(TokenVerification.Status.MALFORMED);
+        assertThat(tokenPrecheck.check("bm90LWpzb24." + PAYLOAD + "." + SIGNATURE))
+                .isEqualTo(TokenVerification.Status.MALFORMED);
+    }
+
+    @Test
+    void rejectsUnknownKeyIdAndAlgorithmMismatch() {
+        assertThat(tokenPrecheck.check(header("{\"kid\":\"unknown\",\"alg\":\"HS512\"}") + "." + PAYLOAD + "." + SIGNATURE))
+                .isEqualTo(TokenVerification.Status.BAD_SIGNATURE);
+        assertThat(tokenPrecheck.check(header("{\"kid\":\"default\",\"alg\":\"HS256\"}") + "." + PAYLOAD + "." + SIGNATURE))
+                .isEqualTo(TokenVerification.Status.BAD_SIGNATURE);
+        assertThat(tokenPrecheck.check(header("{\"kid\":1,\"alg\":\"HS512\"}") + "." + PAYLOAD + "." + SIGNATURE))
+                .isEqualTo(TokenVerification.Status.MALFORMED);
+    }
+
+    @Test
+    void rejectsUnsignedTokens() {
+        assertThat(tokenPrecheck.check(header("{\"alg\":\"none\"}") + "." + PAYLOAD + "."))
+                .isEqualTo(TokenVerification.Status.UNSUPPORTED);
+    }
+
+    @Test
+    void rejectedHeadersAreNotCached() {
+        int issuedHeaders = tokenPrecheck.cachedHeaderCount();
+        assertThat(issuedHeaders).isEqualTo(2);
+
+        for (int i = 0; i < 1000; i++) {
+            String junk = header("{\"kid\":\"junk-" + i + "\",\"alg\":\"HS512\"}");
+            assertThat(tokenPrecheck.check(junk + "." + PAYLOAD + "." + SIGNATURE))
+                    .isEqualTo(TokenVerification.Status.BAD_SIGNATURE);
+        }
+        assertThat(tokenPrecheck.cachedHeaderCount()).isEqualTo(issuedHeaders);
+
+        // 통과한 헤더(다른 필드가 있는 헤더)는 제한된 수만큼만 추가로 캐시
+        for (int i = 0; i < 1000; i++) {
+            String extra = header("{\"alg\":\"HS512\",\"n\":" + i + "}");
+            assertThat(tokenPrecheck.check(extra + "." + PAYLOAD + "." + SIGNATURE)).isNull();
+        }
+        assertThat(tokenPrecheck.cachedHeaderCount()).isLessThan(issuedHeaders + 1000);
+    }
+
+    private static String header(String json) {
+        return encode(json);
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.jwttutorial.jwt;
+
+import com.example.jwttutorial.dto.RevokeTokenDTO;
+import com.example.jwttutorial.support.ApiTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 검증 결과가 VerifiedTokenCache 에 올라간 토큰도 로그아웃, 관리자 폐기(토큰 원문, jti) 이후에는 REVOKED 로 거절되는지 확인
+ */
+class TokenRevocationTest extends ApiTestSupport {
+
+    private static final String MEMBERNAME = "revoke-member";
+    private static final String PASSWORD = "revoke-password";
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void signupOnce() {
+        if (!memberService.getMemberWithAuthorities(MEMBERNAME).isPresent()) {
+            signup(MEMBERNAME, PASSWORD);
+        }
+    }
+
+    @Test
+    void cachedTokenIsRejectedAfterLogout() throws Exception {
+        String token = cachedToken();
+
+        mockMvc.perform(withToken(post("/api/logout"), token))
+                .andExpect(status().isNoContent());
+
+        assertRevoked(token);
+    }
+
+    @Test
+    void cachedTokenIsRejectedAfterAdminRevoke() throws Exception {
+        String token = cachedToken();
+
+        adminRevoke(RevokeTokenDTO.builder().token(token).build());
+
+        assertRevoked(token);
+    }
+
+    @Test
+    void cachedTokenIsRejectedAfterAdminRevokeByTokenId() throws Exception {
+        String token = cachedToken();
+        String tokenId = tokenProvider.verify(token).getTokenId();
+
+        adminRevoke(RevokeTokenDTO.builder().tokenId(tokenId).build());
+
+        assertRevoked(token);
+    }
+
+    // 로그인하여 받은 토큰을 두 번 검증해 캐시 적중을 확인하고, 보호된 API 가 통과하는지 확인
+    private String cachedToken() throws Exception {
+        String token = accessToken(MEMBERNAME, PASSWORD);
+        assertThat(tokenProvider.verify(token).getStatus()).isEqualTo(TokenVerification.Status.VALID);
+        long hits = verifiedTokenCache.getHitCount();
+        assertThat(tokenProvider.verify(token).getStatus()).isEqualTo(TokenVerification.Status.VALID);
+        assertThat(verifiedTokenCache.getHitCount()).isGreaterThan(hits);
+        mockMvc.perform(withToken(get("/api/member"), token))
+                .andExpect(status().isOk());
+        return token;
+    }
+
+    private void assertRevoked(String token) throws Exception {
+        assertThat(tokenProvider.verify(token).getStatus()).isEqualTo(TokenVerification.Status.REVOKED);
+        mockMvc.perform(withToken(get("/api/member"), token))
+                .andExpect(status().isUnauthorized());
+
+        // 같은 회원이 새로 로그인하여 받은 토큰은 영향을 받지 않음
+        String fresh = accessToken(MEMBERNAME, PASSWORD);
+        assertThat(tokenProvider.verify(fresh).getStatus()).isEqualTo(TokenVerification.Status.VALID);
+    }
+
+    private void adminRevoke(RevokeTokenDTO revokeTokenDTO) throws Exception {
+        mockMvc.perform(withToken(post("/api/admin/tokens/revoke"), adminToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(revokeTokenDTO)))
+                .andExpect(status().isNoContent());
+    }
+}
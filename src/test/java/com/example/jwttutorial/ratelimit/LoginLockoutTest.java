@@ -0,0 +1,115 @@
+package com.example.jwttutorial.ratelimit;
+
+import com.example.jwttutorial.entity.Member;
+import com.example.jwttutorial.repository.MemberRepository;
+import com.example.jwttutorial.support.ApiTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * POST /api/authenticate
+ * 연속 실패로 잠긴 계정은 비밀번호를 비교하지 않고 429 + Retry-After 로 거절하고,
+ * 잠금이 풀린 뒤 로그인에 성공하면 실패 기록과 잠금을 초기화, 동시에 들어온 실패도 빠짐없이 셈
+ *
+ * 시도 횟수 제한(토큰 버킷)이 먼저 걸리지 않도록 버킷을 넉넉히 잡고, 잠금 시간은 1초로 줄임
+ */
+@TestPropertySource(properties = {
+        "auth.rate-limit.membername.capacity=100",
+        "auth.rate-limit.membername.refill-per-minute=100",
+        "auth.rate-limit.lockout.base-seconds=1"
+})
+class LoginLockoutTest extends ApiTestSupport {
+
+    private static final String MEMBERNAME = "lockout-member";
+    private static final String PASSWORD = "lockout-password";
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private LoginAttemptService loginAttemptService;
+
+    @Test
+    void lockedAccountIsRejectedWithoutPasswordCheckAndUnlockedOnSuccess() throws Exception {
+        signup(MEMBERNAME, PASSWORD);
+
+        // 기본 설정(auth.rate-limit.lockout.threshold=5)만큼 틀리면 계정 잠금
+        for (int i = 0; i < 5; i++) {
+            assertThat(authenticate(MEMBERNAME, "wrong-password").getResponse().getStatus()).isEqualTo(401);
+        }
+        assertThat(memberRepository.findByMembername(MEMBERNAME))
+                .get()
+                .satisfies(member -> assertThat(member.getLockedUntil()).isNotNull());
+
+        // 잠긴 동안에는 올바른 비밀번호라도 429, 비밀번호 비교는 일어나지 않음
+        long matchCount = passwordMatchCount();
+        MvcResult rejected = authenticate(MEMBERNAME, PASSWORD);
+        assertThat(rejected.getResponse().getStatus()).isEqualTo(429);
+        assertThat(rejected.getResponse().getHeader(HttpHeaders.RETRY_AFTER)).isNotBlank();
+        assertThat(passwordMatchCount()).isEqualTo(matchCount);
+
+        // 잠금이 풀린 뒤 로그인에 성공하면 실패 횟수와 잠금 시각을 초기화
+        Thread.sleep(1500);
+        assertThat(authenticate(MEMBERNAME, PASSWORD).getResponse().getStatus()).isEqualTo(200);
+        assertThat(passwordMatchCount()).isEqualTo(matchCount + 1);
+
+        Member member = memberRepository.findByMembername(MEMBERNAME).orElseThrow();
+        assertThat(member.getFailedLoginCount()).isZero();
+        assertThat(member.getLockedUntil()).isNull();
+    }
+
+    @Test
+    void concurrentFailuresAreAllCounted() throws Exception {
+        String membername = "lockout-concurrent";
+        signup(membername, PASSWORD);
+
+        // 틀린 비밀번호가 동시에 들어와도 실패 횟수가 빠지지 않아야 잠금 기준과 잠금 시간이 맞음
+        int attempts = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    loginAttemptService.recordFailure(membername);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Member member = memberRepository.findByMembername(membername).orElseThrow();
+        assertThat(member.getFailedLoginCount()).isEqualTo(attempts);
+        // threshold(5)를 3번 넘었으므로 base-seconds(1) * 2^3 = 8초 잠금
+        assertThat(member.getLockedUntil()).isAfter(Instant.now().plusSeconds(5));
+        assertThat(authenticate(membername, PASSWORD).getResponse().getStatus()).isEqualTo(429);
+    }
+
+    private long passwordMatchCount() {
+        return meterRegistry.get("password.match").timer().count();
+    }
+}
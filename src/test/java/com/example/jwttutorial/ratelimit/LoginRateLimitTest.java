@@ -0,0 +1,119 @@
+package com.example.jwttutorial.ratelimit;
+
+import com.example.jwttutorial.sharedstate.InMemorySharedStateStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 토큰 버킷 충전과 Retry-After, 스트라이프별 LRU 제거, 연속 실패에 따른 잠금 시간 증가
+ */
+class LoginRateLimitTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void bucketRefillsAtConfiguredRate() {
+        // 용량 3, 분당 60개(초당 1개) 충전
+        double tokensPerNano = 60 / 60_000_000_000.0;
+        TokenBucket bucket = new TokenBucket(3, 0);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryConsume(0, 3, tokensPerNano)).isZero();
+        }
+        // 비어 있으면 다음 토큰이 생길 때까지 남은 시간
+        assertThat(bucket.tryConsume(0, 3, tokensPerNano)).isEqualTo(SECOND);
+        assertThat(bucket.tryConsume(SECOND / 2, 3, tokensPerNano)).isEqualTo(SECOND / 2);
+        assertThat(bucket.tryConsume(SECOND, 3, tokensPerNano)).isZero();
+
+        // 오래 기다려도 용량보다 많이 쌓이지 않음
+        long later = SECOND + 100 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryConsume(later, 3, tokensPerNano)).isZero();
+        }
+        assertThat(bucket.tryConsume(later, 3, tokensPerNano)).isPositive();
+    }
+
+    @Test
+    void rateLimiterRejectsWithRetryAfter() {
+        LoginRateLimitProperties properties = new LoginRateLimitProperties();
+        // 회원 이름별 용량 2, 분당 5개(12초에 하나) 충전
+        properties.setMembername(new LoginRateLimitProperties.Bucket(2, 5));
+        LoginRateLimiter limiter = new LoginRateLimiter(properties, new InMemorySharedStateStore());
+
+        limiter.acquire("member", "10.0.0.1");
+        limiter.acquire("member", "10.0.0.1");
+        assertThatThrownBy(() -> limiter.acquire("member", "10.0.0.1"))
+                .isInstanceOfSatisfying(LoginRateLimitedException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(12));
+
+        // 다른 회원 이름은 따로 셈, 로그인에 성공하면 회원 이름 버킷을 초기화
+        limiter.acquire("other", "10.0.0.1");
+        limiter.onSuccess("member");
+        limiter.acquire("member", "10.0.0.1");
+    }
+
+    @Test
+    void rateLimiterRejectsIpAfterTooManyFailures() {
+        LoginRateLimitProperties properties = new LoginRateLimitProperties();
+        properties.getIpFailure().setLimit(3);
+        properties.getIpFailure().setWindowSeconds(600);
+        LoginRateLimiter limiter = new LoginRateLimiter(properties, new InMemorySharedStateStore());
+
+        for (int i = 0; i < 3; i++) {
+            limiter.onFailure("10.0.0.2");
+        }
+        assertThatThrownBy(() -> limiter.acquire("member", "10.0.0.2"))
+                .isInstanceOfSatisfying(LoginRateLimitedException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(600));
+        limiter.acquire("member", "10.0.0.3");
+    }
+
+    @Test
+    void stripeEvictsLeastRecentlyUsedBucket() {
+        // 스트라이프 하나에 버킷 3개, 용량 1 이므로 제거되지 않은 버킷은 두 번째 시도부터 거절
+        StripedBucketMap buckets = new StripedBucketMap(1, 3, new LoginRateLimitProperties.Bucket(1, 1));
+
+        assertThat(buckets.tryConsume("a", 0)).isZero();
+        assertThat(buckets.tryConsume("b", 0)).isZero();
+        assertThat(buckets.tryConsume("c", 0)).isZero();
+        // a 를 다시 사용하여 가장 오래 사용하지 않은 버킷은 b
+        assertThat(buckets.tryConsume("a", 0)).isPositive();
+        assertThat(buckets.tryConsume("d", 0)).isZero();
+
+        assertThat(buckets.size()).isEqualTo(3);
+        assertThat(buckets.tryConsume("b", 0)).as("제거된 버킷은 가득 찬 상태로 다시 만들어짐").isZero();
+        assertThat(buckets.tryConsume("d", 0)).isPositive();
+    }
+
+    @Test
+    void idleBucketsAreEvicted() {
+        StripedBucketMap buckets = new StripedBucketMap(4, 100, new LoginRateLimitProperties.Bucket(1, 1));
+        buckets.tryConsume("old", 0);
+        buckets.tryConsume("recent", 10 * SECOND);
+
+        assertThat(buckets.evictIdle(5 * SECOND)).isEqualTo(1);
+        assertThat(buckets.size()).isEqualTo(1);
+        assertThat(buckets.tryConsume("old", 10 * SECOND)).isZero();
+        assertThat(buckets.tryConsume("recent", 10 * SECOND)).isPositive();
+    }
+
+    @Test
+    void lockDurationDoublesUpToMaxSeconds() {
+        LoginRateLimitProperties properties = new LoginRateLimitProperties();
+        properties.getLockout().setBaseSeconds(60);
+        properties.getLockout().setMaxSeconds(3600);
+        LoginAttemptService loginAttemptService = new LoginAttemptService(null, null, properties);
+
+        assertThat(loginAttemptService.lockDuration(0)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(loginAttemptService.lockDuration(1)).isEqualTo(Duration.ofSeconds(120));
+        assertThat(loginAttemptService.lockDuration(2)).isEqualTo(Duration.ofSeconds(240));
+        assertThat(loginAttemptService.lockDuration(5)).isEqualTo(Duration.ofSeconds(1920));
+        assertThat(loginAttemptService.lockDuration(6)).isEqualTo(Duration.ofSeconds(3600));
+        assertThat(loginAttemptService.lockDuration(100)).isEqualTo(Duration.ofSeconds(3600));
+    }
+}
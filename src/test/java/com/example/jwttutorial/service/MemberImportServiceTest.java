@@ -0,0 +1,155 @@
+package com.example.jwttutorial.service;
+
+import com.example.jwttutorial.dto.MemberImportEventDTO;
+import com.example.jwttutorial.support.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 회원 일괄 가입의 청크 처리(chunk-size=3), 청크 안/DB 와의 중복, 행별 오류 이벤트, CSV 헤더와 큰따옴표 처리를 확인
+ */
+@TestPropertySource(properties = "member.import.chunk-size=3")
+class MemberImportServiceTest extends ApiTestSupport {
+
+    @Autowired
+    private MemberImportService memberImportService;
+
+    @Test
+    void importsInChunksAndReportsProgress() throws Exception {
+        List<MemberImportEventDTO> events = importCsv(
+                "membername,password,nickname\n"
+                        + "chunk-1,password,nick-1\n"
+                        + "chunk-2,password,nick-2\n"
+                        + "chunk-3,password,nick-3\n"
+                        + "\n"
+                        + "chunk-4,password,nick-4\n"
+                        + "chunk-5,password,nick-5\n"
+                        + "chunk-6,password,nick-6\n"
+                        + "chunk-7,password,nick-7\n");
+
+        assertThat(errors(events)).isEmpty();
+        assertThat(events.stream().filter(event -> MemberImportEventDTO.PROGRESS.equals(event.getType()))
+                .map(MemberImportEventDTO::getProcessed)
+                .collect(Collectors.toList()))
+                .containsExactly(3L, 6L, 7L);
+        assertSummary(events, 7, 7, 0);
+        for (int i = 1; i <= 7; i++) {
+            assertThat(memberService.getMemberWithAuthorities("chunk-" + i)).isPresent();
+        }
+        login("chunk-7", "password");
+    }
+
+    @Test
+    void reportsDuplicatesWithinChunkAndAgainstDatabase() throws Exception {
+        List<MemberImportEventDTO> events = importCsv(
+                "dup-1,password,nick\n"       // 1
+                        + "dup-1,password,nick\n"     // 2: 같은 청크 안에서 중복
+                        + "admin,password,nick\n"     // 3: 이미 가입된 회원
+                        + "dup-2,password,nick\n"     // 4
+                        + "dup-1,password,nick\n");   // 5: 이전 청크에서 가입된 회원
+
+        assertThat(errors(events)).extracting(MemberImportEventDTO::getLine, MemberImportEventDTO::getMembername)
+                .containsExactlyInAnyOrder(
+                        tuple(2L, "dup-1"),
+                        tuple(3L, "admin"),
+                        tuple(5L, "dup-1"));
+        assertThat(errors(events)).filteredOn(event -> event.getLine() == 2L)
+                .extracting(MemberImportEventDTO::getMessage)
+                .containsExactly("파일 안에서 중복된 회원 이름입니다.");
+        assertThat(errors(events)).filteredOn(event -> event.getLine() != 2L)
+                .extracting(MemberImportEventDTO::getMessage)
+                .containsOnly("이미 가입되어 있는 유저입니다.");
+        assertSummary(events, 5, 2, 3);
+    }
+
+    @Test
+    void reportsInvalidRowsAndContinues() throws Exception {
+        List<MemberImportEventDTO> events = importCsv(
+                "row-ok-1,password,nick\n"          // 1
+                        + "row-two-columns,password\n"      // 2: 열 개수
+                        + "x,password,nick\n"               // 3: 이름이 너무 짧음
+                        + "row-quote,\"password,nick\n"     // 4: 닫히지 않은 큰따옴표
+                        + "row-ok-2,password,nick\n");      // 5
+
+        List<MemberImportEventDTO> errors = errors(events);
+        assertThat(errors).extracting(MemberImportEventDTO::getLine).containsExactly(2L, 3L, 4L);
+        assertThat(errors.get(0).getMessage()).startsWith("행을 읽을 수 없습니다");
+        assertThat(errors.get(1).getMembername()).isEqualTo("x");
+        assertThat(errors.get(1).getMessage()).contains("membername");
+        assertThat(errors.get(2).getMessage()).contains("큰따옴표");
+        assertSummary(events, 5, 2, 3);
+        assertThat(memberService.getMemberWithAuthorities("row-ok-2")).isPresent();
+    }
+
+    // 헤더는 첫 줄 전체가 같을 때만 건너뛰므로, 이름이 membername 으로 시작하는 첫 행도 가입됨
+    @Test
+    void skipsOnlyExactHeader() throws Exception {
+        List<MemberImportEventDTO> events = importCsv("membername-first,password,nick\n");
+
+        assertThat(errors(events)).isEmpty();
+        assertSummary(events, 1, 1, 0);
+        assertThat(memberService.getMemberWithAuthorities("membername-first")).isPresent();
+    }
+
+    @Test
+    void quotedPasswordMayContainCommasAndQuotes() throws Exception {
+        List<MemberImportEventDTO> events = importCsv("quoted-member,\"pa,ss\"\"word\",\"nick, name\"\n");
+
+        assertThat(errors(events)).isEmpty();
+        assertSummary(events, 1, 1, 0);
+        login("quoted-member", "pa,ss\"word");
+        assertThat(memberService.getMemberWithAuthorities("quoted-member"))
+                .hasValueSatisfying(member -> assertThat(member.getNickname()).isEqualTo("nick, name"));
+    }
+
+    @Test
+    void importEndpointStreamsNdjsonEvents() throws Exception {
+        String body = mockMvc.perform(withToken(post("/api/admin/members/import"), adminToken())
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"membername\":\"ndjson-1\",\"password\":\"password\",\"nickname\":\"nick\"}\n"
+                                + "{\"membername\":\"ndjson-1\",\"password\":\"password\",\"nickname\":\"nick\"}\n"
+                                + "not-json\n"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<MemberImportEventDTO> events = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            events.add(objectMapper.readValue(line, MemberImportEventDTO.class));
+        }
+        assertThat(errors(events)).extracting(MemberImportEventDTO::getLine).containsExactlyInAnyOrder(2L, 3L);
+        assertSummary(events, 3, 1, 2);
+    }
+
+    private List<MemberImportEventDTO> importCsv(String csv) throws IOException {
+        List<MemberImportEventDTO> events = new ArrayList<>();
+        memberImportService.importMembers(new StringReader(csv), MemberImportService.Format.CSV, events::add);
+        return events;
+    }
+
+    private static List<MemberImportEventDTO> errors(List<MemberImportEventDTO> events) {
+        return events.stream()
+                .filter(event -> MemberImportEventDTO.ERROR.equals(event.getType()))
+                .collect(Collectors.toList());
+    }
+
+    private static void assertSummary(List<MemberImportEventDTO> events, long processed, long imported, long failed) {
+        MemberImportEventDTO summary = events.get(events.size() - 1);
+        assertThat(summary.getType()).isEqualTo(MemberImportEventDTO.SUMMARY);
+        assertThat(summary.getProcessed()).isEqualTo(processed);
+        assertThat(summary.getImported()).isEqualTo(imported);
+        assertThat(summary.getFailed()).isEqualTo(failed);
+    }
+}
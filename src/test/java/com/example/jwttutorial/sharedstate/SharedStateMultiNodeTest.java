@@ -0,0 +1,162 @@
+package com.example.jwttutorial.sharedstate;
+
+import com.example.jwttutorial.JwtTutorialApplication;
+import com.example.jwttutorial.dto.MemberDTO;
+import com.example.jwttutorial.dto.MemberUpdateDTO;
+import com.example.jwttutorial.entity.Role;
+import com.example.jwttutorial.jwt.TokenProvider;
+import com.example.jwttutorial.jwt.TokenVerification;
+import com.example.jwttutorial.service.MemberService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 DB 를 사용하는 애플리케이션 두 개(node A, node B)를 한 JVM 에서 띄워
+ * 한 노드의 변경이 shared-state.sync-interval-ms 안에 다른 노드의 메모리에 반영되는지 확인
+ */
+class SharedStateMultiNodeTest {
+
+    private static final long SYNC_INTERVAL_MS = 200;
+    private static final long CONVERGENCE_TIMEOUT_MS = 10_000;
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = start("always");
+        // data.sql 은 먼저 뜬 노드에서만 실행
+        nodeB = start("never");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void tokenRevokedOnOneNodeIsRejectedByTheOther() {
+        TokenProvider tokenProviderA = nodeA.getBean(TokenProvider.class);
+        TokenProvider tokenProviderB = nodeB.getBean(TokenProvider.class);
+        String jwt = tokenProviderA.createToken(new UsernamePasswordAuthenticationToken(
+                "admin", null, AuthorityUtils.createAuthorityList("ROLE_MEMBER")));
+
+        // node B 가 먼저 검증하여 검증 캐시에 올라간 상태에서도 폐기가 반영되어야 함
+        assertThat(tokenProviderB.verify(jwt).getStatus()).isEqualTo(TokenVerification.Status.VALID);
+
+        assertThat(tokenProviderA.revoke(jwt)).isTrue();
+        assertThat(tokenProviderA.verify(jwt).getStatus()).isEqualTo(TokenVerification.Status.REVOKED);
+
+        awaitTrue(() -> tokenProviderB.verify(jwt).getStatus() == TokenVerification.Status.REVOKED);
+    }
+
+    @Test
+    void securityVersionChangedOnOneNodeRejectsOlderTokensOnTheOther() {
+        MemberService memberServiceA = nodeA.getBean(MemberService.class);
+        TokenProvider tokenProviderA = nodeA.getBean(TokenProvider.class);
+        TokenProvider tokenProviderB = nodeB.getBean(TokenProvider.class);
+        SharedStateStore storeB = nodeB.getBean(SharedStateStore.class);
+        memberServiceA.signup(MemberDTO.builder()
+                .membername("sv-multi-node")
+                .password("sv-password")
+                .nickname("sv-multi-node")
+                .build());
+
+        // 변경 전 발급된 토큰(sv=0)을 node B 가 먼저 검증하여 검증 캐시에 올림
+        String before = tokenProviderA.createToken(authentication(nodeA, "sv-multi-node"));
+        assertThat(tokenProviderB.verify(before).getStatus()).isEqualTo(TokenVerification.Status.VALID);
+
+        memberServiceA.updateMember("sv-multi-node", MemberUpdateDTO.builder()
+                .authorities(Set.of(Role.ROLE_MEMBER, Role.ROLE_ADMIN))
+                .build());
+
+        awaitTrue(() -> storeB.get("security-version", "sv-multi-node", 0) == 1);
+        awaitTrue(() -> tokenProviderB.verify(before).getStatus() == TokenVerification.Status.STALE);
+
+        // 변경 후 발급된 토큰(sv=1)은 node B 에서도 통과
+        String after = tokenProviderA.createToken(authentication(nodeA, "sv-multi-node"));
+        assertThat(tokenProviderB.verify(after).getStatus()).isEqualTo(TokenVerification.Status.VALID);
+    }
+
+    @Test
+    void incrementsFromBothNodesConverge() {
+        SharedStateStore storeA = nodeA.getBean(SharedStateStore.class);
+        SharedStateStore storeB = nodeB.getBean(SharedStateStore.class);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        assertThat(storeA.increment("test-counter", "10.0.0.1", 3, expiresAt)).isEqualTo(3);
+        assertThat(storeB.increment("test-counter", "10.0.0.1", 2, expiresAt)).isEqualTo(2);
+
+        awaitTrue(() -> storeA.get("test-counter", "10.0.0.1", 0) == 5
+                && storeB.get("test-counter", "10.0.0.1", 0) == 5);
+    }
+
+    @Test
+    void valuePutOnOneNodeNotifiesListenersOnTheOther() {
+        SharedStateStore storeA = nodeA.getBean(SharedStateStore.class);
+        SharedStateStore storeB = nodeB.getBean(SharedStateStore.class);
+        AtomicLong received = new AtomicLong();
+        storeB.addListener("test-listener", (key, value, expiresAtMillis) -> {
+            if ("key".equals(key)) {
+                received.set(value);
+            }
+        });
+
+        storeA.put("test-listener", "key", 42, System.currentTimeMillis() + 60_000);
+
+        awaitTrue(() -> received.get() == 42);
+        assertThat(storeB.get("test-listener", "key", 0)).isEqualTo(42);
+    }
+
+    // 로그인과 같이 UserDetailsService 로 조회한 회원(보안 버전 포함)의 인증 정보
+    private static UsernamePasswordAuthenticationToken authentication(ConfigurableApplicationContext node,
+                                                                      String membername) {
+        UserDetails member = node.getBean(UserDetailsService.class).loadUserByUsername(membername);
+        return new UsernamePasswordAuthenticationToken(member, null, member.getAuthorities());
+    }
+
+    private static ConfigurableApplicationContext start(String sqlInitMode) {
+        return new SpringApplicationBuilder(JwtTutorialApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:shared-state;DB_CLOSE_DELAY=-1",
+                        "spring.sql.init.mode=" + sqlInitMode,
+                        "spring.jmx.enabled=false",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "shared-state.backend=database",
+                        "shared-state.sync-interval-ms=" + SYNC_INTERVAL_MS)
+                .run();
+    }
+
+    // 다른 노드의 변경은 다음 동기화 주기에 반영되므로 조건이 참이 될 때까지 기다림
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + CONVERGENCE_TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("공유 상태가 수렴하지 않았습니다.").isLessThan(deadline);
+            try {
+                Thread.sleep(SYNC_INTERVAL_MS / 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
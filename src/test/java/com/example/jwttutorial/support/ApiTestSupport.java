@@ -0,0 +1,95 @@
+package com.example.jwttutorial.support;
+
+import com.example.jwttutorial.dto.LoginDTO;
+import com.example.jwttutorial.dto.MemberDTO;
+import com.example.jwttutorial.dto.TokenDTO;
+import com.example.jwttutorial.service.MemberService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * MockMvc 로 API 를 호출하는 통합 테스트의 공통 설정과 도우미 (가입, 로그인, 비동기 응답 처리)
+ *
+ * 설정이 같은 테스트 클래스들은 애플리케이션 컨텍스트(H2 메모리 DB 포함)를 함께 쓰므로 회원 이름은 클래스마다 다르게 사용
+ * 설정을 더하는 클래스(@TestPropertySource 등)는 새 컨텍스트를 띄우므로 DB 이름을 컨텍스트마다 새로 만들어 data.sql 이 겹치지 않게 함
+ * 모든 로그인이 같은 클라이언트 IP 에서 오므로 IP 버킷은 넉넉히 잡음 (회원 이름 버킷은 기본값 그대로)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:${random.uuid}",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "auth.rate-limit.ip.capacity=1000",
+        "auth.rate-limit.ip.refill-per-minute=1000"
+})
+@AutoConfigureMockMvc
+public abstract class ApiTestSupport {
+
+    // data.sql 의 관리자 계정 (ROLE_MEMBER, ROLE_ADMIN)
+    protected static final String ADMIN = "admin";
+    protected static final String ADMIN_PASSWORD = "admin";
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Autowired
+    protected MemberService memberService;
+
+    /**
+     * 요청을 보내고 최종 응답을 반환
+     * 컨트롤러가 반환한 Callable 이 비동기로 처리된 경우(auth.execution.mode=async/virtual)에는 결과를 다시 디스패치하여 받음
+     */
+    protected MvcResult perform(RequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            return mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        return result;
+    }
+
+    protected void signup(String membername, String password) {
+        memberService.signup(MemberDTO.builder()
+                .membername(membername)
+                .password(password)
+                .nickname(membername)
+                .build());
+    }
+
+    protected MvcResult authenticate(String membername, String password) throws Exception {
+        return perform(post("/api/authenticate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginDTO(membername, password))));
+    }
+
+    // 로그인에 성공해야 하는 경우, 발급된 액세스 토큰과 리프레시 토큰 반환
+    protected TokenDTO login(String membername, String password) throws Exception {
+        MvcResult result = authenticate(membername, password);
+        assertThat(result.getResponse().getStatus()).as("%s 로그인", membername).isEqualTo(200);
+        return objectMapper.readValue(result.getResponse().getContentAsString(), TokenDTO.class);
+    }
+
+    protected String accessToken(String membername, String password) throws Exception {
+        return login(membername, password).getToken();
+    }
+
+    protected String adminToken() throws Exception {
+        return accessToken(ADMIN, ADMIN_PASSWORD);
+    }
+
+    protected static MockHttpServletRequestBuilder withToken(MockHttpServletRequestBuilder builder, String token) {
+        return builder.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+}